@@ -0,0 +1,35 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the synthetic persons that the benchmarks run on.
+ * The same count always gives the same persons, so results can be compared between runs and commits.
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    /**
+     * Returns {@code count} distinct persons.
+     */
+    public static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        new SyntheticDataGenerator(SEED).generatePersons(count).forEachRemaining(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code count} distinct persons.
+     */
+    public static AddressBook createAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(createPersons(count));
+        return addressBook;
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.CategoryType;
+
+/**
+ * Benchmarks {@code GroupRandomCommand#execute} on a model of {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GroupRandomCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Model model;
+    private GroupRandomCommand command;
+    private GroupRandomCommand spreadingCommand;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // a fresh model each iteration keeps the undo history from growing across iterations
+        model = new ModelManager(BenchmarkData.createAddressBook(size), new EventBook(), new UserPrefs());
+        command = new GroupRandomCommand(4, Optional.of(42L), List.of());
+        spreadingCommand = new GroupRandomCommand(4, Optional.of(42L), List.of(Category.of(CategoryType.STAFF)));
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return command.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult executeSpreadingStaff() throws CommandException {
+        return spreadingCommand.execute(model);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks {@code AddressBookParser#parseCommand} on a selection of commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookParserBenchmark {
+
+    @Param({
+        "add n/Amy Bee p/11111111 e/amy@example.com c/PARTICIPANT",
+        "edit 1 n/Bob Choo p/22222222",
+        "find alice bob charlie",
+        "grouprandom 4 sd/42 sp/STAFF",
+        "list"
+    })
+    public String userInput;
+
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
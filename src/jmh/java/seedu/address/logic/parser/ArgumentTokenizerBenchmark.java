@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@code ArgumentTokenizer#tokenize} on arguments of typical and of pathological length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_CATEGORY, PREFIX_GROUP};
+
+    private final String typicalArgs = " n/Amy Bee p/11111111 e/amy@example.com c/PARTICIPANT g/2";
+    private final String longArgs = " n/" + "Amy Bee ".repeat(500) + "p/11111111 e/amy@example.com c/STAFF";
+    private final String repeatedPrefixArgs = " c/STAFF".repeat(200);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeTypical() {
+        return ArgumentTokenizer.tokenize(typicalArgs, PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLongValue() {
+        return ArgumentTokenizer.tokenize(longArgs, PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeRepeatedPrefix() {
+        return ArgumentTokenizer.tokenize(repeatedPrefixArgs, PREFIXES);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks testing every one of {@code size} persons against a {@code ContactContainsKeywordsPredicate}, as
+ * filtering the displayed person list does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContactContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+    private ContactContainsKeywordsPredicate namePredicate;
+    private ContactContainsKeywordsPredicate manyKeywordsPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.createPersons(size);
+        namePredicate = new ContactContainsKeywordsPredicate(List.of("Yeoh"));
+        manyKeywordsPredicate = new ContactContainsKeywordsPredicate(
+                List.of("alex", "staff", "koh", "80000123", "vegetarian"));
+    }
+
+    @Benchmark
+    public long filterByName() {
+        return persons.stream().filter(namePredicate).count();
+    }
+
+    @Benchmark
+    public long filterByManyKeywords() {
+        return persons.stream().filter(manyKeywordsPredicate).count();
+    }
+}
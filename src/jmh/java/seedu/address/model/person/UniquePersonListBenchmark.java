@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks adding persons to, looking persons up in and replacing the persons of a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Person> persons;
+    private UniquePersonList filledList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        List<Person> generatedPersons = BenchmarkData.createPersons(size + 1);
+        persons = new ArrayList<>(generatedPersons.subList(0, size));
+        filledList = new UniquePersonList();
+        filledList.setPersons(persons);
+        presentPerson = persons.get(size / 2);
+        absentPerson = generatedPersons.get(size);
+    }
+
+    /**
+     * Adds {@code size} persons one by one to an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return filledList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return filledList.contains(absentPerson);
+    }
+
+    /**
+     * Replaces the contents of an empty list with {@code size} persons at once.
+     */
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+}
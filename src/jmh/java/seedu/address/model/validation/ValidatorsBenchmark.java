@@ -0,0 +1,73 @@
+package seedu.address.model.validation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+
+/**
+ * Benchmarks the field {@code Validators} against matching the {@code VALIDATION_REGEX} they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorsBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String name;
+    private String phone;
+    private String email;
+
+    /**
+     * Picks valid or invalid field values, depending on {@code input}.
+     */
+    @Setup
+    public void setUp() {
+        boolean isValid = input.equals("valid");
+        name = isValid ? "Alexander Yeoh Jun Hao" : "Alexander Yeoh Jun Ha*";
+        phone = isValid ? "87438807" : "8743880a";
+        email = isValid ? "alex.yeoh-jun_hao@mail.example.com" : "alex.yeoh-jun_hao@mail.example.c";
+    }
+
+    @Benchmark
+    public boolean nameValidator() {
+        return Validators.NAME.isValid(name);
+    }
+
+    @Benchmark
+    public boolean nameRegex() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phoneValidator() {
+        return Validators.PHONE.isValid(phone);
+    }
+
+    @Benchmark
+    public boolean phoneRegex() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean emailValidator() {
+        return Validators.EMAIL.isValid(email);
+    }
+
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(Email.VALIDATION_REGEX);
+    }
+}
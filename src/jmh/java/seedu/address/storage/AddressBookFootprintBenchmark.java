@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the heap retained by an address book of {@code size} persons converted from stored records, as the
+ * {@code bytesPerPerson} counter.
+ * Runs for a single iteration, as the counters of every iteration are added up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class AddressBookFootprintBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<JsonAdaptedPerson> records;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>(size);
+        for (Person person : BenchmarkData.createPersons(size)) {
+            records.add(new JsonAdaptedPerson(person));
+        }
+    }
+
+    @Benchmark
+    public AddressBook load(Footprint footprint) throws IllegalValueException {
+        long usedBefore = getUsedHeap();
+        List<Person> persons = new ArrayList<>(size);
+        for (JsonAdaptedPerson record : records) {
+            persons.add(record.toModelType());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        // the list itself is not retained by the address book, so it must not be counted
+        persons = null;
+        footprint.bytesPerPerson = (getUsedHeap() - usedBefore) / size;
+        return addressBook;
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * The heap retained by each person of the last address book loaded, including its share of the indexes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerPerson;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks reading and writing address book data files of {@code size} persons in each {@code DataFileFormat}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"JSON", "BINARY"})
+    public DataFileFormat format;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private AddressBookStorage readStorage;
+    private AddressBookStorage writeStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("addressBookStorageBenchmark");
+        addressBook = BenchmarkData.createAddressBook(size);
+        readStorage = format.createAddressBookStorage(directory.resolve("read"));
+        readStorage.saveAddressBook(addressBook);
+        writeStorage = format.createAddressBookStorage(directory.resolve("write"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("read"));
+        Files.deleteIfExists(directory.resolve("write"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        writeStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Reports the size of the data file as the {@code bytes} and {@code bytesPerPerson} counters.
+     * Runs for a single iteration, as the counters of every iteration are added up.
+     */
+    @Benchmark
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public void fileSize(FileSize fileSize) throws IOException {
+        Path filePath = writeStorage.getAddressBookFilePath();
+        writeStorage.saveAddressBook(addressBook);
+        fileSize.bytes = Files.size(filePath);
+        fileSize.bytesPerPerson = fileSize.bytes / size;
+    }
+
+    /**
+     * The size of the last data file written.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FileSize {
+        public long bytes;
+        public long bytesPerPerson;
+    }
+}
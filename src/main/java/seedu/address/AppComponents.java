@@ -0,0 +1,233 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.DataFileFormat;
+import seedu.address.storage.EventBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic of the application, without any UI.
+ *
+ * Used by both the GUI and the headless entry points, so that they load and save the same data in the same way.
+ * Nothing here needs the JavaFX toolkit.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Loads the config from {@code configFilePath}, or from {@code Config#DEFAULT_CONFIG_FILE} if it is null,
+     * then the user prefs and data files it points to, and wires up the storage, model and logic.
+     */
+    public static AppComponents init(Path configFilePath) {
+        Config config = initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        DataFileFormat dataFileFormat = config.isBinaryStorageEnabled() ? DataFileFormat.BINARY : DataFileFormat.JSON;
+        boolean isAddressBookJournalled = dataFileFormat == DataFileFormat.JSON && config.isAddressBookJournalEnabled();
+        AddressBookStorage addressBookStorage = isAddressBookJournalled
+                ? new JournalAddressBookStorage(userPrefs.getAddressBookFilePath())
+                : dataFileFormat.createAddressBookStorage(userPrefs.getAddressBookFilePath());
+        EventBookStorage eventBookStorage = dataFileFormat.createEventBookStorage(userPrefs.getEventBookFilePath());
+        Storage storage = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+
+        Logic logic = new LogicManager(model, storage);
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Finishes every pending save, saves the user prefs and, if the config asks for it, writes the command metrics.
+     */
+    public void stop() {
+        logic.flushSaves();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        Path commandMetricsFilePath = config.getCommandMetricsFilePath();
+        if (commandMetricsFilePath != null) {
+            try {
+                logic.getCommandMetrics().dump(commandMetricsFilePath);
+            } catch (IOException e) {
+                logger.severe("Failed to write command metrics " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address
+     * book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if
+     * {@code storage}'s address book is not found, or an empty address book will be
+     * used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty data file.");
+            initialData = new AddressBook();
+        }
+        // read only event book
+        logger.info("Using data file : " + storage.getEventBookFilePath());
+
+        Optional<ReadOnlyEventBook> eventBookOptional;
+        ReadOnlyEventBook initialDataTwo;
+        try {
+            eventBookOptional = storage.readEventBook();
+            if (!eventBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getEventBookFilePath()
+                        + " populated with a sample EventBook.");
+            }
+            initialDataTwo = eventBookOptional.orElseGet(SampleDataUtil::getSampleEventBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getEventBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty EventBook.");
+            initialDataTwo = new EventBook();
+        }
+
+        return new ModelManager(initialData, initialDataTwo, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs
+     * file path, or a new {@code UserPrefs} with default configuration if errors
+     * occur when reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning(
+                    "Preference file at " + prefsFilePath + " could not be loaded." + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are
+        // new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.DataFileFormat;
+import seedu.address.storage.EventBookStorage;
+
+/**
+ * The entry point for generating synthetic data files for load testing.
+ *
+ * Writes an address book and an event book of generated persons and events, in the same files and format that the
+ * application reads, so that the application can be run on them. Each person and event is written as soon as it is
+ * generated, so files far larger than the available memory can be generated.
+ */
+public class DataGeneratorMain {
+
+    static final String MESSAGE_USAGE = "Usage: PERSONS EVENTS [--seed SEED] [--format json|binary] "
+            + "[--directory DIRECTORY]\n"
+            + "Writes PERSONS generated persons and EVENTS generated events to the address book and event book "
+            + "files in DIRECTORY (default: data). The same SEED (default: 0) always generates the same data.";
+
+    private static final long DEFAULT_SEED = 0;
+
+    public static void main(String[] args) {
+        try {
+            Options options = Options.parse(args);
+            generate(options);
+            System.out.println("Wrote " + options.personCount + " persons to " + options.getAddressBookFilePath()
+                    + " and " + options.eventCount + " events to " + options.getEventBookFilePath());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write the data files: " + e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates and writes the data described by {@code options}.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    static void generate(Options options) throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options.seed);
+
+        AddressBookStorage addressBookStorage =
+                options.format.createAddressBookStorage(options.getAddressBookFilePath());
+        addressBookStorage.savePersons(options.personCount, generator.generatePersons(options.personCount));
+
+        EventBookStorage eventBookStorage = options.format.createEventBookStorage(options.getEventBookFilePath());
+        eventBookStorage.saveEvents(options.eventCount, generator.generateEvents(options.eventCount));
+    }
+
+    /**
+     * The command-line options of the generator.
+     */
+    static class Options {
+        private final int personCount;
+        private final int eventCount;
+        private final long seed;
+        private final DataFileFormat format;
+        private final Path directory;
+
+        Options(int personCount, int eventCount, long seed, DataFileFormat format, Path directory) {
+            this.personCount = personCount;
+            this.eventCount = eventCount;
+            this.seed = seed;
+            this.format = format;
+            this.directory = directory;
+        }
+
+        /**
+         * Parses {@code args} into {@code Options}.
+         *
+         * @throws IllegalArgumentException if {@code args} are not valid.
+         */
+        static Options parse(String[] args) {
+            if (args.length < 2) {
+                throw new IllegalArgumentException("The numbers of persons and events are required.");
+            }
+            int personCount = parseCount(args[0]);
+            int eventCount = parseCount(args[1]);
+            long seed = DEFAULT_SEED;
+            DataFileFormat format = DataFileFormat.JSON;
+            Path directory = new UserPrefs().getAddressBookFilePath().getParent();
+
+            for (int i = 2; i < args.length; i += 2) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException("Missing value for " + args[i]);
+                }
+                String value = args[i + 1];
+                switch (args[i]) {
+                case "--seed":
+                    seed = parseSeed(value);
+                    break;
+                case "--format":
+                    format = parseFormat(value);
+                    break;
+                case "--directory":
+                    directory = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            return new Options(personCount, eventCount, seed, format, directory);
+        }
+
+        Path getAddressBookFilePath() {
+            return directory.resolve(new UserPrefs().getAddressBookFilePath().getFileName());
+        }
+
+        Path getEventBookFilePath() {
+            return directory.resolve(new UserPrefs().getEventBookFilePath().getFileName());
+        }
+
+        private static int parseCount(String count) {
+            try {
+                int parsedCount = Integer.parseInt(count);
+                if (parsedCount >= 0) {
+                    return parsedCount;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(SyntheticDataGenerator.MESSAGE_INVALID_COUNT);
+        }
+
+        private static long parseSeed(String seed) {
+            try {
+                return Long.parseLong(seed);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("SEED must be an integer");
+            }
+        }
+
+        private static DataFileFormat parseFormat(String format) {
+            try {
+                return DataFileFormat.valueOf(format.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown format: " + format);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EventCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The entry point for running commands without the GUI, e.g. on machines without a display.
+ *
+ * Reads one command per line from a script file, or from the standard input if no file is given, and prints the
+ * feedback of each command. Blank lines and lines starting with {@code #} are skipped. Commands that only the event
+ * window has are run on the event book; every other command, including {@code clear}, is run as in the main window.
+ * A command starting with {@code event:} is always run as in the event window, e.g. {@code event: clear}.
+ * Nothing here starts the JavaFX toolkit.
+ */
+public class HeadlessMain {
+
+    static final String MESSAGE_USAGE = "Usage: [--config=CONFIG_FILE] [SCRIPT_FILE]\n"
+            + "Runs the commands in SCRIPT_FILE, one per line, or the commands typed in if no SCRIPT_FILE is given.";
+    static final String EVENT_BOOK_PREFIX = "event:";
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String COMMENT_PREFIX = "#";
+
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        AppComponents components = AppComponents.init(options.configFilePath);
+        boolean isSuccessful;
+        try (BufferedReader commands = options.openCommands()) {
+            isSuccessful = run(components.getLogic(), commands, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Could not read the commands: " + e);
+            isSuccessful = false;
+        } finally {
+            components.stop();
+        }
+        System.exit(isSuccessful ? 0 : 1);
+    }
+
+    /**
+     * Runs every command in {@code commands} on {@code logic} until the commands run out or one of them exits,
+     * printing the feedback of each command to {@code out} and the error of each failed command to {@code err}.
+     *
+     * @return true if no command failed.
+     * @throws IOException if there was any problem reading the commands.
+     */
+    static boolean run(Logic logic, BufferedReader commands, PrintStream out, PrintStream err) throws IOException {
+        boolean isSuccessful = true;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                if (commandText.startsWith(EVENT_BOOK_PREFIX)) {
+                    EventCommandResult result = logic.executeEvent(commandText.substring(EVENT_BOOK_PREFIX.length()));
+                    out.println(result.getFeedbackToUser());
+                } else if (logic.isEventCommand(commandText)) {
+                    EventCommandResult result = logic.executeEvent(commandText);
+                    out.println(result.getFeedbackToUser());
+                } else {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.getFeedbackToUser());
+                    if (result.isExit()) {
+                        break;
+                    }
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(commandText + ": " + e.getMessage());
+                isSuccessful = false;
+            }
+        }
+        return isSuccessful;
+    }
+
+    /**
+     * The command-line options of the headless entry point.
+     */
+    static class Options {
+        private final Path configFilePath;
+        private final Path scriptFilePath;
+
+        Options(Path configFilePath, Path scriptFilePath) {
+            this.configFilePath = configFilePath;
+            this.scriptFilePath = scriptFilePath;
+        }
+
+        /**
+         * Parses {@code args} into {@code Options}.
+         *
+         * @throws IllegalArgumentException if {@code args} are not valid.
+         */
+        static Options parse(String[] args) {
+            Path configFilePath = null;
+            Path scriptFilePath = null;
+            for (String arg : args) {
+                if (arg.startsWith(CONFIG_OPTION)) {
+                    configFilePath = parsePath(arg.substring(CONFIG_OPTION.length()));
+                } else if (arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+                } else if (scriptFilePath == null) {
+                    scriptFilePath = parsePath(arg);
+                } else {
+                    throw new IllegalArgumentException("Only one SCRIPT_FILE can be given.");
+                }
+            }
+            return new Options(configFilePath, scriptFilePath);
+        }
+
+        Path getConfigFilePath() {
+            return configFilePath;
+        }
+
+        Path getScriptFilePath() {
+            return scriptFilePath;
+        }
+
+        /**
+         * Returns a reader of the script file, or of the standard input if there is no script file.
+         */
+        BufferedReader openCommands() throws IOException {
+            if (scriptFilePath == null) {
+                return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            }
+            return Files.newBufferedReader(scriptFilePath, StandardCharsets.UTF_8);
+        }
+
+        private static Path parsePath(String path) {
+            if (!FileUtil.isValidPath(path)) {
+                throw new IllegalArgumentException("Invalid path: " + path);
+            }
+            return Paths.get(path);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,10 +21,20 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * If the first argument is {@code --headless}, the rest are passed to {@link HeadlessMain} instead, and JavaFX is
+ * never started.
  */
 public class Main {
+    private static final String HEADLESS_OPTION = "--headless";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(HEADLESS_OPTION)) {
+            HeadlessMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
         // the classpath instead of a module.
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournalEnabled = false;
+    private boolean binaryStorageEnabled = false;
+    private Path commandMetricsFilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,42 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book is saved as a snapshot plus an append-only journal of changes,
+     * instead of being rewritten in full on every save.
+     */
+    public boolean isAddressBookJournalEnabled() {
+        return addressBookJournalEnabled;
+    }
+
+    public void setAddressBookJournalEnabled(boolean addressBookJournalEnabled) {
+        this.addressBookJournalEnabled = addressBookJournalEnabled;
+    }
+
+    /**
+     * Returns true if the address book and event book are saved in the compact binary format instead of json.
+     * Takes precedence over {@link #isAddressBookJournalEnabled()}, as only json snapshots are journalled.
+     */
+    public boolean isBinaryStorageEnabled() {
+        return binaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean binaryStorageEnabled) {
+        this.binaryStorageEnabled = binaryStorageEnabled;
+    }
+
+    /**
+     * Returns the file that the command latencies and counters are written to when the app stops,
+     * or null if they are not written.
+     */
+    public Path getCommandMetricsFilePath() {
+        return commandMetricsFilePath;
+    }
+
+    public void setCommandMetricsFilePath(Path commandMetricsFilePath) {
+        this.commandMetricsFilePath = commandMetricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +86,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournalEnabled == otherConfig.addressBookJournalEnabled
+                && binaryStorageEnabled == otherConfig.binaryStorageEnabled
+                && Objects.equals(commandMetricsFilePath, otherConfig.commandMetricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournalEnabled, binaryStorageEnabled,
+                commandMetricsFilePath);
     }
 
     @Override
@@ -60,6 +103,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournalEnabled", addressBookJournalEnabled)
+                .add("binaryStorageEnabled", binaryStorageEnabled)
+                .add("commandMetricsFilePath", commandMetricsFilePath)
                 .toString();
     }
 
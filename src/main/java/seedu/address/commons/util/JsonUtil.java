@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,16 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +30,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -39,6 +48,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Flushing after every element would turn each element of a streamed array into a separate write.
+    private static final ObjectWriter elementWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -111,6 +124,101 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation,
+     * for files that hold one JSON value per line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads the array held by the {@code arrayFieldName} field of the JSON object in {@code in}, and passes its
+     * elements to {@code consumer} one at a time as they are read, so the array is never held in memory as a whole.
+     * Other fields of the object are skipped, and a missing field is read as an empty array.
+     * {@code in} is read up to the end of the JSON object and is not closed.
+     *
+     * @param elementClass every element of the array has to correspond to the structure in the class given here.
+     * @throws IOException if {@code in} could not be read or does not hold such a JSON object.
+     * @throws IllegalValueException if {@code consumer} rejects an element.
+     */
+    public static <T> void readJsonArray(InputStream in, String arrayFieldName, Class<T> elementClass,
+            ElementConsumer<? super T> consumer) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(arrayFieldName);
+        requireNonNull(consumer);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for field " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    T element = parser.readValueAs(elementClass);
+                    if (element == null) {
+                        throw new JsonParseException(parser, "Unexpected null element in " + arrayFieldName);
+                    }
+                    consumer.accept(element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a pretty-printed JSON object to {@code out} whose only field, {@code arrayFieldName}, holds
+     * {@code elements}. Each element is converted and written as soon as it is taken from {@code elements}, so that
+     * a lazily converting {@code Iterable} keeps only one element in memory at a time.
+     * {@code out} is flushed but not closed.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static <T> void writeJsonArray(OutputStream out, String arrayFieldName, Iterable<T> elements)
+            throws IOException {
+        requireNonNull(out);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (T element : elements) {
+                elementWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Receives the elements of a JSON array as they are read by {@link #readJsonArray}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        /**
+         * Accepts the next element of the array.
+         *
+         * @throws IllegalValueException if the element is not acceptable.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A change to a list, in which the elements of one range were replaced by others.
+ *
+ * @param <E> the type of the elements.
+ */
+public class ListChange<E> {
+    private final List<E> removed;
+    private final List<E> added;
+
+    /**
+     * Creates a {@code ListChange} in which {@code removed} were replaced by {@code added}.
+     */
+    public ListChange(List<E> removed, List<E> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the elements that were taken out of the list, in order.
+     */
+    public List<E> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the elements that were put into the list in their place, in order.
+     */
+    public List<E> getAdded() {
+        return added;
+    }
+
+    public boolean isEmpty() {
+        return removed.isEmpty() && added.isEmpty();
+    }
+}
@@ -0,0 +1,380 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list, which is changed by creating a new version of it. A new version shares all but O(log n) of its
+ * nodes with the version it was created from, so every old version stays valid at little cost in memory, and can be
+ * kept as a snapshot of the list.
+ *
+ * The elements are kept in a balanced binary tree ordered by position, in which every node knows the size of its
+ * subtree. Getting, setting, adding and removing the element at any position thus take O(log n) time.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order. Takes O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public E get(int index) {
+        checkIndex(index, size(), false);
+        Node<E> node = root;
+        int position = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position > leftSize) {
+                position -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size(), false);
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} added to the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of the list.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size(), true);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in the list.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size(), false);
+        return new PersistentList<>(delete(root, index));
+    }
+
+    /**
+     * Returns an estimate of the number of nodes of this list that are not shared with {@code other}, e.g. the
+     * nodes created by the changes that made this list from {@code other}. Shared subtrees are skipped, so this takes
+     * time in proportion to the number of nodes counted. Nodes moved by rebalancing may be counted although shared.
+     */
+    public int countNodesNotSharedWith(PersistentList<E> other) {
+        return countUnshared(root, other.root);
+    }
+
+    /**
+     * Returns the number of elements at the start of this list that are the same objects as those at the start of
+     * {@code other}. Shared subtrees are skipped, so this takes O(k log n) time, where k is the number of nodes of
+     * either list that are not shared with the other.
+     */
+    public int countCommonPrefix(PersistentList<E> other) {
+        return countCommon(root, other.root, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * Returns the number of elements, up to {@code maxLength}, at the end of this list that are the same objects as
+     * those at the end of {@code other}. Takes the same time as {@link #countCommonPrefix(PersistentList)}.
+     */
+    public int countCommonSuffix(PersistentList<E> other, int maxLength) {
+        return countCommon(root, other.root, maxLength, true);
+    }
+
+    /**
+     * Returns a new, mutable list of the elements of this list, in order.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns a new, mutable list of the elements of this list from index {@code from} to {@code to}, exclusive, in
+     * order. Takes O(k log n) time for k elements.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+     */
+    public List<E> toList(int from, int to) {
+        if (from < 0 || from > to || to > size()) {
+            throw new IndexOutOfBoundsException("Range: " + from + " to " + to + ", Size: " + size());
+        }
+        List<E> list = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            list.add(get(i));
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int size, boolean isEndAllowed) {
+        if (index < 0 || index > size || (index == size && !isEndAllowed)) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Counts the nodes of {@code node} that are not shared with {@code otherNode}, pairing their subtrees by side.
+     */
+    private static <E> int countUnshared(Node<E> node, Node<E> otherNode) {
+        if (node == otherNode) {
+            return 0;
+        } else if (otherNode == null) {
+            return node.size;
+        } else if (node == null) {
+            return 0;
+        }
+        return 1 + countUnshared(node.left, otherNode.left) + countUnshared(node.right, otherNode.right);
+    }
+
+    /**
+     * Counts the elements, up to {@code maxLength}, that {@code node} and {@code otherNode} have in common from their
+     * start, or from their end if {@code isFromEnd}.
+     * Each tree is walked as a stack of the subtrees that are left to compare, nearest first. A subtree that is on top
+     * of both stacks is skipped whole; otherwise the larger subtree on top is split into its children and its value,
+     * until single values are compared.
+     */
+    private static <E> int countCommon(Node<E> node, Node<E> otherNode, int maxLength, boolean isFromEnd) {
+        Deque<Node<E>> parts = new ArrayDeque<>();
+        Deque<Node<E>> otherParts = new ArrayDeque<>();
+        pushIfPresent(parts, node);
+        pushIfPresent(otherParts, otherNode);
+
+        int count = 0;
+        while (count < maxLength && !parts.isEmpty() && !otherParts.isEmpty()) {
+            Node<E> part = parts.peek();
+            Node<E> otherPart = otherParts.peek();
+            boolean isSingleValue = part.size == 1 && otherPart.size == 1;
+            if (part == otherPart || (isSingleValue && part.value == otherPart.value)) {
+                count += part.size;
+                parts.pop();
+                otherParts.pop();
+            } else if (isSingleValue) {
+                break;
+            } else if (part.size >= otherPart.size) {
+                split(parts, isFromEnd);
+            } else {
+                split(otherParts, isFromEnd);
+            }
+        }
+        return Math.min(count, maxLength);
+    }
+
+    /**
+     * Replaces the subtree on top of {@code parts} with its children and a node of its value alone, so that the
+     * child nearest the start, or the end if {@code isFromEnd}, is on top.
+     */
+    private static <E> void split(Deque<Node<E>> parts, boolean isFromEnd) {
+        Node<E> part = parts.pop();
+        Node<E> value = node(null, part.value, null);
+        pushIfPresent(parts, isFromEnd ? part.left : part.right);
+        parts.push(value);
+        pushIfPresent(parts, isFromEnd ? part.right : part.left);
+    }
+
+    private static <E> void pushIfPresent(Deque<Node<E>> parts, Node<E> node) {
+        if (node != null) {
+            parts.push(node);
+        }
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return node(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node(replace(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return node(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+        }
+        return node(node.left, element, node.right);
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return node(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // the successor of the removed element takes its place
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, delete(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code value} and {@code right}, rotated so that the heights of its subtrees
+     * differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return node(left.left, left.value, node(left.right, value, right));
+            }
+            return node(node(left.left, left.value, left.right.left), left.right.value,
+                    node(left.right.right, value, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return node(node(left, value, right.left), right.value, right.right);
+            }
+            return node(node(left, value, right.left.left), right.left.value,
+                    node(right.left.right, right.value, right.right));
+        }
+        return node(left, value, right);
+    }
+
+    private static <E> Node<E> node(Node<E> left, E value, Node<E> right) {
+        return new Node<>(left, value, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree. Nodes are never changed once created, so they can be shared between versions of the list.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            size = sizeOf(left) + 1 + sizeOf(right);
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the nodes on the path to the next element in a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -6,6 +6,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +42,33 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code word} trimmed and lower-cased, the form in which words are compared case-insensitively.
+     */
+    public static String normalizeWord(String word) {
+        requireNonNull(word);
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct whitespace-separated words of {@code sentence}, each normalized by
+     * {@link #normalizeWord(String)}. The returned set is unmodifiable.
+     *   <br>examples:<pre>
+     *       toNormalizedWordSet("ABc def abc") == {"abc", "def"}
+     *       toNormalizedWordSet("  ") == {}
+     *       </pre>
+     */
+    public static Set<String> toNormalizedWordSet(String sentence) {
+        requireNonNull(sentence);
+        Set<String> words = new HashSet<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(normalizeWord(word));
+            }
+        }
+        return Collections.unmodifiableSet(words);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
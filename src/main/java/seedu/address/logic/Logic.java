@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.EventCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.inputhistory.UserInputHistory;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
@@ -28,6 +30,30 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException, ParseException;
     EventCommandResult executeEvent(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true if {@code commandText} starts with a word that only the event book has a command for, so that it
+     * is run with {@link #executeEvent(String)} rather than {@link #execute(String)} when the book is not given.
+     * A word that both books have a command for, e.g. {@code clear}, is taken to be a command of the address book.
+     */
+    boolean isEventCommand(String commandText);
+
+    /**
+     * Sets the handler that is given a message for every save of the address book that fails.
+     * Changes are saved in the background, so the handler may be called on any thread.
+     */
+    void setAddressBookSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Sets the handler that is given a message for every save of the event book that fails.
+     * Changes are saved in the background, so the handler may be called on any thread.
+     */
+    void setEventBookSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Blocks until every change made by the commands executed so far has been saved.
+     */
+    void flushSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -52,6 +78,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+    /**
+     * Returns the latencies and counters of the commands run so far.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the user input history.
      */
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,6 +18,8 @@ import seedu.address.logic.commands.EventCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.inputhistory.UserInputHistory;
 import seedu.address.logic.inputhistory.UserInputHistoryManager;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.EventBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,6 +28,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PersistenceService;
 import seedu.address.storage.Storage;
 
 /**
@@ -37,18 +43,27 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final PersistenceService persistenceService;
     private final AddressBookParser addressBookParser;
     private final EventBookParser eventBookParser;
     private final UserInputHistory<String> userInputHistory;
+    private final CommandMetrics commandMetrics;
+
+    private volatile Consumer<String> addressBookSaveErrorHandler = message -> {};
+    private volatile Consumer<String> eventBookSaveErrorHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the model are saved to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        persistenceService = new PersistenceService(storage);
+        persistenceService.setErrorHandler(this::reportSaveError);
+        commandMetrics = new CommandMetrics();
+        persistenceService.setWriteTimeListener(commandMetrics::recordWrite);
+        addressBookParser = new AddressBookParser(commandMetrics);
+        addressBookParser.addAliases(model.getUserPrefs().getAliases());
         eventBookParser = new EventBookParser();
         userInputHistory = new UserInputHistoryManager();
     }
@@ -57,39 +72,114 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = addressBookParser.getCommandWord(commandText);
+        long start = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandMetrics.recordUnparsedCommand();
+            throw pe;
+        }
+        long parsed = System.nanoTime();
+        commandMetrics.record(commandWord, Phase.PARSE, parsed - start);
 
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } catch (CommandException ce) {
+            commandMetrics.recordFailure(commandWord);
+            throw ce;
+        } finally {
+            commandMetrics.record(commandWord, Phase.EXECUTE, System.nanoTime() - parsed);
         }
 
+        long executed = System.nanoTime();
+        saveChanges();
+        commandMetrics.record(commandWord, Phase.SAVE, System.nanoTime() - executed);
+
         return commandResult;
     }
     @Override
     public EventCommandResult executeEvent(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        EventCommandResult eventCommandResult;
-        EventCommand command = eventBookParser.parseCommand(commandText);
-        eventCommandResult = command.execute(model);
+        String commandWord = eventBookParser.getCommandWord(commandText);
+        long start = System.nanoTime();
+        EventCommand command;
+        try {
+            command = eventBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandMetrics.recordUnparsedCommand();
+            throw pe;
+        }
+        long parsed = System.nanoTime();
+        commandMetrics.record(commandWord, Phase.PARSE, parsed - start);
 
+        EventCommandResult eventCommandResult;
         try {
-            storage.saveEventBook(model.getEventBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            eventCommandResult = command.execute(model);
+        } catch (CommandException ce) {
+            commandMetrics.recordFailure(commandWord);
+            throw ce;
+        } finally {
+            commandMetrics.record(commandWord, Phase.EXECUTE, System.nanoTime() - parsed);
         }
 
+        long executed = System.nanoTime();
+        saveChanges();
+        commandMetrics.record(commandWord, Phase.SAVE, System.nanoTime() - executed);
+
         return eventCommandResult;
     }
 
+    @Override
+    public boolean isEventCommand(String commandText) {
+        requireNonNull(commandText);
+        return eventBookParser.hasCommandWord(commandText) && !addressBookParser.hasCommandWord(commandText);
+    }
+
+    @Override
+    public void setAddressBookSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        addressBookSaveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void setEventBookSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        eventBookSaveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flushSaves() {
+        persistenceService.flush();
+    }
+
+    /**
+     * Schedules the save of both books, as commands of either window can change both, e.g. undoing a clear restores
+     * the events as well as the persons. A book that has not changed since its last save is skipped.
+     */
+    private void saveChanges() {
+        if (!persistenceService.saveAddressBook(model.getAddressBook())) {
+            logger.fine("Address book unchanged since last save, skipping save");
+        }
+        if (!persistenceService.saveEventBook(model.getEventBook())) {
+            logger.fine("Event book unchanged since last save, skipping save");
+        }
+    }
+
+    private void reportSaveError(String dataFile, IOException ioe) {
+        String message = ioe instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+        if (dataFile.equals(PersistenceService.EVENT_BOOK_FILE)) {
+            eventBookSaveErrorHandler.accept(message);
+        } else {
+            addressBookSaveErrorHandler.accept(message);
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -129,6 +219,11 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     @Override
     public UserInputHistory<String> getUserInputHistory() {
         return userInputHistory;
@@ -12,7 +12,6 @@ import java.util.Optional;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Group;
 import seedu.address.model.person.Person;
@@ -41,8 +40,6 @@ public class AddCommand extends Command implements ReversibleCommand {
 
     public static final String MESSAGE_SUCCESS = "New person added: %1$s";
     public static final String MESSAGE_SUCCESS_UNDO = "Person deleted: %1$s";
-    public static final String MESSAGE_UNDO_NONEXISTENT_PERSON = "Undo failed:"
-            + "Person does not exist in the contact list";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the contact list";
 
     private final Person toAdd;
@@ -90,19 +87,12 @@ public class AddCommand extends Command implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) throws UndoException {
-        requireNonNull(model);
-
-        if (!model.hasPerson(toAdd)) {
-            throw new UndoException(MESSAGE_UNDO_NONEXISTENT_PERSON);
-        }
-        model.deletePerson(toAdd);
+    public CommandResult getUndoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(toAdd)));
     }
 
     @Override
-    public CommandResult redo(Model model) throws UndoException, CommandException {
-        model.addPerson(toAdd);
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENTNAME;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 
@@ -27,8 +26,6 @@ public class AddEventCommand extends EventCommand implements ReversibleCommand {
     public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in the address book";
     public static final String MESSAGE_SUCCESS = "New event added: %1$s";
     public static final String MESSAGE_SUCCESS_UNDO = "event deleted: %1$s";
-    public static final String MESSAGE_UNDO_NONEXISTENT_EVENT = "Undo failed:"
-            + "Person does not exist in the address book";
 
     private final Event toAdd;
 
@@ -59,24 +56,12 @@ public class AddEventCommand extends EventCommand implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) throws UndoException {
-        requireNonNull(model);
-
-        if (!model.hasEvent(toAdd)) {
-            throw new UndoException(MESSAGE_UNDO_NONEXISTENT_EVENT);
-        }
-        model.deleteEvent(toAdd);
+    public CommandResult getUndoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.formatEvent(toAdd)));
     }
 
     @Override
-    public CommandResult redo(Model model) throws UndoException, CommandException {
-        requireNonNull(model);
-
-        if (model.hasEvent(toAdd)) {
-            throw new CommandException(MESSAGE_DUPLICATE_EVENT);
-        }
-        model.addEvent(toAdd);
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.formatEvent(toAdd)));
     }
 
@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Adds an alias of a command word, or lists the aliases added if no alias is given.
+ * Aliases are kept in the user prefs, so they are still there the next time the app starts.
+ */
+public class AliasCommand extends Command {
+
+    public static final String COMMAND_WORD = "alias";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds ALIAS as another word for COMMAND_WORD, which can be a command word or a built-in alias, "
+            + "or lists the aliases added if no ALIAS is given.\n"
+            + "Parameters: [ALIAS COMMAND_WORD]\n"
+            + "Example: " + COMMAND_WORD + " ls list";
+
+    public static final String MESSAGE_SUCCESS = "Added alias %1$s for %2$s";
+    public static final String MESSAGE_ALIASES = "Aliases:\n%1$s";
+    public static final String MESSAGE_ALIAS = "%1$s: %2$s";
+    public static final String MESSAGE_NO_ALIASES = "No aliases have been added yet";
+
+    private final AliasStore aliasStore;
+    private final Optional<String> alias;
+    private final Optional<String> commandWord;
+
+    /**
+     * Creates an AliasCommand that lists the aliases in {@code aliasStore}.
+     */
+    public AliasCommand(AliasStore aliasStore) {
+        requireNonNull(aliasStore);
+        this.aliasStore = aliasStore;
+        this.alias = Optional.empty();
+        this.commandWord = Optional.empty();
+    }
+
+    /**
+     * Creates an AliasCommand that adds {@code alias} as an alias of {@code commandWord} to {@code aliasStore}.
+     */
+    public AliasCommand(AliasStore aliasStore, String alias, String commandWord) {
+        requireNonNull(aliasStore);
+        requireNonNull(alias);
+        requireNonNull(commandWord);
+        this.aliasStore = aliasStore;
+        this.alias = Optional.of(alias);
+        this.commandWord = Optional.of(commandWord);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (alias.isEmpty()) {
+            return new CommandResult(formatAliases(aliasStore.getAliases()));
+        }
+
+        if (!aliasStore.isValidAlias(alias.get())) {
+            throw new CommandException(AliasStore.MESSAGE_INVALID_ALIAS);
+        }
+        if (!aliasStore.isBuiltIn(commandWord.get())) {
+            throw new CommandException(String.format(AliasStore.MESSAGE_UNKNOWN_COMMAND_WORD, commandWord.get()));
+        }
+
+        aliasStore.addAlias(alias.get(), commandWord.get());
+        saveAliases(model, aliasStore);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, alias.get(), commandWord.get()));
+    }
+
+    /**
+     * Replaces the aliases in the user prefs of {@code model} with those in {@code aliasStore}.
+     */
+    static void saveAliases(Model model, AliasStore aliasStore) {
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setAliases(aliasStore.getAliases());
+        model.setUserPrefs(userPrefs);
+    }
+
+    private static String formatAliases(Map<String, String> aliases) {
+        if (aliases.isEmpty()) {
+            return MESSAGE_NO_ALIASES;
+        }
+        return String.format(MESSAGE_ALIASES, aliases.entrySet().stream()
+                .map(entry -> String.format(MESSAGE_ALIAS, entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AliasCommand)) {
+            return false;
+        }
+
+        AliasCommand otherAliasCommand = (AliasCommand) other;
+        return aliasStore == otherAliasCommand.aliasStore
+                && alias.equals(otherAliasCommand.alias)
+                && commandWord.equals(otherAliasCommand.commandWord);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("alias", alias)
+                .add("commandWord", commandWord)
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import java.util.Map;
+
+/**
+ * Holds the user-defined aliases of command words, which the alias and unalias commands add and remove.
+ */
+public interface AliasStore {
+
+    public static final String MESSAGE_INVALID_ALIAS =
+            "An alias should be a single word that is not already a command word or a built-in alias.";
+    public static final String MESSAGE_UNKNOWN_COMMAND_WORD = "%1$s is not a command word or a built-in alias.";
+    public static final String MESSAGE_UNKNOWN_ALIAS = "%1$s is not an alias that you have added.";
+
+    /**
+     * Returns true if {@code commandWord} is a command word or built-in alias.
+     */
+    public boolean isBuiltIn(String commandWord);
+
+    /**
+     * Returns true if {@code alias} is a user-defined alias.
+     */
+    public boolean hasAlias(String alias);
+
+    /**
+     * Returns true if {@code alias} can be a user-defined alias.
+     */
+    public boolean isValidAlias(String alias);
+
+    /**
+     * Adds {@code alias} as a user-defined alias of {@code commandWord}, replacing what it stood for if it is
+     * already an alias.
+     *
+     * @throws IllegalArgumentException if {@code alias} is not a valid alias or {@code commandWord} is not a
+     *     command word or built-in alias.
+     */
+    public void addAlias(String alias, String commandWord);
+
+    /**
+     * Removes the user-defined alias {@code alias}.
+     *
+     * @throws IllegalArgumentException if {@code alias} is not a user-defined alias.
+     */
+    public void removeAlias(String alias);
+
+    /**
+     * Returns the user-defined aliases mapped to the words they stand for, sorted by alias.
+     */
+    public Map<String, String> getAliases();
+}
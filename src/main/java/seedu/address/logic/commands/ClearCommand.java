@@ -2,21 +2,35 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.PersonBatch;
 
 /**
  * Clears the address book.
  */
-public class ClearCommand extends Command {
+public class ClearCommand extends Command implements ReversibleCommand {
 
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Database has been cleared!";
+    public static final String MESSAGE_SUCCESS_UNDO = "Database has been restored!";
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.setAddressBook(new AddressBook());
+        PersonBatch batch = new PersonBatch();
+        model.getAddressBook().getPersonList().forEach(batch::removePerson);
+        model.applyBatch(batch);
+        model.addCommand(this);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public CommandResult getUndoResult() {
+        return new CommandResult(MESSAGE_SUCCESS_UNDO);
+    }
+
+    @Override
+    public CommandResult getRedoResult() {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
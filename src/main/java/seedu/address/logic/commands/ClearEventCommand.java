@@ -8,16 +8,28 @@ import seedu.address.model.Model;
 /**
  * Clears the list of events.
  */
-public class ClearEventCommand extends EventCommand {
+public class ClearEventCommand extends EventCommand implements ReversibleCommand {
 
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Events have been cleared!";
+    public static final String MESSAGE_SUCCESS_UNDO = "Events have been restored!";
 
 
     @Override
     public EventCommandResult execute(Model model) {
         requireNonNull(model);
         model.setEventBook(new EventBook());
+        model.addCommand(this);
         return new EventCommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public CommandResult getUndoResult() {
+        return new CommandResult(MESSAGE_SUCCESS_UNDO);
+    }
+
+    @Override
+    public CommandResult getRedoResult() {
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
 }
@@ -86,16 +86,12 @@ public class CommentCommand extends Command implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) {
-        requireNonNull(model);
-        updateModelPerson(model, editedPerson, originalPerson);
-        return new CommandResult(String.format(CommentCommand.MESSAGE_SUCCESS_UNDO, Messages.format(originalPerson)));
+    public CommandResult getUndoResult() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(originalPerson)));
     }
 
     @Override
-    public CommandResult redo(Model model) throws CommandException {
-        requireNonNull(model);
-        updateModelPerson(model, originalPerson, editedPerson);
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_COMMENT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -49,16 +49,12 @@ public class DeleteCommand extends Command implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) {
-        requireNonNull(model);
-        model.addPerson(personToDelete);
+    public CommandResult getUndoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(personToDelete)));
     }
 
     @Override
-    public CommandResult redo(Model model) {
-        requireNonNull(model);
-        model.deletePerson(personToDelete);
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
@@ -46,16 +46,14 @@ public class DeleteEventCommand extends EventCommand implements ReversibleComman
         model.addCommand(this);
         return new EventCommandResult(String.format(MESSAGE_DELETE_EVENT_SUCCESS, Messages.formatEvent(eventToDelete)));
     }
+
     @Override
-    public CommandResult undo(Model model) {
-        requireNonNull(model);
-        model.addEvent(eventToDelete);
+    public CommandResult getUndoResult() {
         return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.formatEvent(eventToDelete)));
     }
+
     @Override
-    public CommandResult redo(Model model) {
-        requireNonNull(model);
-        model.deleteEvent(eventToDelete);
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_DELETE_EVENT_SUCCESS, Messages.formatEvent(eventToDelete)));
     }
 
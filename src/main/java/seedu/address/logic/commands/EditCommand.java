@@ -97,22 +97,12 @@ public class EditCommand extends Command implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) {
-        requireNonNull(model);
-
-        model.setPerson(editedPerson, originalPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        return new CommandResult(String.format(EditCommand.MESSAGE_SUCCESS_UNDO, Messages.format(originalPerson)));
+    public CommandResult getUndoResult() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(originalPerson)));
     }
 
     @Override
-    public CommandResult redo(Model model) throws CommandException {
-        requireNonNull(model);
-
-        model.setPerson(originalPerson, editedPerson);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
     }
 
@@ -132,13 +122,13 @@ public class EditCommand extends Command implements ReversibleCommand {
 
         if (editedPerson instanceof Staff) {
             Staff editedStaff = (Staff) editedPerson;
-            Group updatedGroup = editPersonDescriptor.getGroup().orElse(new Group(editedStaff.getGroupNumber()));
+            Group updatedGroup = editPersonDescriptor.getGroup().orElse(Group.of(editedStaff.getGroupNumber()));
             editedStaff.setGroupNumber(updatedGroup.getGroupNumber());
             return editedStaff;
         } else if (editedPerson instanceof Participant) {
             Participant editedParticipant = (Participant) editedPerson;
             Group updatedGroup = editPersonDescriptor.getGroup()
-                                                     .orElse(new Group(editedParticipant.getGroupNumber()));
+                                                     .orElse(Group.of(editedParticipant.getGroupNumber()));
             editedParticipant.setGroupNumber(updatedGroup.getGroupNumber());
             return editedParticipant;
         } else if (editPersonDescriptor.getGroup().isPresent()) {
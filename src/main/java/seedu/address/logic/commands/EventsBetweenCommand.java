@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.EventDate;
+
+/**
+ * Lists all events in the event book that take place between two dates, both inclusive.
+ *
+ * The list is filtered by the dates rather than by the events found when the command runs, so it keeps showing
+ * the events in the range as they are added or edited.
+ */
+public class EventsBetweenCommand extends EventCommand {
+    public static final String COMMAND_WORD = "eventsbetween";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events that take place between "
+            + "the two dates, both inclusive.\n"
+            + "Parameters: START_DATE END_DATE (in DD-MM-YYYY format)\n"
+            + "Example: " + COMMAND_WORD + " 01-06-2024 30-06-2024";
+    public static final String MESSAGE_INVALID_RANGE = "The start date must not be after the end date.";
+
+    private final EventDate startDate;
+    private final EventDate endDate;
+
+    /**
+     * Creates an EventsBetweenCommand to list the events from {@code startDate} to {@code endDate}.
+     */
+    public EventsBetweenCommand(EventDate startDate, EventDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (startDate.getEpochDay() > endDate.getEpochDay()) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+
+        long startEpochDay = startDate.getEpochDay();
+        long endEpochDay = endDate.getEpochDay();
+        model.updateFilteredEventList(event -> {
+            long epochDay = event.getEventDate().getEpochDay();
+            return epochDay >= startEpochDay && epochDay <= endEpochDay;
+        });
+        return new EventCommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventsBetweenCommand)) {
+            return false;
+        }
+
+        EventsBetweenCommand otherEventsBetweenCommand = (EventsBetweenCommand) other;
+        return startDate.equals(otherEventsBetweenCommand.startDate)
+                && endDate.equals(otherEventsBetweenCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+}
@@ -2,17 +2,17 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the
  * argument keywords. Keyword matching is case insensitive.
+ *
+ * The list is filtered by the keywords rather than by the persons found when the command runs, so a listed person
+ * that is edited stays listed as long as it still matches.
  */
 public class FindCommand extends Command {
 
@@ -22,7 +22,7 @@ public class FindCommand extends Command {
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n" + "Example: " + COMMAND_WORD + " alice bob charlie";
 
-    private final Predicate<Person> predicate;
+    private final ContactContainsKeywordsPredicate predicate;
 
     public FindCommand(ContactContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
@@ -12,7 +12,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Group;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Sponsor;
 
@@ -42,7 +41,6 @@ public class GroupCommand extends Command implements ReversibleCommand {
 
     private final Optional<Integer> targetGroupNumber;
 
-    private int originalGroupNumber;
     private int finalGroupNumber;
     private Person groupedPerson;
 
@@ -65,7 +63,6 @@ public class GroupCommand extends Command implements ReversibleCommand {
         this.targetIndex = targetIndex;
         this.targetGroupNumber = Optional.of(targetGroupNumber);
         finalGroupNumber = targetGroupNumber;
-        Group.setTotalGroupNumber(Math.max(targetGroupNumber, Group.getTotalGroupNumber()));
     }
 
     @Override
@@ -88,16 +85,15 @@ public class GroupCommand extends Command implements ReversibleCommand {
 
         }
 
-        originalGroupNumber = personToGroup.getGroupNumber();
         groupedPerson = personToGroup;
 
         if (targetGroupNumber.isPresent()) {
             groupedPerson.setGroupNumber(targetGroupNumber.get());
-        } else if (Group.getTotalGroupNumber() <= 0) {
+        } else if (model.getHighestGroupNumber() <= 0) {
             throw new CommandException(MESSAGE_NO_EXISTING_GROUP);
         } else {
             Random random = new Random();
-            finalGroupNumber = random.nextInt(Group.getTotalGroupNumber()) + 1;
+            finalGroupNumber = random.nextInt(model.getHighestGroupNumber()) + 1;
             groupedPerson.setGroupNumber(finalGroupNumber);
         }
 
@@ -109,22 +105,12 @@ public class GroupCommand extends Command implements ReversibleCommand {
     }
 
     @Override
-    public CommandResult undo(Model model) {
-        requireNonNull(model);
-
-        model.groupPerson(groupedPerson, originalGroupNumber);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        return new CommandResult(String.format(GroupCommand.MESSAGE_SUCCESS_UNDO, Messages.format(groupedPerson)));
+    public CommandResult getUndoResult() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, Messages.format(groupedPerson)));
     }
 
     @Override
-    public CommandResult redo(Model model) throws CommandException {
-        requireNonNull(model);
-
-        model.groupPerson(groupedPerson, finalGroupNumber);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
+    public CommandResult getRedoResult() {
         return new CommandResult(String.format(MESSAGE_GROUP_PERSON_SUCCESS, Messages.format(groupedPerson)));
     }
 
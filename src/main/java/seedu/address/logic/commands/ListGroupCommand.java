@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Lists the persons in a group, or the size of every group if no group is given.
+ *
+ * The list is filtered by the group number rather than by the members found when the command runs, so it keeps
+ * showing whoever is in the group as persons are edited or regrouped.
+ */
+public class ListGroupCommand extends Command {
+
+    public static final String COMMAND_WORD = "listgroup";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the persons in the given group, or the number of persons in every group if no group is given.\n"
+            + "Parameters: [GROUP_NUMBER] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_GROUP_LISTED = "%1$d persons listed in group %2$d";
+    public static final String MESSAGE_GROUP_SIZES = "Persons per group:\n%1$s";
+    public static final String MESSAGE_GROUP_SIZE = "Group %1$d: %2$d";
+    public static final String MESSAGE_NO_GROUPS = "No one is in a group yet";
+    public static final String MESSAGE_INVALID_GROUP_NUMBER = "Group number must be a positive integer.";
+
+    private final Optional<Integer> groupNumber;
+
+    /**
+     * Creates a ListGroupCommand that shows the size of every group.
+     */
+    public ListGroupCommand() {
+        this.groupNumber = Optional.empty();
+    }
+
+    /**
+     * Creates a ListGroupCommand that lists the persons in group {@code groupNumber}.
+     */
+    public ListGroupCommand(int groupNumber) {
+        this.groupNumber = Optional.of(groupNumber);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (groupNumber.isEmpty()) {
+            return new CommandResult(formatGroupSizes(model.getGroupSizes()));
+        }
+
+        if (groupNumber.get() < 1) {
+            throw new CommandException(MESSAGE_INVALID_GROUP_NUMBER);
+        }
+
+        int listedGroupNumber = groupNumber.get();
+        model.updateFilteredPersonList(person -> person.getGroupNumber() == listedGroupNumber);
+        return new CommandResult(String.format(MESSAGE_GROUP_LISTED, model.getFilteredPersonList().size(),
+                listedGroupNumber));
+    }
+
+    private static String formatGroupSizes(SortedMap<Integer, Integer> groupSizes) {
+        if (groupSizes.isEmpty()) {
+            return MESSAGE_NO_GROUPS;
+        }
+        return String.format(MESSAGE_GROUP_SIZES, groupSizes.entrySet().stream()
+                .map(entry -> String.format(MESSAGE_GROUP_SIZE, entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining("\n")));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListGroupCommand)) {
+            return false;
+        }
+
+        ListGroupCommand otherListGroupCommand = (ListGroupCommand) other;
+        return groupNumber.equals(otherListGroupCommand.groupNumber);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("groupNumber", groupNumber)
+                .toString();
+    }
+}
@@ -1,33 +1,24 @@
 package seedu.address.logic.commands;
 
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
 
 /**
  * Represents a command that can be undone and redone. For a command to be
  * reversible, {@link Command#execute(Model)} must add the command to the
- * command history in the model.
+ * command history in the model once it has made its changes.
+ *
+ * The model keeps snapshots of its data from just before and just after each
+ * command in the history, and undoing or redoing the command restores one of
+ * them. The command itself only describes what was undone or redone.
  */
 public interface ReversibleCommand {
     /**
-     * Undoes the effects of this command. The command should be added to the
-     * command history in the model before this method is called. The command must
-     * not be manually removed from the history in this method.
-     *
-     * @param model {@code Model} which the command should operate on.
-     * @return feedback message of the operation result for display
-     * @throws CommandException If an error occurs during command execution.
+     * Returns the feedback to show the user once this command has been undone.
      */
-    public CommandResult undo(Model model) throws UndoException;
+    public CommandResult getUndoResult();
 
     /**
-     * Executes the command again after undoing it. The command must not be manually
-     * added to the history in this method.
-     *
-     * @param model {@code Model} which the command should operate on.
-     * @return feedback message of the operation result for display
-     * @throws CommandException If an error occurs during command execution.
+     * Returns the feedback to show the user once this command has been redone.
      */
-    public CommandResult redo(Model model) throws UndoException, CommandException;
+    public CommandResult getRedoResult();
 }
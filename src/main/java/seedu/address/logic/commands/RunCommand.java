@@ -0,0 +1,205 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.history.NoCommandHistory;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Sponsor;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ *
+ * Every line is parsed before any is run, and the commands are run on a copy of the address book, which replaces the
+ * address book only if all of them succeed. The address book is thus changed, saved and undone once for the whole
+ * script, and not at all if any line fails.
+ */
+public class RunCommand extends Command implements ReversibleCommand {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, as a single command. "
+            + "Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of them changes the contact list.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " participants.txt";
+
+    public static final String MESSAGE_SUCCESS =
+            "Ran %1$d commands from %2$s in %3$.0f ms (%4$.0f commands per second)";
+    public static final String MESSAGE_SUCCESS_UNDO = "Reverted the commands from %1$s";
+    public static final String MESSAGE_SUCCESS_REDO = "Applied the commands from %1$s again";
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_SCRIPT = "%1$s has no commands to run";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\nNo changes were made.";
+    public static final String MESSAGE_UNSUPPORTED_COMMAND = "This command cannot be used in a script.";
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Path scriptFilePath;
+    private final Parser<? extends Command> scriptParser;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptFilePath}, parsed with {@code scriptParser}.
+     */
+    public RunCommand(Path scriptFilePath, Parser<? extends Command> scriptParser) {
+        requireNonNull(scriptFilePath);
+        requireNonNull(scriptParser);
+        this.scriptFilePath = scriptFilePath;
+        this.scriptParser = scriptParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptFilePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptFilePath, e.getMessage()), e);
+        }
+
+        long start = System.nanoTime();
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            commands.add(parseLine(commandText, i + 1));
+            lineNumbers.add(i + 1);
+        }
+        if (commands.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_SCRIPT, scriptFilePath));
+        }
+
+        GroupNumbers original = GroupNumbers.of(model.getAddressBook());
+        // the script is undone as a whole, so the commands in it need not be recorded one by one
+        Model scriptModel = new ModelManager(model.getAddressBook(), new EventBook(), model.getUserPrefs(),
+                new NoCommandHistory());
+        boolean isSuccessful = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    commands.get(i).execute(scriptModel);
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumbers.get(i), ce.getMessage()));
+                }
+            }
+            isSuccessful = true;
+        } finally {
+            if (!isSuccessful) {
+                // persons are shared with the copy, so the groups that the script changed must be put back
+                original.restoreGroups();
+            }
+        }
+
+        model.setAddressBook(scriptModel.getAddressBook());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.addCommand(this);
+
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptFilePath,
+                elapsed / NANOS_PER_MILLI, commands.size() * NANOS_PER_SECOND / elapsed));
+    }
+
+    private Command parseLine(String commandText, int lineNumber) throws CommandException {
+        Command command;
+        try {
+            command = scriptParser.parse(commandText);
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumber, pe.getMessage()));
+        }
+        if (command instanceof RunCommand || command instanceof AliasCommand || command instanceof UnaliasCommand
+                || command instanceof ExitCommand) {
+            throw new CommandException(String.format(MESSAGE_LINE_FAILED, lineNumber, MESSAGE_UNSUPPORTED_COMMAND));
+        }
+        return command;
+    }
+
+    @Override
+    public CommandResult getUndoResult() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS_UNDO, scriptFilePath));
+    }
+
+    @Override
+    public CommandResult getRedoResult() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS_REDO, scriptFilePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptFilePath.equals(otherRunCommand.scriptFilePath)
+                && scriptParser == otherRunCommand.scriptParser;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFilePath", scriptFilePath)
+                .toString();
+    }
+
+    /**
+     * The persons of an address book, in order, and the group numbers they had.
+     * Group numbers are kept apart from the persons, as they are the only part of a person that can change.
+     */
+    private static class GroupNumbers {
+        private final List<Person> persons;
+        private final int[] groupNumbers;
+
+        private GroupNumbers(List<Person> persons) {
+            this.persons = persons;
+            groupNumbers = new int[persons.size()];
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                groupNumbers[i] = person instanceof Sponsor ? 0 : person.getGroupNumber();
+            }
+        }
+
+        static GroupNumbers of(ReadOnlyAddressBook addressBook) {
+            return new GroupNumbers(new ArrayList<>(addressBook.getPersonList()));
+        }
+
+        /**
+         * Sets the group number of every person back to what it was when these group numbers were taken.
+         */
+        void restoreGroups() {
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                if (!(person instanceof Sponsor)) {
+                    person.setGroupNumber(groupNumbers[i]);
+                }
+            }
+        }
+    }
+}
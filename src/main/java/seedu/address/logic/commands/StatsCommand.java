@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each kind of command has taken since the app started, and how often it has run and failed.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the latencies of every command run since the app started, per command word, "
+            + "and how many times each ran and failed.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a StatsCommand that reports the latencies and counters of {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandMetrics.getReport());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandMetrics", commandMetrics)
+                .toString();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Removes an alias added with the alias command.
+ */
+public class UnaliasCommand extends Command {
+
+    public static final String COMMAND_WORD = "unalias";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes an alias added with the " + AliasCommand.COMMAND_WORD + " command.\n"
+            + "Parameters: ALIAS\n"
+            + "Example: " + COMMAND_WORD + " ls";
+
+    public static final String MESSAGE_SUCCESS = "Removed alias %1$s";
+
+    private final AliasStore aliasStore;
+    private final String alias;
+
+    /**
+     * Creates an UnaliasCommand that removes {@code alias} from {@code aliasStore}.
+     */
+    public UnaliasCommand(AliasStore aliasStore, String alias) {
+        requireNonNull(aliasStore);
+        requireNonNull(alias);
+        this.aliasStore = aliasStore;
+        this.alias = alias;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!aliasStore.hasAlias(alias)) {
+            throw new CommandException(String.format(AliasStore.MESSAGE_UNKNOWN_ALIAS, alias));
+        }
+
+        aliasStore.removeAlias(alias);
+        AliasCommand.saveAliases(model, aliasStore);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, alias));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnaliasCommand)) {
+            return false;
+        }
+
+        UnaliasCommand otherUnaliasCommand = (UnaliasCommand) other;
+        return aliasStore == otherUnaliasCommand.aliasStore
+                && alias.equals(otherUnaliasCommand.alias);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("alias", alias)
+                .toString();
+    }
+}
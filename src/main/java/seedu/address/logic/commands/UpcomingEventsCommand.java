@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+
+/**
+ * Lists the next events in the event book, starting from today.
+ *
+ * Which events are next depends on every other event, so unlike the other filters the list keeps showing the
+ * events found when the command runs: an event that is edited or added afterwards is not listed until the command
+ * is run again.
+ */
+public class UpcomingEventsCommand extends EventCommand {
+    public static final String COMMAND_WORD = "upcomingevents";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the given number of events that take place "
+            + "soonest, starting from today.\n"
+            + "Parameters: COUNT (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 5";
+
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates an UpcomingEventsCommand to list the next {@code count} events.
+     */
+    public UpcomingEventsCommand(int count) {
+        this(count, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates an UpcomingEventsCommand to list the next {@code count} events, taking today's date from
+     * {@code clock}.
+     */
+    UpcomingEventsCommand(int count, Clock clock) {
+        requireNonNull(clock);
+        this.count = count;
+        this.clock = clock;
+    }
+
+    @Override
+    public EventCommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Event> upcomingEvents = new HashSet<>(model.getEventsFrom(LocalDate.now(clock), count));
+        model.updateFilteredEventList(upcomingEvents::contains);
+        return new EventCommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UpcomingEventsCommand)) {
+            return false;
+        }
+
+        UpcomingEventsCommand otherUpcomingEventsCommand = (UpcomingEventsCommand) other;
+        return count == otherUpcomingEventsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .toString();
+    }
+}
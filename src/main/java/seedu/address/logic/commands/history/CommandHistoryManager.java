@@ -1,63 +1,255 @@
 package seedu.address.logic.commands.history;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ReversibleCommand;
 import seedu.address.logic.commands.exceptions.UndoException;
+import seedu.address.storage.HistorySpillFile;
 
 /**
  * Represents a history of reversible commands. This class is responsible for
  * managing the history of commands that can be undone and redone.
+ *
+ * The entries that can be undone and those that can be redone are kept in memory as long as their estimated sizes
+ * add up to no more than the memory budget. Beyond that, the entries furthest from the current state, i.e. the oldest
+ * ones that can be undone and the newest ones that can be redone, are spilled to a {@code HistorySpillFile} for each
+ * side, and are read back one at a time as undo or redo reaches them.
  */
 public class CommandHistoryManager implements ReversibleCommandHistory {
-    private static final int MAX_SIZE = 100;
-    private final Deque<ReversibleCommand> history;
-    private final Deque<ReversibleCommand> future;
+    public static final long DEFAULT_MEMORY_BUDGET = 16L * 1024 * 1024;
+    public static final String MESSAGE_SPILLED_ENTRY_LOST =
+            "The earlier commands could not be loaded back, so they can no longer be undone.";
+    public static final String MESSAGE_SPILLED_REDO_ENTRY_LOST =
+            "The later commands could not be loaded back, so they can no longer be redone.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistoryManager.class);
 
+    private final Deque<HistoryEntry> history;
+    private final Deque<HistoryEntry> future;
+    private final long memoryBudget;
+    private final HistorySpillFile spillFile;
     /**
-     * Creates a new instance of CommandHistoryManager.
+     * Holds the entries spilled from {@code future}, each with its states swapped, as the state before an entry is
+     * the one that is known when it is redone, and the state after it is rebuilt from that.
+     */
+    private final HistorySpillFile redoSpillFile;
+    /** The sum of the estimated sizes of the entries in {@code history}. */
+    private long historySize;
+    /** The sum of the estimated sizes of the entries in {@code future}. */
+    private long futureSize;
+
+    /**
+     * Creates a new instance of CommandHistoryManager, with the default memory budget and temporary spill files.
      */
     public CommandHistoryManager() {
-        history = new ArrayDeque<>(MAX_SIZE);
-        future = new ArrayDeque<>(MAX_SIZE);
+        this(DEFAULT_MEMORY_BUDGET, new HistorySpillFile(), new HistorySpillFile());
+    }
+
+    /**
+     * Creates a new instance of CommandHistoryManager that keeps about {@code memoryBudget} bytes of entries in memory,
+     * and spills the rest of the entries that can be undone to {@code spillFile}, and of those that can be redone to
+     * {@code redoSpillFile}.
+     */
+    public CommandHistoryManager(long memoryBudget, HistorySpillFile spillFile, HistorySpillFile redoSpillFile) {
+        requireNonNull(spillFile);
+        requireNonNull(redoSpillFile);
+        checkArgument(memoryBudget >= 0, "Memory budget should not be negative.");
+        this.memoryBudget = memoryBudget;
+        this.spillFile = spillFile;
+        this.redoSpillFile = redoSpillFile;
+        history = new ArrayDeque<>();
+        future = new ArrayDeque<>();
     }
 
     @Override
-    public void addCommand(ReversibleCommand command) {
-        if (history.size() == MAX_SIZE) {
-            history.pollLast();
-        }
-        history.addFirst(command);
+    public void addEntry(HistoryEntry entry) {
+        requireNonNull(entry);
+        history.addFirst(entry);
+        historySize += entry.getEstimatedSize();
+        // the undone commands were undone from a state that a new command has just moved away from
+        future.clear();
+        futureSize = 0;
+        redoSpillFile.clear();
+        spillUntilWithinBudget();
     }
 
     @Override
-    public ReversibleCommand getCommandToUndo() throws UndoException {
+    public HistoryEntry getEntryToUndo() throws UndoException {
+        if (history.isEmpty() && !spillFile.isEmpty()) {
+            HistoryEntry entry = loadSpilledEntry();
+            history.addFirst(entry);
+            historySize += entry.getEstimatedSize();
+        }
         if (history.isEmpty()) {
             throw new UndoException("No command to undo");
         }
-        ReversibleCommand command = history.pollFirst();
-        future.addFirst(command);
-        return command;
+        HistoryEntry entry = history.pollFirst();
+        historySize -= entry.getEstimatedSize();
+        future.addFirst(entry);
+        futureSize += entry.getEstimatedSize();
+        spillUntilWithinBudget();
+        return entry;
     }
 
     @Override
-    public ReversibleCommand getCommandToRedo() throws UndoException {
+    public HistoryEntry getEntryToRedo() throws UndoException {
+        if (future.isEmpty() && !redoSpillFile.isEmpty()) {
+            HistoryEntry entry = loadSpilledRedoEntry();
+            future.addFirst(entry);
+            futureSize += entry.getEstimatedSize();
+        }
         if (future.isEmpty()) {
             throw new UndoException("No command to redo");
         }
-        ReversibleCommand command = future.pollFirst();
-        history.addFirst(command);
-        return command;
+        HistoryEntry entry = future.pollFirst();
+        futureSize -= entry.getEstimatedSize();
+        history.addFirst(entry);
+        historySize += entry.getEstimatedSize();
+        spillUntilWithinBudget();
+        return entry;
     }
 
     @Override
     public boolean canUndo() {
-        return !history.isEmpty();
+        return !history.isEmpty() || !spillFile.isEmpty();
     }
 
     @Override
     public boolean canRedo() {
-        return !future.isEmpty();
+        return !future.isEmpty() || !redoSpillFile.isEmpty();
+    }
+
+    /**
+     * Returns the number of entries that can be undone and are kept in memory.
+     */
+    int getEntriesInMemoryCount() {
+        return history.size();
+    }
+
+    /**
+     * Returns the number of entries that can be redone and are kept in memory.
+     */
+    int getRedoEntriesInMemoryCount() {
+        return future.size();
+    }
+
+    /**
+     * Spills the entries furthest from the current state until the rest fit in the memory budget, taking them from
+     * whichever side holds more. The newest entry that can be undone and the next entry that can be redone are kept
+     * in memory whatever their sizes, so that they can be reached without reading a spill file.
+     */
+    private void spillUntilWithinBudget() {
+        while (historySize + futureSize > memoryBudget) {
+            boolean canSpillHistory = history.size() > 1;
+            boolean canSpillFuture = future.size() > 1;
+            if (canSpillHistory && (!canSpillFuture || historySize >= futureSize)) {
+                spillOldestEntry();
+            } else if (canSpillFuture) {
+                spillNewestRedoEntry();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void spillOldestEntry() {
+        HistoryEntry oldest = history.pollLast();
+        historySize -= oldest.getEstimatedSize();
+        try {
+            spillFile.push(oldest.getStateBefore(), oldest.getStateAfter(),
+                    oldest.getCommand().getUndoResult().getFeedbackToUser(),
+                    oldest.getCommand().getRedoResult().getFeedbackToUser());
+        } catch (IOException ioe) {
+            logger.warning("Failed to spill the oldest command in the history: " + StringUtil.getDetails(ioe));
+            // the spilled entries undo to the state before the lost entry, which can no longer be reached
+            spillFile.clear();
+        }
+    }
+
+    private void spillNewestRedoEntry() {
+        HistoryEntry newest = future.pollLast();
+        futureSize -= newest.getEstimatedSize();
+        try {
+            redoSpillFile.push(newest.getStateAfter(), newest.getStateBefore(),
+                    newest.getCommand().getUndoResult().getFeedbackToUser(),
+                    newest.getCommand().getRedoResult().getFeedbackToUser());
+        } catch (IOException ioe) {
+            logger.warning("Failed to spill the newest undone command in the history: "
+                    + StringUtil.getDetails(ioe));
+            // the spilled entries redo from the state after the lost entry, which can no longer be reached
+            redoSpillFile.clear();
+        }
+    }
+
+    /**
+     * Reads back the newest spilled entry. Its state after is the state before the entry that followed it, which is
+     * the most recently undone entry, as every entry after it has been undone.
+     */
+    private HistoryEntry loadSpilledEntry() throws UndoException {
+        HistoryEntry nextEntry = future.peekFirst();
+        assert nextEntry != null : "A spilled entry is always followed by an entry in memory";
+
+        try {
+            HistorySpillFile.SpilledEntry spilled = spillFile.pop(nextEntry.getStateBefore());
+            return new HistoryEntry(new SpilledCommand(spilled.getUndoFeedback(), spilled.getRedoFeedback()),
+                    spilled.getStateBefore(), nextEntry.getStateBefore());
+        } catch (DataLoadingException e) {
+            logger.warning("Failed to load a spilled command from the history: " + StringUtil.getDetails(e));
+            spillFile.clear();
+            throw new UndoException(MESSAGE_SPILLED_ENTRY_LOST);
+        }
+    }
+
+    /**
+     * Reads back the next spilled entry that can be redone. Its state before is the state after the entry before it,
+     * which is the most recently redone entry, as every entry before it has been redone.
+     */
+    private HistoryEntry loadSpilledRedoEntry() throws UndoException {
+        HistoryEntry previousEntry = history.peekFirst();
+        assert previousEntry != null : "A spilled entry that can be redone always follows an entry in memory";
+
+        try {
+            // the states were swapped when spilling, so the state rebuilt as the state before is the state after
+            HistorySpillFile.SpilledEntry spilled = redoSpillFile.pop(previousEntry.getStateAfter());
+            return new HistoryEntry(new SpilledCommand(spilled.getUndoFeedback(), spilled.getRedoFeedback()),
+                    previousEntry.getStateAfter(), spilled.getStateBefore());
+        } catch (DataLoadingException e) {
+            logger.warning("Failed to load a spilled command from the history: " + StringUtil.getDetails(e));
+            redoSpillFile.clear();
+            throw new UndoException(MESSAGE_SPILLED_REDO_ENTRY_LOST);
+        }
+    }
+
+    /**
+     * A command read back from the spill file, of which only the feedback of undoing and redoing it is known.
+     */
+    private static class SpilledCommand implements ReversibleCommand {
+        private final String undoFeedback;
+        private final String redoFeedback;
+
+        SpilledCommand(String undoFeedback, String redoFeedback) {
+            this.undoFeedback = undoFeedback;
+            this.redoFeedback = redoFeedback;
+        }
+
+        @Override
+        public CommandResult getUndoResult() {
+            return new CommandResult(undoFeedback);
+        }
+
+        @Override
+        public CommandResult getRedoResult() {
+            return new CommandResult(redoFeedback);
+        }
     }
 }
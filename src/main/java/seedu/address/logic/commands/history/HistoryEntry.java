@@ -0,0 +1,51 @@
+package seedu.address.logic.commands.history;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.logic.commands.ReversibleCommand;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * A reversible command in the command history, with the states of the model from just before and just after it.
+ */
+public class HistoryEntry {
+
+    /** Estimated size of an entry apart from its states, including its command and the results it gives. */
+    private static final long ESTIMATED_ENTRY_BYTES = 1024;
+
+    private final ReversibleCommand command;
+    private final ModelSnapshot stateBefore;
+    private final ModelSnapshot stateAfter;
+    private final long estimatedSize;
+
+    /**
+     * Creates an entry of {@code command}, which changed the model from {@code stateBefore} to {@code stateAfter}.
+     */
+    public HistoryEntry(ReversibleCommand command, ModelSnapshot stateBefore, ModelSnapshot stateAfter) {
+        requireAllNonNull(command, stateBefore, stateAfter);
+        this.command = command;
+        this.stateBefore = stateBefore;
+        this.stateAfter = stateAfter;
+        estimatedSize = ESTIMATED_ENTRY_BYTES + stateAfter.estimateBytesNotSharedWith(stateBefore);
+    }
+
+    public ReversibleCommand getCommand() {
+        return command;
+    }
+
+    public ModelSnapshot getStateBefore() {
+        return stateBefore;
+    }
+
+    public ModelSnapshot getStateAfter() {
+        return stateAfter;
+    }
+
+    /**
+     * Returns an estimate of the memory, in bytes, that keeping this entry in the history takes, counting only the
+     * parts of its states that differ between them. The parts that are the same are shared with the entries around it.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands.history;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.UndoException;
+
+/**
+ * A history of reversible commands that keeps none of them, for a model whose commands are never undone one by one,
+ * such as the copy of the model that a script is run on.
+ */
+public class NoCommandHistory implements ReversibleCommandHistory {
+
+    @Override
+    public void addEntry(HistoryEntry entry) {
+        requireNonNull(entry);
+    }
+
+    @Override
+    public HistoryEntry getEntryToUndo() throws UndoException {
+        throw new UndoException("No command to undo");
+    }
+
+    @Override
+    public HistoryEntry getEntryToRedo() throws UndoException {
+        throw new UndoException("No command to redo");
+    }
+
+    @Override
+    public boolean canUndo() {
+        return false;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return false;
+    }
+}
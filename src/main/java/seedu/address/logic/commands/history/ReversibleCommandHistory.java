@@ -1,6 +1,5 @@
 package seedu.address.logic.commands.history;
 
-import seedu.address.logic.commands.ReversibleCommand;
 import seedu.address.logic.commands.exceptions.UndoException;
 
 /**
@@ -8,27 +7,27 @@ import seedu.address.logic.commands.exceptions.UndoException;
  */
 public interface ReversibleCommandHistory {
     /**
-     * Adds a command to the history.
+     * Adds an entry to the history, and forgets every entry that was undone and not redone.
      *
-     * @param command The command to add.
+     * @param entry The entry to add.
      */
-    void addCommand(ReversibleCommand command);
+    void addEntry(HistoryEntry entry);
 
     /**
-     * Returns the most recently executed reversible command in the history.
+     * Returns the entry of the most recently executed reversible command in the history.
      *
-     * @return The most recently executed reversible command.
+     * @return The entry of the most recently executed reversible command.
      * @throws UndoException If an error occurs during history retrieval.
      */
-    ReversibleCommand getCommandToUndo() throws UndoException;
+    HistoryEntry getEntryToUndo() throws UndoException;
 
     /**
-     * Returns the most recently undone command in the history.
+     * Returns the entry of the most recently undone command in the history.
      *
-     * @return The most recently undone command.
+     * @return The entry of the most recently undone command.
      * @throws UndoException If an error occurs during history retrieval.
      */
-    ReversibleCommand getCommandToRedo() throws UndoException;
+    HistoryEntry getEntryToRedo() throws UndoException;
 
     /**
      * Checks if there are commands that can be undone.
@@ -0,0 +1,165 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Latencies and counters of the commands run since the app started, kept per command word.
+ *
+ * Each command is timed in three phases: parsing the command text, executing the command on the model, and
+ * scheduling the save of the changes. The writes of the data files, which happen in the background, are timed
+ * separately, per data file. All methods are thread-safe.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String LATENCY_HEADER = "Latencies in ms (p50 / p95 / p99 / max):";
+    private static final String LATENCY_FORMAT = "  %-8s %8.3f / %8.3f / %8.3f / %8.3f (%d)%n";
+
+    private final Map<String, CommandStatistics> commands = new TreeMap<>();
+    private final Map<String, LatencyHistogram> writes = new TreeMap<>();
+    private long unparsedCommands;
+
+    /**
+     * Records that the {@code phase} of a command with {@code commandWord} took {@code nanos}.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        getStatistics(commandWord).latencies.get(phase).record(nanos);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} was parsed but failed to execute.
+     */
+    public synchronized void recordFailure(String commandWord) {
+        requireNonNull(commandWord);
+        getStatistics(commandWord).failures++;
+    }
+
+    /**
+     * Records that a command could not be parsed.
+     * Such commands are only counted, as their command words may not be commands at all.
+     */
+    public synchronized void recordUnparsedCommand() {
+        unparsedCommands++;
+    }
+
+    /**
+     * Records that writing the data file {@code dataFileName} took {@code nanos}.
+     */
+    public synchronized void recordWrite(String dataFileName, long nanos) {
+        requireNonNull(dataFileName);
+        writes.computeIfAbsent(dataFileName, unused -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that were parsed.
+     */
+    public synchronized long getCount(String commandWord) {
+        CommandStatistics statistics = commands.get(commandWord);
+        return statistics == null ? 0 : statistics.latencies.get(Phase.PARSE).getCount();
+    }
+
+    /**
+     * Returns the number of commands with {@code commandWord} that were parsed but failed to execute.
+     */
+    public synchronized long getFailureCount(String commandWord) {
+        CommandStatistics statistics = commands.get(commandWord);
+        return statistics == null ? 0 : statistics.failures;
+    }
+
+    /**
+     * Returns the number of commands that could not be parsed.
+     */
+    public synchronized long getUnparsedCommandCount() {
+        return unparsedCommands;
+    }
+
+    /**
+     * Returns a report of every latency and counter recorded, for display to the user.
+     */
+    public synchronized String getReport() {
+        if (commands.isEmpty() && writes.isEmpty() && unparsedCommands == 0) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder(LATENCY_HEADER).append(System.lineSeparator());
+        commands.forEach((commandWord, statistics) -> {
+            report.append(commandWord)
+                    .append(" (").append(statistics.latencies.get(Phase.PARSE).getCount()).append(" runs, ")
+                    .append(statistics.failures).append(" failed)")
+                    .append(System.lineSeparator());
+            statistics.latencies.forEach((phase, histogram) -> appendLatencies(report, phase.toString(), histogram));
+        });
+        if (!writes.isEmpty()) {
+            report.append("background writes:").append(System.lineSeparator());
+            writes.forEach((dataFileName, histogram) -> appendLatencies(report, dataFileName, histogram));
+        }
+        report.append("unparsed commands: ").append(unparsedCommands);
+        return report.toString();
+    }
+
+    /**
+     * Writes the report of {@link #getReport()} to {@code filePath}, replacing its contents.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void dump(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, getReport() + System.lineSeparator());
+    }
+
+    private CommandStatistics getStatistics(String commandWord) {
+        return commands.computeIfAbsent(commandWord, unused -> new CommandStatistics());
+    }
+
+    private static void appendLatencies(StringBuilder report, String label, LatencyHistogram histogram) {
+        report.append(String.format(LATENCY_FORMAT, label,
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(95)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMax()),
+                histogram.getCount()));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    /**
+     * The latencies and failures of the commands with one command word.
+     */
+    private static class CommandStatistics {
+        private final Map<Phase, LatencyHistogram> latencies = new EnumMap<>(Phase.class);
+        private long failures;
+
+        CommandStatistics() {
+            for (Phase phase : Phase.values()) {
+                latencies.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+
+    /**
+     * The phases that a command is timed in.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * A histogram of latencies in nanoseconds, with a fixed set of buckets.
+ *
+ * Recording a latency takes constant time and no allocation. Buckets grow exponentially, with four buckets between
+ * each power of two, so any latency reported from the histogram is at most a quarter above the real one; the count
+ * and the maximum are exact.
+ */
+public class LatencyHistogram {
+
+    public static final String MESSAGE_INVALID_PERCENTILE = "The percentile should be between 0 and 100.";
+
+    /** The number of bits of a latency, after its highest bit, that pick a bucket within a power of two. */
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = getBucketIndex(Long.MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * Records a latency of {@code nanos}. Negative latencies, which a clock going backwards could give, are recorded
+     * as zero.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        counts[getBucketIndex(latency)]++;
+        count++;
+        max = Math.max(max, latency);
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the highest latency recorded, or 0 if none has been.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a latency that {@code percentile} percent of the recorded latencies are at most, or 0 if none has been
+     * recorded.
+     *
+     * @param percentile between 0 and 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, MESSAGE_INVALID_PERCENTILE);
+        if (count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the bucket that holds {@code latency}, which must not be negative.
+     */
+    static int getBucketIndex(long latency) {
+        if (latency < SUB_BUCKETS) {
+            return (int) latency;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency);
+        int subBucket = (int) (latency >>> (highestBit - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (highestBit - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest latency held by the bucket at {@code index}.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + ((1L << shift) - 1);
+    }
+}
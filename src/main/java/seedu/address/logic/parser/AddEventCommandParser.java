@@ -20,15 +20,16 @@ import seedu.address.model.event.EventName;
  */
 public class AddEventCommandParser implements EventParser<AddEventCommand> {
 
+    private static final PrefixTrie PREFIX_TRIE = new PrefixTrie(PREFIX_EVENTNAME, PREFIX_EVENTDATE,
+            PREFIX_EVENTCATEGORY);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddEventCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_EVENTNAME,
-                        PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TRIE);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_EVENTNAME, PREFIX_EVENTDATE, PREFIX_EVENTCATEGORY)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -1,14 +1,16 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommentCommand;
@@ -21,10 +23,15 @@ import seedu.address.logic.commands.GroupRandomCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListGroupCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UnaliasCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
-import seedu.address.logic.parser.alias.AliasParser;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.alias.BuiltInAliases;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -32,11 +39,60 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final CommandRegistry<Parser<? extends Command>> commandRegistry = new CommandRegistry<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} whose {@code stats} commands report on a new, empty {@code CommandMetrics}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands report on {@code commandMetrics}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+
+        commandRegistry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        commandRegistry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        commandRegistry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        commandRegistry.register(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        commandRegistry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        commandRegistry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        commandRegistry.register(GroupCommand.COMMAND_WORD, new GroupCommandParser());
+        commandRegistry.register(GroupRandomCommand.COMMAND_WORD, new GroupRandomCommandParser());
+        commandRegistry.register(ListGroupCommand.COMMAND_WORD, new ListGroupCommandParser());
+        commandRegistry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        commandRegistry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        commandRegistry.register(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        commandRegistry.register(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        commandRegistry.register(LinkCommand.COMMAND_WORD, new LinkCommandParser());
+        commandRegistry.register(CommentCommand.COMMAND_WORD, new CommentCommandParser());
+        commandRegistry.register(ViewCommand.COMMAND_WORD, new ViewCommandParser());
+        commandRegistry.register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(commandMetrics));
+        commandRegistry.register(AliasCommand.COMMAND_WORD, new AliasCommandParser(commandRegistry));
+        commandRegistry.register(UnaliasCommand.COMMAND_WORD, new UnaliasCommandParser(commandRegistry));
+        commandRegistry.register(RunCommand.COMMAND_WORD, new RunCommandParser(this::parseCommand));
+        BuiltInAliases.registerAliases(commandRegistry);
+    }
+
+    /**
+     * Adds every alias in {@code aliases}, which maps aliases to the command words they stand for, as a user-defined
+     * alias. Aliases that are no longer valid, e.g. because a command word was renamed, are skipped.
+     */
+    public void addAliases(Map<String, String> aliases) {
+        requireNonNull(aliases);
+        aliases.forEach((alias, commandWord) -> {
+            if (commandRegistry.isValidAlias(alias) && commandRegistry.isBuiltIn(commandWord)) {
+                commandRegistry.addAlias(alias, commandWord);
+            } else {
+                logger.warning("Skipping invalid alias " + alias + " of " + commandWord);
+            }
+        });
+    }
 
     /**
      * Parses user input into command for execution.
@@ -46,13 +102,14 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordLength = ParserUtil.getCommandWordLength(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordLength);
+        final String arguments = trimmedInput.substring(commandWordLength);
 
         // Note to developers: Change the log level in config.json to enable lower level
         // (i.e., FINE, FINER and lower)
@@ -60,63 +117,33 @@ public class AddressBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        // Match alias first
-        Command command = new AliasParser().parseAlias(commandWord, arguments);
-        if (command != null) {
-            return command;
+        Optional<Parser<? extends Command>> parser = commandRegistry.getParser(commandWord);
+        if (parser.isEmpty()) {
+            logger.finer("This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
+    }
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case GroupCommand.COMMAND_WORD:
-            return new GroupCommandParser().parse(arguments);
-
-        case GroupRandomCommand.COMMAND_WORD:
-            return new GroupRandomCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();
-
-        case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(arguments);
-
-        case CommentCommand.COMMAND_WORD:
-            return new CommentCommandParser().parse(arguments);
+    /**
+     * Returns the command word that the command in {@code userInput} is recorded under, i.e. the command word that its
+     * first word stands for, or the first word itself if it is not registered.
+     */
+    public String getCommandWord(String userInput) {
+        final String word = getFirstWord(userInput);
+        return commandRegistry.getCommandWord(word).orElse(word);
+    }
 
-        case ViewCommand.COMMAND_WORD:
-            return new ViewCommandParser().parse(arguments);
+    /**
+     * Returns true if the first word of {@code userInput} is a command word or an alias of this parser.
+     */
+    public boolean hasCommandWord(String userInput) {
+        return commandRegistry.getParser(getFirstWord(userInput)).isPresent();
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    private static String getFirstWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        return trimmedInput.substring(0, ParserUtil.getCommandWordLength(trimmedInput));
     }
 
 }
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.AliasCommand;
+import seedu.address.logic.commands.AliasStore;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AliasCommand object
+ */
+public class AliasCommandParser implements Parser<AliasCommand> {
+
+    private final AliasStore aliasStore;
+
+    /**
+     * Creates an {@code AliasCommandParser} of commands that add aliases to {@code aliasStore}.
+     */
+    public AliasCommandParser(AliasStore aliasStore) {
+        requireNonNull(aliasStore);
+        this.aliasStore = aliasStore;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AliasCommand
+     * and returns an AliasCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public AliasCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new AliasCommand(aliasStore);
+        }
+
+        String[] words = trimmedArgs.split("\\s+");
+        if (words.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AliasCommand.MESSAGE_USAGE));
+        }
+        return new AliasCommand(aliasStore, words[0], words[1]);
+    }
+
+}
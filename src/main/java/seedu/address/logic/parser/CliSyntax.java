@@ -14,5 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENTCATEGORY = new Prefix("ec/");
     public static final Prefix PREFIX_EVENTDATE = new Prefix("ed/");
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
+    public static final Prefix PREFIX_SEED = new Prefix("sd/");
+    public static final Prefix PREFIX_SPREAD = new Prefix("sp/");
 
 }
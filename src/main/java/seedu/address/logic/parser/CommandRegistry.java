@@ -0,0 +1,138 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.AliasStore;
+
+/**
+ * Maps command words to the parsers of their arguments.
+ *
+ * Every command word and built-in alias is registered once with a parser that is reused for every command, so
+ * finding the parser of a command takes a single lookup. User-defined aliases can be added and removed at any time;
+ * each names a registered word, and is looked up in the same single step as the word itself. Every word and alias
+ * also maps to the command word it stands for, so that a command can be told apart from the word it was typed with.
+ *
+ * @param <P> the type of the parsers.
+ */
+public class CommandRegistry<P> implements AliasStore {
+
+    private final Map<String, P> builtInParsers = new HashMap<>();
+    /** The built-in parsers plus those of the user-defined aliases. */
+    private final Map<String, P> parsers = new HashMap<>();
+    /** User-defined aliases mapped to the words they stand for. */
+    private final Map<String, String> aliases = new TreeMap<>();
+    /** Every registered word and user-defined alias mapped to the command word it stands for. */
+    private final Map<String, String> commandWords = new HashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of the command word or built-in alias
+     * {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void register(String commandWord, P parser) {
+        register(commandWord, commandWord, parser);
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of the built-in alias {@code word}, which stands for
+     * the command word {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if {@code word} is already registered.
+     */
+    public void register(String word, String commandWord, P parser) {
+        requireNonNull(word);
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!builtInParsers.containsKey(word), word + " is already registered.");
+        builtInParsers.put(word, parser);
+        parsers.put(word, parser);
+        commandWords.put(word, commandWord);
+    }
+
+    /**
+     * Returns the parser of the arguments of {@code commandWord}, which may be a user-defined alias.
+     */
+    public Optional<P> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns the command word that {@code word} stands for, which is {@code word} itself if it is a command word.
+     */
+    public Optional<String> getCommandWord(String word) {
+        return Optional.ofNullable(commandWords.get(word));
+    }
+
+    /**
+     * Returns true if {@code commandWord} is a registered command word or built-in alias.
+     */
+    @Override
+    public boolean isBuiltIn(String commandWord) {
+        return builtInParsers.containsKey(commandWord);
+    }
+
+    /**
+     * Returns true if {@code alias} is a user-defined alias.
+     */
+    @Override
+    public boolean hasAlias(String alias) {
+        return aliases.containsKey(alias);
+    }
+
+    /**
+     * Returns true if {@code alias} can be a user-defined alias, i.e. it is a single word that is not a registered
+     * command word or built-in alias.
+     */
+    @Override
+    public boolean isValidAlias(String alias) {
+        return !alias.isEmpty() && alias.chars().noneMatch(Character::isWhitespace) && !isBuiltIn(alias);
+    }
+
+    /**
+     * Adds {@code alias} as a user-defined alias of {@code commandWord}, replacing what it stood for if it is
+     * already an alias.
+     *
+     * @throws IllegalArgumentException if {@code alias} is not a valid alias or {@code commandWord} is not
+     *     registered.
+     */
+    @Override
+    public void addAlias(String alias, String commandWord) {
+        requireNonNull(alias);
+        requireNonNull(commandWord);
+        checkArgument(isValidAlias(alias), MESSAGE_INVALID_ALIAS);
+        checkArgument(isBuiltIn(commandWord), String.format(MESSAGE_UNKNOWN_COMMAND_WORD, commandWord));
+        aliases.put(alias, commandWord);
+        parsers.put(alias, builtInParsers.get(commandWord));
+        commandWords.put(alias, commandWords.get(commandWord));
+    }
+
+    /**
+     * Removes the user-defined alias {@code alias}.
+     *
+     * @throws IllegalArgumentException if {@code alias} is not a user-defined alias.
+     */
+    @Override
+    public void removeAlias(String alias) {
+        requireNonNull(alias);
+        checkArgument(hasAlias(alias), String.format(MESSAGE_UNKNOWN_ALIAS, alias));
+        aliases.remove(alias);
+        parsers.remove(alias);
+        commandWords.remove(alias);
+    }
+
+    /**
+     * Returns the user-defined aliases mapped to the words they stand for, sorted by alias.
+     */
+    @Override
+    public Map<String, String> getAliases() {
+        return Collections.unmodifiableMap(new TreeMap<>(aliases));
+    }
+}
@@ -9,7 +9,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 /**
  * Parses input arguments and creates a new DeleteEventCommand object
  */
-public class DeleteEventCommandParser {
+public class DeleteEventCommandParser implements EventParser<DeleteEventCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteEventCommand
      * and returns a DeleteEventCommand object for execution.
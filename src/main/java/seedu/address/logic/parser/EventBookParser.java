@@ -3,18 +3,19 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.ClearEventCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.EventCommand;
+import seedu.address.logic.commands.EventsBetweenCommand;
 import seedu.address.logic.commands.FindEventCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 
@@ -22,9 +23,23 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses user input.
  */
 public class EventBookParser {
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry<EventParser<? extends EventCommand>> commandRegistry = new CommandRegistry<>();
+
+    /**
+     * Creates an {@code EventBookParser} of every event command.
+     */
+    public EventBookParser() {
+        commandRegistry.register(AddEventCommand.COMMAND_WORD, new AddEventCommandParser());
+        commandRegistry.register(DeleteEventCommand.COMMAND_WORD, new DeleteEventCommandParser());
+        commandRegistry.register(FindEventCommand.COMMAND_WORD, new FindEventCommandParser());
+        commandRegistry.register(ListEventCommand.COMMAND_WORD, arguments -> new ListEventCommand());
+        commandRegistry.register(ClearEventCommand.COMMAND_WORD, arguments -> new ClearEventCommand());
+        commandRegistry.register(EventsBetweenCommand.COMMAND_WORD, new EventsBetweenCommandParser());
+        commandRegistry.register(UpcomingEventsCommand.COMMAND_WORD, new UpcomingEventsCommandParser());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -33,13 +48,14 @@ public class EventBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public EventCommand parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordLength = ParserUtil.getCommandWordLength(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordLength);
+        final String arguments = trimmedInput.substring(commandWordLength);
 
         // Note to developers: Change the log level in config.json to enable lower level
         // (i.e., FINE, FINER and lower)
@@ -47,26 +63,32 @@ public class EventBookParser {
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddEventCommand.COMMAND_WORD:
-            return new AddEventCommandParser().parse(arguments);
-
-        case DeleteEventCommand.COMMAND_WORD:
-            return new DeleteEventCommandParser().parse(arguments);
-
-        case FindEventCommand.COMMAND_WORD:
-            return new FindEventCommandParser().parse(arguments);
-
-        case ListEventCommand.COMMAND_WORD:
-            return new ListEventCommand();
-
-        case ClearEventCommand.COMMAND_WORD:
-            return new ClearEventCommand();
-
-        default:
+        Optional<EventParser<? extends EventCommand>> parser = commandRegistry.getParser(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(arguments);
+    }
+
+    /**
+     * Returns the command word that the command in {@code userInput} is recorded under, i.e. the command word that its
+     * first word stands for, or the first word itself if it is not registered.
+     */
+    public String getCommandWord(String userInput) {
+        final String word = getFirstWord(userInput);
+        return commandRegistry.getCommandWord(word).orElse(word);
+    }
+
+    /**
+     * Returns true if the first word of {@code userInput} is a command word or an alias of this parser.
+     */
+    public boolean hasCommandWord(String userInput) {
+        return commandRegistry.getParser(getFirstWord(userInput)).isPresent();
+    }
+
+    private static String getFirstWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        return trimmedInput.substring(0, ParserUtil.getCommandWordLength(trimmedInput));
     }
 }
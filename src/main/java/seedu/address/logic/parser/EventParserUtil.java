@@ -90,7 +90,7 @@ public class EventParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
@@ -143,6 +143,6 @@ public class EventParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new EventCategory(trimmedCategory);
+        return EventCategory.of(trimmedCategory);
     }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.EventsBetweenCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventDate;
+
+/**
+ * Parses input arguments and creates a new EventsBetweenCommand object
+ */
+public class EventsBetweenCommandParser implements EventParser<EventsBetweenCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the EventsBetweenCommand
+     * and returns an EventsBetweenCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EventsBetweenCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] dates = args.trim().split("\\s+");
+        if (dates.length != 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsBetweenCommand.MESSAGE_USAGE));
+        }
+
+        EventDate startDate = ParserUtil.parseEventDate(dates[0]);
+        EventDate endDate = ParserUtil.parseEventDate(dates[1]);
+        return new EventsBetweenCommand(startDate, endDate);
+    }
+}
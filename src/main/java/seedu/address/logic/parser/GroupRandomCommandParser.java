@@ -2,15 +2,24 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SEED;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SPREAD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.GroupRandomCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Category;
 
 /**
  * Parses input arguments and creates a new GroupRandomCommand object
  */
 public class GroupRandomCommandParser implements Parser<GroupRandomCommand> {
 
+    private static final PrefixTrie PREFIX_TRIE = new PrefixTrie(PREFIX_SEED, PREFIX_SPREAD);
+
     /**
      * Parses the given {@code String} of arguments in the context of the GroupRandomCommand
      * and returns a GroupRandomCommand object for execution.
@@ -18,22 +27,38 @@ public class GroupRandomCommandParser implements Parser<GroupRandomCommand> {
      */
     public GroupRandomCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        String[] trimmedArgs = args.trim().split("\\s");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TRIE);
 
         int maxGroupSize;
 
         try {
-            String trimmedMaxGroupSize = trimmedArgs[0];
-            maxGroupSize = Integer.parseInt(trimmedMaxGroupSize);
-        } catch (IndexOutOfBoundsException e) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupRandomCommand.MESSAGE_USAGE));
+            maxGroupSize = Integer.parseInt(argMultimap.getPreamble());
         } catch (NumberFormatException e) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupRandomCommand.MESSAGE_USAGE), e);
         }
 
-        return new GroupRandomCommand(maxGroupSize);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SEED);
+
+        Optional<Long> seed = Optional.empty();
+        if (argMultimap.getValue(PREFIX_SEED).isPresent()) {
+            seed = Optional.of(parseSeed(argMultimap.getValue(PREFIX_SEED).get()));
+        }
+
+        List<Category> spreadCategories = new ArrayList<>();
+        for (String category : argMultimap.getAllValues(PREFIX_SPREAD)) {
+            spreadCategories.add(ParserUtil.parseCategory(category));
+        }
+
+        return new GroupRandomCommand(maxGroupSize, seed, spreadCategories);
+    }
+
+    private static long parseSeed(String seed) throws ParseException {
+        try {
+            return Long.parseLong(seed.trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException(GroupRandomCommand.MESSAGE_INVALID_SEED, e);
+        }
     }
 
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ListGroupCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListGroupCommand object
+ */
+public class ListGroupCommandParser implements Parser<ListGroupCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListGroupCommand
+     * and returns a ListGroupCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ListGroupCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            return new ListGroupCommand();
+        }
+
+        try {
+            return new ListGroupCommand(Integer.parseInt(trimmedArgs));
+        } catch (NumberFormatException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListGroupCommand.MESSAGE_USAGE), e);
+        }
+    }
+
+}
@@ -16,6 +16,8 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Group;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.validation.ValidationResult;
+import seedu.address.model.validation.Validators;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -24,6 +26,19 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    /**
+     * Returns the length of the command word that {@code trimmedInput} starts with, i.e. the index of its first
+     * whitespace, or its length if it has none.
+     */
+    public static int getCommandWordLength(String trimmedInput) {
+        requireNonNull(trimmedInput);
+        int length = 0;
+        while (length < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(length))) {
+            length++;
+        }
+        return length;
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -46,8 +61,9 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
+        ValidationResult validationResult = Validators.NAME.validate(trimmedName);
+        if (!validationResult.isValid()) {
+            throw new ParseException(validationResult.getMessage());
         }
         return new Name(trimmedName);
     }
@@ -61,8 +77,9 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
+        ValidationResult validationResult = Validators.PHONE.validate(trimmedPhone);
+        if (!validationResult.isValid()) {
+            throw new ParseException(validationResult.getMessage());
         }
         return new Phone(trimmedPhone);
     }
@@ -76,8 +93,9 @@ public class ParserUtil {
     public static Email parseEmail(String email) throws ParseException {
         requireNonNull(email);
         String trimmedEmail = email.trim();
-        if (!Email.isValidEmail(trimmedEmail)) {
-            throw new ParseException(Email.MESSAGE_CONSTRAINTS);
+        ValidationResult validationResult = Validators.EMAIL.validate(trimmedEmail);
+        if (!validationResult.isValid()) {
+            throw new ParseException(validationResult.getMessage());
         }
         return new Email(trimmedEmail);
     }
@@ -94,7 +112,7 @@ public class ParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new Category(trimmedCategory);
+        return Category.of(trimmedCategory);
     }
 
     /**
@@ -106,8 +124,9 @@ public class ParserUtil {
     public static Comment parseComment(String comment) throws ParseException {
         requireNonNull(comment);
         String trimmedComment = comment.trim();
-        if (!Comment.isValidComment(trimmedComment)) {
-            throw new ParseException(Comment.MESSAGE_CONSTRAINTS);
+        ValidationResult validationResult = Validators.COMMENT.validate(trimmedComment);
+        if (!validationResult.isValid()) {
+            throw new ParseException(validationResult.getMessage());
         }
         String result = trimmedComment.replace(",", "");
         return new Comment(result);
@@ -165,7 +184,7 @@ public class ParserUtil {
         if (!Category.isValidCategory(trimmedCategory)) {
             throw new ParseException(Category.MESSAGE_CONSTRAINTS);
         }
-        return new EventCategory(trimmedCategory);
+        return EventCategory.of(trimmedCategory);
     }
     /**
      * Parses a {@code String group} into a {@code Group}.
@@ -192,7 +211,7 @@ public class ParserUtil {
             throw new ParseException(Group.MESSAGE_CONSTRAINTS);
         }
 
-        return new Group(groupNumber);
+        return Group.of(groupNumber);
 
     }
 
@@ -0,0 +1,112 @@
+package seedu.address.logic.parser;
+
+import java.util.Arrays;
+
+/**
+ * A trie of the prefixes given to {@code ArgumentTokenizer}, which finds every prefix that starts at a given position
+ * of an arguments string in one walk, without creating any strings. A trie is never changed once it is built, so a
+ * parser can build the trie of its prefixes once and share it between calls.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+    private final Prefix[] prefixes;
+
+    /**
+     * Creates a trie of {@code prefixes}. Each prefix is identified by its index in {@code prefixes}.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        this.prefixes = prefixes.clone();
+        for (int i = 0; i < prefixes.length; i++) {
+            String prefix = prefixes[i].getPrefix();
+            Node node = root;
+            for (int j = 0; j < prefix.length(); j++) {
+                node = node.getOrAddChild(prefix.charAt(j));
+            }
+            node.addPrefixIndex(i);
+        }
+    }
+
+    int getPrefixCount() {
+        return prefixes.length;
+    }
+
+    /**
+     * Returns the prefix with index {@code prefixIndex}.
+     */
+    Prefix getPrefix(int prefixIndex) {
+        return prefixes[prefixIndex];
+    }
+
+    /**
+     * Finds the prefixes that {@code argsString} has at {@code position}, and writes their indices to the start of
+     * {@code prefixIndices} in ascending order.
+     *
+     * @param prefixIndices must be at least as long as the number of prefixes in this trie.
+     * @return the number of prefixes found.
+     */
+    int match(String argsString, int position, int[] prefixIndices) {
+        int count = root.copyPrefixIndices(prefixIndices, 0);
+        Node node = root;
+        for (int i = position; i < argsString.length(); i++) {
+            node = node.getChild(argsString.charAt(i));
+            if (node == null) {
+                break;
+            }
+            count = node.copyPrefixIndices(prefixIndices, count);
+        }
+        // prefixes of different lengths are found in order of length, not of index
+        Arrays.sort(prefixIndices, 0, count);
+        return count;
+    }
+
+    /**
+     * A node of the trie, reached by the characters of the path to it.
+     * The few children of a node are kept in arrays rather than a map, as they are searched by a linear scan.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private int[] prefixIndices = new int[0];
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child != null) {
+                return child;
+            }
+            child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            keys[keys.length - 1] = key;
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+            return child;
+        }
+
+        /**
+         * Marks this node as the end of the prefix with index {@code prefixIndex}.
+         */
+        void addPrefixIndex(int prefixIndex) {
+            prefixIndices = Arrays.copyOf(prefixIndices, prefixIndices.length + 1);
+            prefixIndices[prefixIndices.length - 1] = prefixIndex;
+        }
+
+        /**
+         * Copies the indices of the prefixes that end at this node into {@code destination} from {@code offset}.
+         *
+         * @return the offset after the last index copied.
+         */
+        int copyPrefixIndices(int[] destination, int offset) {
+            System.arraycopy(prefixIndices, 0, destination, offset, prefixIndices.length);
+            return offset + prefixIndices.length;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "%1$s is not a valid file path.";
+
+    private final Parser<? extends Command> scriptParser;
+
+    /**
+     * Creates a {@code RunCommandParser} of commands that parse their scripts with {@code scriptParser}.
+     */
+    public RunCommandParser(Parser<? extends Command> scriptParser) {
+        requireNonNull(scriptParser);
+        this.scriptParser = scriptParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(trimmedArgs)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATH, trimmedArgs));
+        }
+        return new RunCommand(Paths.get(trimmedArgs), scriptParser);
+    }
+
+}
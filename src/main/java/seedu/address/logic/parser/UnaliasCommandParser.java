@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.AliasStore;
+import seedu.address.logic.commands.UnaliasCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnaliasCommand object
+ */
+public class UnaliasCommandParser implements Parser<UnaliasCommand> {
+
+    private final AliasStore aliasStore;
+
+    /**
+     * Creates an {@code UnaliasCommandParser} of commands that remove aliases from {@code aliasStore}.
+     */
+    public UnaliasCommandParser(AliasStore aliasStore) {
+        requireNonNull(aliasStore);
+        this.aliasStore = aliasStore;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnaliasCommand
+     * and returns an UnaliasCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnaliasCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty() || trimmedArgs.chars().anyMatch(Character::isWhitespace)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnaliasCommand.MESSAGE_USAGE));
+        }
+        return new UnaliasCommand(aliasStore, trimmedArgs);
+    }
+
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.UpcomingEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UpcomingEventsCommand object
+ */
+public class UpcomingEventsCommandParser implements EventParser<UpcomingEventsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the UpcomingEventsCommand
+     * and returns an UpcomingEventsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UpcomingEventsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        try {
+            int count = Integer.parseInt(args.trim());
+            if (count < 1) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventsCommand.MESSAGE_USAGE));
+            }
+            return new UpcomingEventsCommand(count);
+        } catch (NumberFormatException e) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, UpcomingEventsCommand.MESSAGE_USAGE), e);
+        }
+    }
+}
@@ -23,6 +23,8 @@ public class AddParticipantAlias extends Alias<AddCommand> {
             + PREFIX_GROUP + "GROUP]\n" + "Example: " + ALIAS_WORD + " " + PREFIX_NAME + "John Doe " + PREFIX_PHONE
             + "98765432 " + PREFIX_EMAIL + "johndoe@example.com ";
 
+    private final AddCommandParser addCommandParser = new AddCommandParser();
+
     private String toAddCommandInput(String input) {
         String paramCategory = PREFIX_CATEGORY + "participant";
         return input + " " + paramCategory;
@@ -32,7 +34,7 @@ public class AddParticipantAlias extends Alias<AddCommand> {
     public AddCommand parse(String input) throws ParseException {
         String addCommandInput = toAddCommandInput(input);
         try {
-            return new AddCommandParser().parse(addCommandInput);
+            return addCommandParser.parse(addCommandInput);
         } catch (ParseException e) {
             // Override add command usage with own usage. Temporary workaround for now
             String addCommandUsage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
@@ -25,6 +25,8 @@ public class AddSponsorAlias extends Alias<AddCommand> {
 
     public static final String TYPE = "sponsor";
 
+    private final AddCommandParser addCommandParser = new AddCommandParser();
+
     private String toAddCommandInput(String input) {
         String paramCategory = PREFIX_CATEGORY + TYPE;
         return input + " " + paramCategory;
@@ -34,7 +36,7 @@ public class AddSponsorAlias extends Alias<AddCommand> {
     public AddCommand parse(String input) throws ParseException {
         String addCommandInput = toAddCommandInput(input);
         try {
-            return new AddCommandParser().parse(addCommandInput);
+            return addCommandParser.parse(addCommandInput);
         } catch (ParseException e) {
             // Override add command usage with own usage. Temporary workaround for now
             String addCommandUsage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
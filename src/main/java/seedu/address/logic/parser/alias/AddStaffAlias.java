@@ -24,6 +24,8 @@ public class AddStaffAlias extends Alias<AddCommand> {
             + PREFIX_EMAIL + "johndoe@example.com ";
     public static final String TYPE = "staff";
 
+    private final AddCommandParser addCommandParser = new AddCommandParser();
+
     private String toAddCommandInput(String input) {
         String paramCategory = PREFIX_CATEGORY + TYPE;
         return input + " " + paramCategory;
@@ -33,7 +35,7 @@ public class AddStaffAlias extends Alias<AddCommand> {
     public AddCommand parse(String input) throws ParseException {
         String addCommandInput = toAddCommandInput(input);
         try {
-            return new AddCommandParser().parse(addCommandInput);
+            return addCommandParser.parse(addCommandInput);
         } catch (ParseException e) {
             // Override add command usage with own usage. Temporary workaround for now
             String addCommandUsage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE);
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser.alias;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.logic.parser.Parser;
+
+/**
+ * Registers the built-in aliases of command words.
+ */
+public class BuiltInAliases {
+
+    private BuiltInAliases() {}
+
+    /**
+     * Registers every built-in alias in {@code commandRegistry}, each standing for the command word it is an alias of.
+     */
+    public static void registerAliases(CommandRegistry<Parser<? extends Command>> commandRegistry) {
+        commandRegistry.register(AddParticipantAlias.ALIAS_WORD, AddCommand.COMMAND_WORD, new AddParticipantAlias());
+        commandRegistry.register(AddStaffAlias.ALIAS_WORD, AddCommand.COMMAND_WORD, new AddStaffAlias());
+        commandRegistry.register(AddSponsorAlias.ALIAS_WORD, AddCommand.COMMAND_WORD, new AddSponsorAlias());
+        commandRegistry.register(DeleteAlias.ALIAS_WORD, DeleteCommand.COMMAND_WORD, new DeleteAlias());
+        commandRegistry.register(EditAlias.ALIAS_WORD, EditCommand.COMMAND_WORD, new EditAlias());
+        commandRegistry.register(ExitAlias.ALIAS_WORD, ExitCommand.COMMAND_WORD, new ExitAlias());
+        commandRegistry.register(FindAlias.ALIAS_WORD, FindCommand.COMMAND_WORD, new FindAlias());
+        commandRegistry.register(UndoAlias.ALIAS_WORD, UndoCommand.COMMAND_WORD, new UndoAlias());
+        commandRegistry.register(RedoAlias.ALIAS_WORD, RedoCommand.COMMAND_WORD, new RedoAlias());
+    }
+}
@@ -10,8 +10,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class DeleteAlias extends Alias<DeleteCommand> {
     public static final String ALIAS_WORD = "d";
 
+    private final DeleteCommandParser deleteCommandParser = new DeleteCommandParser();
+
     @Override
     public DeleteCommand parse(String input) throws ParseException {
-        return new DeleteCommandParser().parse(input);
+        return deleteCommandParser.parse(input);
     }
 }
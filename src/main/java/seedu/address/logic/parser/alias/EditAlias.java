@@ -10,8 +10,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class EditAlias extends Alias<EditCommand> {
     public static final String ALIAS_WORD = "ed";
 
+    private final EditCommandParser editCommandParser = new EditCommandParser();
+
     @Override
     public EditCommand parse(String input) throws ParseException {
-        return new EditCommandParser().parse(input);
+        return editCommandParser.parse(input);
     }
 }
@@ -10,8 +10,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class FindAlias extends Alias<FindCommand> {
     public static final String ALIAS_WORD = "f";
 
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+
     @Override
     public FindCommand parse(String input) throws ParseException {
-        return new FindCommandParser().parse(input);
+        return findCommandParser.parse(input);
     }
 }
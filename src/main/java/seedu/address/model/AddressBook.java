@@ -2,12 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.GroupSponsorException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +25,9 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final PersonSearchIndex searchIndex;
+    private final GroupIndex groupIndex;
+    private long modificationVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +38,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        searchIndex = new PersonSearchIndex();
+        groupIndex = new GroupIndex();
     }
 
     public AddressBook() {}
@@ -46,6 +60,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        searchIndex.reset(persons);
+        groupIndex.reset(persons);
+        modificationVersion++;
     }
 
     /**
@@ -73,6 +90,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        searchIndex.add(p);
+        groupIndex.add(p);
+        modificationVersion++;
     }
 
     /**
@@ -84,6 +104,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        groupIndex.remove(target);
+        groupIndex.add(editedPerson);
+        modificationVersion++;
     }
 
     /**
@@ -92,6 +117,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        searchIndex.remove(key);
+        groupIndex.remove(key);
+        modificationVersion++;
     }
 
     /**
@@ -103,6 +131,102 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(target);
 
         persons.groupPerson(target, groupNumber);
+        searchIndex.remove(target);
+        searchIndex.add(target);
+        groupIndex.remove(target);
+        groupIndex.add(target);
+        modificationVersion++;
+    }
+
+    /**
+     * Applies the changes of {@code batch}, in order, replacing the person list once.
+     * Either every change is applied or, if a change cannot be, none of them is.
+     *
+     * @throws PersonNotFoundException if the target of a change is not in the address book when it is reached.
+     * @throws DuplicatePersonException if the changes leave two persons with the same identity.
+     * @throws GroupSponsorException if a sponsor is regrouped.
+     */
+    public void applyBatch(PersonBatch batch) {
+        requireNonNull(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Person, Integer> groupNumbers = new HashMap<>();
+        List<Person> updatedPersons = batch.applyTo(getPersonList(), groupNumbers);
+
+        // persons are regrouped in place before the list is replaced, so that its listeners see the new groups
+        Map<Person, Integer> originalGroupNumbers = new HashMap<>();
+        try {
+            groupNumbers.forEach((person, groupNumber) -> {
+                int originalGroupNumber = person.getGroupNumber();
+                person.setGroupNumber(groupNumber);
+                originalGroupNumbers.put(person, originalGroupNumber);
+            });
+            persons.setPersons(updatedPersons);
+        } catch (RuntimeException e) {
+            originalGroupNumbers.forEach(Person::setGroupNumber);
+            throw e;
+        }
+        searchIndex.reset(updatedPersons);
+        groupIndex.reset(updatedPersons);
+        modificationVersion++;
+    }
+
+    /**
+     * Returns a snapshot of the persons in this address book, in their groups. Takes constant time.
+     */
+    public UniquePersonList.Snapshot getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the persons in this address book with those of {@code snapshot}, in the groups they were in when the
+     * snapshot was taken. Only the persons that differ from the snapshot are reindexed.
+     */
+    public void restore(UniquePersonList.Snapshot snapshot) {
+        requireNonNull(snapshot);
+
+        ListChange<Person> change = persons.restore(snapshot);
+        // the persons that were taken out are unindexed first, as some of them may be put back in another group
+        change.getRemoved().forEach(person -> {
+            searchIndex.remove(person);
+            groupIndex.remove(person);
+        });
+        change.getAdded().forEach(person -> {
+            searchIndex.add(person);
+            groupIndex.add(person);
+        });
+        modificationVersion++;
+    }
+
+    /**
+     * Returns the persons whose information contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> findPersons(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return searchIndex.findAny(keywords);
+    }
+
+    /**
+     * Returns the persons in group {@code groupNumber}.
+     */
+    public Set<Person> getGroupMembers(int groupNumber) {
+        return groupIndex.getMembers(groupNumber);
+    }
+
+    /**
+     * Returns the number of persons in each group that has any, by group number.
+     */
+    public SortedMap<Integer, Integer> getGroupSizes() {
+        return groupIndex.getGroupSizes();
+    }
+
+    /**
+     * Returns the highest group number that any person is in, or 0 if no one is in a group.
+     */
+    public int getHighestGroupNumber() {
+        return groupIndex.getHighestGroupNumber();
     }
 
     //// util methods
@@ -119,6 +243,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
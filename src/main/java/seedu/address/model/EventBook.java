@@ -1,10 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
@@ -16,6 +19,8 @@ import seedu.address.model.event.UniqueEventList;
 public class EventBook implements ReadOnlyEventBook {
 
     private final UniqueEventList events;
+    private final EventDateIndex dateIndex;
+    private long modificationVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +31,7 @@ public class EventBook implements ReadOnlyEventBook {
      */
     {
         events = new UniqueEventList();
+        dateIndex = new EventDateIndex();
     }
 
     public EventBook() {}
@@ -46,6 +52,8 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        dateIndex.reset(events);
+        modificationVersion++;
     }
 
     /**
@@ -73,6 +81,8 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void addEvent(Event e) {
         events.add(e);
+        dateIndex.add(e);
+        modificationVersion++;
     }
 
 
@@ -85,6 +95,9 @@ public class EventBook implements ReadOnlyEventBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        dateIndex.remove(target);
+        dateIndex.add(editedEvent);
+        modificationVersion++;
     }
 
     /**
@@ -93,6 +106,44 @@ public class EventBook implements ReadOnlyEventBook {
      */
     public void removeEvent(Event key) {
         events.remove(key);
+        dateIndex.remove(key);
+        modificationVersion++;
+    }
+
+    /**
+     * Returns a snapshot of the events in this event book. Takes constant time.
+     */
+    public UniqueEventList.Snapshot getSnapshot() {
+        return events.getSnapshot();
+    }
+
+    /**
+     * Replaces the events in this event book with those of {@code snapshot}. Only the events that differ from the
+     * snapshot are reindexed.
+     */
+    public void restore(UniqueEventList.Snapshot snapshot) {
+        requireNonNull(snapshot);
+
+        ListChange<Event> change = events.restore(snapshot);
+        change.getRemoved().forEach(dateIndex::remove);
+        change.getAdded().forEach(dateIndex::add);
+        modificationVersion++;
+    }
+
+    /**
+     * Returns the events from {@code start} to {@code end}, both inclusive, in date order.
+     */
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return dateIndex.getEventsBetween(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Returns the first {@code count} events on or after {@code start}, in date order.
+     */
+    public List<Event> getEventsFrom(LocalDate start, int count) {
+        requireNonNull(start);
+        return dateIndex.getEventsFrom(start.toEpochDay(), count);
     }
 
     //// util methods
@@ -109,6 +160,11 @@ public class EventBook implements ReadOnlyEventBook {
         return events.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
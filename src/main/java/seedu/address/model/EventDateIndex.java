@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.event.Event;
+
+/**
+ * An index of events sorted by date.
+ * Kept in step with the {@code EventBook} it belongs to, so the events in a date range can be found in time
+ * logarithmic in the number of events plus linear in the number found, instead of scanning every event.
+ * Events on the same day are kept in the order they were added.
+ */
+class EventDateIndex {
+
+    private final TreeMap<Long, Set<Event>> eventsByEpochDay = new TreeMap<>();
+
+    /**
+     * Adds {@code event} to the index under its date.
+     */
+    void add(Event event) {
+        requireNonNull(event);
+        eventsByEpochDay.computeIfAbsent(getEpochDay(event), unused -> new LinkedHashSet<>()).add(event);
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     * Does nothing if the event is not indexed.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        long epochDay = getEpochDay(event);
+        Set<Event> events = eventsByEpochDay.get(epochDay);
+        if (events == null) {
+            return;
+        }
+        events.remove(event);
+        if (events.isEmpty()) {
+            eventsByEpochDay.remove(epochDay);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    void reset(Collection<Event> events) {
+        requireNonNull(events);
+        eventsByEpochDay.clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the events from {@code startEpochDay} to {@code endEpochDay}, both inclusive, in date order.
+     * Returns no events if the start is after the end.
+     */
+    List<Event> getEventsBetween(long startEpochDay, long endEpochDay) {
+        List<Event> events = new ArrayList<>();
+        if (startEpochDay > endEpochDay) {
+            return events;
+        }
+        eventsByEpochDay.subMap(startEpochDay, true, endEpochDay, true).values().forEach(events::addAll);
+        return events;
+    }
+
+    /**
+     * Returns the first {@code count} events on or after {@code startEpochDay}, in date order.
+     */
+    List<Event> getEventsFrom(long startEpochDay, int count) {
+        List<Event> events = new ArrayList<>();
+        for (Set<Event> eventsOnDay : eventsByEpochDay.tailMap(startEpochDay, true).values()) {
+            for (Event event : eventsOnDay) {
+                if (events.size() == count) {
+                    return events;
+                }
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private static long getEpochDay(Event event) {
+        return event.getEventDate().getEpochDay();
+    }
+}
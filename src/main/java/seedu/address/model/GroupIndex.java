@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An index from group numbers to the persons in each group.
+ * Kept in step with the {@code AddressBook} it belongs to, so the members of a group can be found without scanning
+ * every person. Only persons in a group, i.e. with a positive group number, are indexed; a group exists for as long
+ * as it has at least one member.
+ *
+ * The group number of each person is remembered at the time the person is indexed. This allows a person to be
+ * unindexed correctly even after it has been regrouped in place (e.g. by {@link Person#setGroupNumber(int)}).
+ */
+class GroupIndex {
+
+    private final TreeMap<Integer, Set<Person>> members = new TreeMap<>();
+    private final Map<Person, Integer> indexedGroupNumbers = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index under its group number, if it is in a group.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        int groupNumber = person.getGroupNumber();
+        if (groupNumber <= 0) {
+            return;
+        }
+        indexedGroupNumbers.put(person, groupNumber);
+        members.computeIfAbsent(groupNumber, unused -> new HashSet<>()).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the index, using the group number it was indexed under.
+     * Does nothing if the person is not indexed.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer groupNumber = indexedGroupNumbers.remove(person);
+        if (groupNumber == null) {
+            return;
+        }
+        Set<Person> groupMembers = members.get(groupNumber);
+        groupMembers.remove(person);
+        if (groupMembers.isEmpty()) {
+            members.remove(groupNumber);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        members.clear();
+        indexedGroupNumbers.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons in group {@code groupNumber}, in time linear in the size of the group.
+     */
+    Set<Person> getMembers(int groupNumber) {
+        Set<Person> groupMembers = members.get(groupNumber);
+        return groupMembers == null ? new HashSet<>() : new HashSet<>(groupMembers);
+    }
+
+    /**
+     * Returns the number of persons in each group that has any, by group number.
+     */
+    SortedMap<Integer, Integer> getGroupSizes() {
+        SortedMap<Integer, Integer> groupSizes = new TreeMap<>();
+        members.forEach((groupNumber, groupMembers) -> groupSizes.put(groupNumber, groupMembers.size()));
+        return groupSizes;
+    }
+
+    /**
+     * Returns the highest group number that any person is in, or 0 if no one is in a group.
+     */
+    int getHighestGroupNumber() {
+        return members.isEmpty() ? 0 : members.lastKey();
+    }
+}
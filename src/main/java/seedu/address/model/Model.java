@@ -1,6 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -93,6 +98,33 @@ public interface Model {
      */
     void groupPerson(Person target, int groupNumber);
 
+    /**
+     * Applies the changes of {@code batch} to the address book, in order, as a single change to the person list.
+     * Either every change is applied or none of them is.
+     */
+    void applyBatch(PersonBatch batch);
+
+    /**
+     * Returns the persons whose information contains any of {@code keywords} as a
+     * whole word, ignoring case.
+     */
+    Set<Person> findPersons(Collection<String> keywords);
+
+    /**
+     * Returns the persons in group {@code groupNumber}.
+     */
+    Set<Person> getGroupMembers(int groupNumber);
+
+    /**
+     * Returns the number of persons in each group that has any, by group number.
+     */
+    SortedMap<Integer, Integer> getGroupSizes();
+
+    /**
+     * Returns the highest group number that any person is in, or 0 if no one is in a group.
+     */
+    int getHighestGroupNumber();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -149,4 +181,14 @@ public interface Model {
     Path getEventBookFilePath();
     public void setEventBook(ReadOnlyEventBook eventBook);
     public void setEventBookFilePath(Path eventBookFilePath);
+
+    /**
+     * Returns the events from {@code start} to {@code end}, both inclusive, in date order.
+     */
+    List<Event> getEventsBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the first {@code count} events on or after {@code start}, in date order.
+     */
+    List<Event> getEventsFrom(LocalDate start, int count);
 }
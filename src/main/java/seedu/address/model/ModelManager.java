@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,9 +18,9 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ReversibleCommand;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.logic.commands.history.CommandHistoryManager;
+import seedu.address.logic.commands.history.HistoryEntry;
 import seedu.address.logic.commands.history.ReversibleCommandHistory;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
@@ -32,13 +37,24 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
     private final ReversibleCommandHistory commandHistory;
+    /** The state after the last command added to the history, or the state that the last undo or redo restored. */
+    private ModelSnapshot recordedState;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs, and an
      * empty command history.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, eventBook, userPrefs, new CommandHistoryManager());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which records the commands added to it in
+     * {@code commandHistory}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyEventBook eventBook, ReadOnlyUserPrefs userPrefs,
+            ReversibleCommandHistory commandHistory) {
+        requireAllNonNull(addressBook, userPrefs, commandHistory);
 
         logger.fine("Initializing with data file: " + addressBook + " and user prefs " + userPrefs);
 
@@ -47,7 +63,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredEvents = new FilteredList<>(this.eventBook.getEventList());
-        commandHistory = new CommandHistoryManager();
+        this.commandHistory = commandHistory;
+        recordedState = takeSnapshot();
     }
 
     public ModelManager() {
@@ -134,6 +151,34 @@ public class ModelManager implements Model {
         addressBook.groupPerson(target, groupNumber);
     }
 
+    @Override
+    public void applyBatch(PersonBatch batch) {
+        requireNonNull(batch);
+
+        addressBook.applyBatch(batch);
+    }
+
+    @Override
+    public Set<Person> findPersons(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersons(keywords);
+    }
+
+    @Override
+    public Set<Person> getGroupMembers(int groupNumber) {
+        return addressBook.getGroupMembers(groupNumber);
+    }
+
+    @Override
+    public SortedMap<Integer, Integer> getGroupSizes() {
+        return addressBook.getGroupSizes();
+    }
+
+    @Override
+    public int getHighestGroupNumber() {
+        return addressBook.getHighestGroupNumber();
+    }
+
     // =========== Filtered Person List Accessors
     // =============================================================
 
@@ -173,7 +218,10 @@ public class ModelManager implements Model {
 
     @Override
     public void addCommand(ReversibleCommand command) {
-        commandHistory.addCommand(command);
+        requireNonNull(command);
+        ModelSnapshot stateAfter = takeSnapshot();
+        commandHistory.addEntry(new HistoryEntry(command, recordedState, stateAfter));
+        recordedState = stateAfter;
     }
 
     @Override
@@ -188,14 +236,35 @@ public class ModelManager implements Model {
 
     @Override
     public CommandResult undoAddressBook() throws UndoException {
-        ReversibleCommand command = commandHistory.getCommandToUndo();
-        return command.undo(this);
+        HistoryEntry entry = commandHistory.getEntryToUndo();
+        restore(entry.getStateBefore());
+        return entry.getCommand().getUndoResult();
     }
 
     @Override
-    public CommandResult redoAddressBook() throws UndoException, CommandException {
-        ReversibleCommand command = commandHistory.getCommandToRedo();
-        return command.redo(this);
+    public CommandResult redoAddressBook() throws UndoException {
+        HistoryEntry entry = commandHistory.getEntryToRedo();
+        restore(entry.getStateAfter());
+        return entry.getCommand().getRedoResult();
+    }
+
+    private ModelSnapshot takeSnapshot() {
+        return new ModelSnapshot(addressBook.getSnapshot(), eventBook.getSnapshot());
+    }
+
+    /**
+     * Restores the persons and events to those of {@code state}.
+     * The lists that are already in the state of {@code state}, e.g. the events when undoing a command on persons,
+     * are left untouched.
+     */
+    private void restore(ModelSnapshot state) {
+        if (!state.getPersons().isSameState(addressBook.getSnapshot())) {
+            addressBook.restore(state.getPersons());
+        }
+        if (!state.getEvents().isSameState(eventBook.getSnapshot())) {
+            eventBook.restore(state.getEvents());
+        }
+        recordedState = state;
     }
 
     // =========== event Handler
@@ -230,6 +299,18 @@ public class ModelManager implements Model {
         filteredEvents.setPredicate(predicate);
     }
 
+    @Override
+    public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return eventBook.getEventsBetween(start, end);
+    }
+
+    @Override
+    public List<Event> getEventsFrom(LocalDate start, int count) {
+        requireNonNull(start);
+        return eventBook.getEventsFrom(start, count);
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return filteredEvents;
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * The persons and events of a model at some point in time, as kept in the command history.
+ * A snapshot takes constant time to take, and shares its structure with the other snapshots of the same model, so
+ * keeping one costs only the memory of what changed since the snapshot before it.
+ */
+public final class ModelSnapshot {
+
+    /** Estimated size of a node of the persons that is not shared: the node, its entry and, at worst, its person. */
+    private static final long ESTIMATED_PERSON_NODE_BYTES = 512;
+    /** Estimated size of a node of the events that is not shared: the node and, at worst, its event. */
+    private static final long ESTIMATED_EVENT_NODE_BYTES = 256;
+
+    private final UniquePersonList.Snapshot persons;
+    private final UniqueEventList.Snapshot events;
+
+    /**
+     * Creates a snapshot of {@code persons} and {@code events}.
+     */
+    public ModelSnapshot(UniquePersonList.Snapshot persons, UniqueEventList.Snapshot events) {
+        requireAllNonNull(persons, events);
+        this.persons = persons;
+        this.events = events;
+    }
+
+    public UniquePersonList.Snapshot getPersons() {
+        return persons;
+    }
+
+    public UniqueEventList.Snapshot getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns an estimate of the memory, in bytes, taken by this snapshot and {@code other} but not shared between
+     * them, i.e. what keeping both costs more than keeping either. Takes time in proportion to the nodes not shared.
+     */
+    public long estimateBytesNotSharedWith(ModelSnapshot other) {
+        requireNonNull(other);
+        long personNodes = persons.countNodesNotSharedWith(other.persons)
+                + other.persons.countNodesNotSharedWith(persons);
+        long eventNodes = events.countNodesNotSharedWith(other.events) + other.events.countNodesNotSharedWith(events);
+        return personNodes * ESTIMATED_PERSON_NODE_BYTES + eventNodes * ESTIMATED_EVENT_NODE_BYTES;
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A sequence of changes to the persons of an address book that are applied together.
+ *
+ * Applying a batch with {@link Model#applyBatch(PersonBatch)} replaces the person list once, so listeners of the list
+ * see a single change however many persons the batch touches, instead of one change per person.
+ */
+public class PersonBatch {
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Replaces the person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book when this change is reached.
+     */
+    public PersonBatch setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        changes.add(new Change(target, editedPerson, Change.NO_GROUP_NUMBER));
+        return this;
+    }
+
+    /**
+     * Groups {@code target} into {@code groupNumber}.
+     * {@code target} must exist in the address book when this change is reached.
+     * {@code groupNumber} must be a positive integer.
+     */
+    public PersonBatch groupPerson(Person target, int groupNumber) {
+        requireNonNull(target);
+        changes.add(new Change(target, target, groupNumber));
+        return this;
+    }
+
+    /**
+     * Removes {@code target}.
+     * {@code target} must exist in the address book when this change is reached.
+     */
+    public PersonBatch removePerson(Person target) {
+        requireNonNull(target);
+        changes.add(new Change(target, null, Change.NO_GROUP_NUMBER));
+        return this;
+    }
+
+    /**
+     * Returns true if the batch has no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes in the batch.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Returns the persons that result from applying the changes of this batch, in order, to {@code persons}.
+     * Neither {@code persons} nor the persons in it are modified: the group number that each regrouped person is to
+     * get is put in {@code groupNumbers} instead, for the caller to set once the result has been accepted.
+     *
+     * @throws PersonNotFoundException if the target of a change is not in the list when the change is reached.
+     */
+    List<Person> applyTo(List<Person> persons, Map<Person, Integer> groupNumbers) {
+        requireAllNonNull(persons, groupNumbers);
+
+        List<Person> slots = new ArrayList<>(persons);
+        Map<Person, Integer> positions = new HashMap<>();
+        for (int i = 0; i < slots.size(); i++) {
+            positions.put(slots.get(i), i);
+        }
+
+        for (Change change : changes) {
+            Integer position = positions.remove(change.target);
+            if (position == null) {
+                throw new PersonNotFoundException();
+            }
+            slots.set(position, change.replacement);
+            if (change.replacement != null) {
+                positions.put(change.replacement, position);
+            }
+            if (change.groupNumber != Change.NO_GROUP_NUMBER) {
+                groupNumbers.put(change.target, change.groupNumber);
+            } else {
+                groupNumbers.remove(change.target);
+            }
+        }
+
+        List<Person> result = new ArrayList<>(positions.size());
+        for (Person person : slots) {
+            if (person != null) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changes", changes.size())
+                .toString();
+    }
+
+    /**
+     * A change to a single person of the batch.
+     */
+    private static class Change {
+        static final int NO_GROUP_NUMBER = -1;
+
+        private final Person target;
+        /** The person that takes the place of the target, or null if the target is removed. */
+        private final Person replacement;
+        private final int groupNumber;
+
+        Change(Person target, Person replacement, int groupNumber) {
+            this.target = target;
+            this.replacement = replacement;
+            this.groupNumber = groupNumber;
+        }
+    }
+}
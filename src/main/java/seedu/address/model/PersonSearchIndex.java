@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from lower-cased information tokens to the persons whose information contains them.
+ * Kept in step with the {@code AddressBook} it belongs to, so keyword lookups do not need to scan every person.
+ *
+ * The search tokens of each person are remembered at the time the person is indexed. This allows a person to be
+ * unindexed correctly even after it has been mutated in place (e.g. by {@link Person#setGroupNumber(int)}).
+ */
+class PersonSearchIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Map<Person, Set<String>> indexedTokens = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index under every token of its information.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        Set<String> tokens = person.getSearchTokens();
+        indexedTokens.put(person, tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, using the tokens it was indexed under.
+     * Does nothing if the person is not indexed.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Set<String> tokens = indexedTokens.remove(person);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Person> posting = postings.get(token);
+            posting.remove(person);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    void reset(Collection<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        indexedTokens.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons whose information contains any of {@code keywords} as a whole word, ignoring case.
+     * Blank keywords never match.
+     */
+    Set<Person> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            Set<Person> posting = postings.get(StringUtil.normalizeWord(keyword));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+}
@@ -14,5 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that increases every time the contents of this address book are modified.
+     * The address book has not been modified between two reads that return the same version.
+     */
+    long getModificationVersion();
 
 }
@@ -8,4 +8,10 @@ import seedu.address.model.event.Event;
  */
 public interface ReadOnlyEventBook {
     ObservableList<Event> getEventList();
+
+    /**
+     * Returns a number that increases every time the contents of this event book are modified.
+     * The event book has not been modified between two reads that return the same version.
+     */
+    long getModificationVersion();
 }
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the user-defined command aliases mapped to the command words they stand for.
+     */
+    Map<String, String> getAliases();
+
 }
@@ -4,7 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -16,6 +19,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path eventBookFilePath = Paths.get("data" , "eventbook.json");
+    private Map<String, String> aliases = new TreeMap<>();
 
 
     /**
@@ -38,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAliases(newUserPrefs.getAliases());
     }
 
     public GuiSettings getGuiSettings() {
@@ -58,6 +63,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    @Override
+    public Map<String, String> getAliases() {
+        return Collections.unmodifiableMap(aliases);
+    }
+
+    public void setAliases(Map<String, String> aliases) {
+        requireNonNull(aliases);
+        this.aliases = new TreeMap<>(aliases);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +86,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && aliases.equals(otherUserPrefs.aliases);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, aliases);
     }
 
     @Override
@@ -84,6 +100,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nAliases : " + aliases);
         return sb.toString();
     }
 
@@ -10,6 +10,14 @@ import seedu.address.model.person.CategoryType;
  * Represents an Event's category in the address book.
  */
 public class EventCategory {
+    private static final EventCategory[] CANONICAL_CATEGORIES = new EventCategory[CategoryType.values().length];
+
+    static {
+        for (CategoryType type : CategoryType.values()) {
+            CANONICAL_CATEGORIES[type.ordinal()] = new EventCategory(type.name());
+        }
+    }
+
     public final String value;
 
     /**
@@ -26,6 +34,20 @@ public class EventCategory {
         value = eventCategory;
     }
 
+    /**
+     * Returns the shared {@code EventCategory} with the specified category value.
+     * Event categories are immutable, so every event of the same category can share one instance.
+     *
+     * @param eventCategory The category value of the event.
+     * @throws NullPointerException If the given category value is null.
+     * @throws IllegalArgumentException If the given category value is invalid.
+     */
+    public static EventCategory of(String eventCategory) {
+        requireNonNull(eventCategory);
+        checkArgument(isValidCategory(eventCategory), MESSAGE_CONSTRAINTS);
+        return CANONICAL_CATEGORIES[CategoryType.valueOf(eventCategory).ordinal()];
+    }
+
     /**
      * Returns true if a given string is a valid Category.
      */
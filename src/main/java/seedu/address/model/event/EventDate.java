@@ -17,8 +17,15 @@ public class EventDate {
             "Dates of events should be in DD-MM-YYYY format, and it should not be blank. ";
 
     public static final String VALIDATION_REGEX = "^[0-3]?[0-9].[0-3]?[0-9].(?:[0-9]{2})?[0-9]{2}$";
+
+    /** Formatters are immutable and thread-safe, so a single one serves every parse. */
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
     public final String eventDate;
 
+    /** The date as a count of days since the epoch, 1970-01-01, so that dates can be compared without parsing. */
+    private final long epochDay;
+
 
     /**
      * Constructs a {@code Date}.
@@ -27,8 +34,10 @@ public class EventDate {
      */
     public EventDate(String eventDate) {
         requireNonNull(eventDate);
-        checkArgument(isValidDate(eventDate), MESSAGE_CONSTRAINTS);
+        LocalDate date = parse(eventDate);
+        checkArgument(date != null, MESSAGE_CONSTRAINTS);
         this.eventDate = eventDate;
+        this.epochDay = date.toEpochDay();
     }
 
 
@@ -36,15 +45,34 @@ public class EventDate {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidDate(String test) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        return parse(test) != null;
+    }
+
+    /**
+     * Returns the date that {@code test} represents, or null if it is not a valid date.
+     */
+    private static LocalDate parse(String test) {
         try {
-            LocalDate date = LocalDate.parse(test, formatter);
-            return true;
+            return LocalDate.parse(test, FORMATTER);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
+    /**
+     * Returns the date as a count of days since the epoch, 1970-01-01.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the date as a {@code LocalDate}.
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
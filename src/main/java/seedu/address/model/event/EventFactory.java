@@ -4,7 +4,10 @@ package seedu.address.model.event;
  * Factory class for creating Event objects.
  */
 public class EventFactory {
+    /**
+     * Creates an Event with the shared instance of its category, whichever instance is passed in.
+     */
     public static Event createEvent(EventName name, EventDate date, EventCategory category) {
-        return new Event(name, date, category);
+        return new Event(name, date, EventCategory.of(category.value));
     }
 }
@@ -3,11 +3,18 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChange;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 
@@ -18,6 +25,12 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * unique in terms of identity in the UniqueEventList. However, the removal of a event uses Event#isSameEvent(Event) so
  * as to ensure that the event with exactly the same fields will be removed.
  *
+ * Events in the list are also indexed by their (name, date, category) key, so identity checks and lookups do not
+ * need to scan the list.
+ *
+ * The events are also kept in a {@code PersistentList}, from which a {@code Snapshot} of the list can be taken in
+ * constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -26,13 +39,16 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<EventKey, Event> eventIndex = new HashMap<>();
+
+    private PersistentList<Event> versionedEvents = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return eventIndex.containsKey(EventKey.of(toCheck));
     }
 
     /**
@@ -45,6 +61,8 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        versionedEvents = versionedEvents.add(toAdd);
+        eventIndex.put(EventKey.of(toAdd), toAdd);
     }
 
     /**
@@ -55,8 +73,8 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Event current = eventIndex.get(EventKey.of(target));
+        if (current == null) {
             throw new EventNotFoundException();
         }
 
@@ -64,7 +82,11 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
+        int index = internalList.indexOf(current);
         internalList.set(index, editedEvent);
+        versionedEvents = versionedEvents.set(index, editedEvent);
+        eventIndex.remove(EventKey.of(current));
+        eventIndex.put(EventKey.of(editedEvent), editedEvent);
     }
 
     /**
@@ -72,20 +94,22 @@ public class UniqueEventList implements Iterable<Event> {
      * The person must exist in the list.
      */
     public void remove(Event toRemove) {
-        //requireNonNull(toRemove);
-        //if (!internalList.remove(toRemove)) {
-        //    throw new EventNotFoundException();
-        //}
         requireNonNull(toRemove);
-        final boolean eventWasRemoved = internalList.removeIf(toRemove::isSameEvent);
-        if (!eventWasRemoved) {
+        Event existing = eventIndex.remove(EventKey.of(toRemove));
+        if (existing == null) {
             throw new EventNotFoundException();
         }
+        int index = internalList.indexOf(existing);
+        internalList.remove(index);
+        versionedEvents = versionedEvents.remove(index);
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        versionedEvents = replacement.versionedEvents;
+        eventIndex.clear();
+        eventIndex.putAll(replacement.eventIndex);
     }
 
     /**
@@ -99,6 +123,46 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.setAll(events);
+        versionedEvents = PersistentList.of(events);
+        eventIndex.clear();
+        for (Event event : events) {
+            eventIndex.put(EventKey.of(event), event);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the events in the list, in order. Takes constant time.
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(versionedEvents);
+    }
+
+    /**
+     * Replaces the contents of this list with the events of {@code snapshot}.
+     * Only the range of events in which the list differs from the snapshot is replaced, and it is found by skipping
+     * the structure they share, so this takes time in proportion to the change rather than to the whole list.
+     *
+     * @return the events that were taken out of the list and those that were put back in their place.
+     */
+    public ListChange<Event> restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+
+        int from = versionedEvents.countCommonPrefix(snapshot.events);
+        int suffix = versionedEvents.countCommonSuffix(snapshot.events,
+                Math.min(versionedEvents.size(), snapshot.events.size()) - from);
+        List<Event> removed = versionedEvents.toList(from, versionedEvents.size() - suffix);
+        List<Event> added = snapshot.events.toList(from, snapshot.events.size() - suffix);
+
+        if (!removed.isEmpty()) {
+            internalList.subList(from, from + removed.size()).clear();
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(from, added);
+        }
+        versionedEvents = snapshot.events;
+        removed.forEach(event -> eventIndex.remove(EventKey.of(event), event));
+        added.forEach(event -> eventIndex.put(EventKey.of(event), event));
+        return new ListChange<>(removed, added);
     }
 
     /**
@@ -142,13 +206,146 @@ public class UniqueEventList implements Iterable<Event> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<EventKey> seenKeys = new HashSet<>();
+        for (Event event : events) {
+            if (!seenKeys.add(EventKey.of(event))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The events of a {@code UniqueEventList} at some point in time.
+     * A snapshot shares its structure with the list it was taken from, and is not changed by later changes to it.
+     */
+    public static final class Snapshot {
+        private final PersistentList<Event> events;
+
+        private Snapshot(PersistentList<Event> events) {
+            this.events = events;
+        }
+
+        /**
+         * Returns the events of the snapshot, in order.
+         */
+        public List<Event> getEvents() {
+            return events.toList();
+        }
+
+        /**
+         * Returns the events of the snapshot from index {@code from} to {@code to}, exclusive, in order.
+         * Takes O(k log n) time for k events.
+         *
+         * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+         */
+        public List<Event> getEvents(int from, int to) {
+            return events.toList(from, to);
+        }
+
+        public int size() {
+            return events.size();
+        }
+
+        /**
+         * Returns the number of events at the start of this snapshot that are the same as at the start of
+         * {@code other}.
+         *
+         * @see PersistentList#countCommonPrefix(PersistentList)
+         */
+        public int countCommonPrefix(Snapshot other) {
+            requireNonNull(other);
+            return events.countCommonPrefix(other.events);
+        }
+
+        /**
+         * Returns the number of events, up to {@code maxLength}, at the end of this snapshot that are the same as at
+         * the end of {@code other}.
+         *
+         * @see PersistentList#countCommonSuffix(PersistentList, int)
+         */
+        public int countCommonSuffix(Snapshot other, int maxLength) {
+            requireNonNull(other);
+            return events.countCommonSuffix(other.events, maxLength);
+        }
+
+        /**
+         * Returns true if {@code other} is a snapshot of the same state of the list as this one.
+         * Takes constant time, as only snapshots that share their structure are recognized.
+         */
+        public boolean isSameState(Snapshot other) {
+            return other != null && events == other.events;
+        }
+
+        /**
+         * Returns an estimate of the number of nodes of this snapshot that are not shared with {@code other}.
+         *
+         * @see PersistentList#countNodesNotSharedWith(PersistentList)
+         */
+        public int countNodesNotSharedWith(Snapshot other) {
+            requireNonNull(other);
+            return events.countNodesNotSharedWith(other.events);
+        }
+
+        /**
+         * Returns a snapshot in which the events from index {@code from} to {@code to}, exclusive, are replaced by
+         * {@code replacements}. The rest of the snapshot is shared with this one.
+         *
+         * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+         */
+        public Snapshot splice(int from, int to, List<Event> replacements) {
+            requireNonNull(replacements);
+            if (from < 0 || from > to || to > events.size()) {
+                throw new IndexOutOfBoundsException("Range: " + from + " to " + to + ", Size: " + events.size());
+            }
+
+            PersistentList<Event> splicedEvents = events;
+            for (int i = from; i < to; i++) {
+                splicedEvents = splicedEvents.remove(from);
+            }
+            for (int i = 0; i < replacements.size(); i++) {
+                splicedEvents = splicedEvents.add(from + i, replacements.get(i));
+            }
+            return new Snapshot(splicedEvents);
+        }
+    }
+
+    /**
+     * Hash key for the identity rule in {@code Event#isSameEvent}: the event's name, date and category.
+     */
+    private static final class EventKey {
+        private final EventName name;
+        private final EventDate date;
+        private final EventCategory category;
+
+        private EventKey(EventName name, EventDate date, EventCategory category) {
+            this.name = name;
+            this.date = date;
+            this.category = category;
+        }
+
+        static EventKey of(Event event) {
+            return new EventKey(event.getEventName(), event.getEventDate(), event.getEventCategory());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof EventKey)) {
+                return false;
+            }
+
+            EventKey otherKey = (EventKey) other;
+            return name.equals(otherKey.name) && date.equals(otherKey.date) && category.equals(otherKey.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, date, category);
+        }
+    }
 }
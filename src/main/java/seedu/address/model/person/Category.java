@@ -9,6 +9,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Category {
     public static final String MESSAGE_CONSTRAINTS =
             "Category should be one of participant, staff, and sponsor.";
+
+    private static final Category[] CANONICAL_CATEGORIES = new Category[CategoryType.values().length];
+
+    static {
+        for (CategoryType type : CategoryType.values()) {
+            CANONICAL_CATEGORIES[type.ordinal()] = new Category(type.name());
+        }
+    }
+
     public final String value;
     public final CategoryType type;
 
@@ -24,6 +33,26 @@ public class Category {
         type = CategoryType.valueOf(category.toUpperCase());
     }
 
+    /**
+     * Returns the shared {@code Category} of {@code type}.
+     * Categories are immutable, so every person of the same category can share one instance.
+     */
+    public static Category of(CategoryType type) {
+        requireNonNull(type);
+        return CANONICAL_CATEGORIES[type.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code Category} named {@code category}.
+     *
+     * @param category one of Participant, Staff, and Sponsors.
+     */
+    public static Category of(String category) {
+        requireNonNull(category);
+        checkArgument(isValidCategory(category), MESSAGE_CONSTRAINTS);
+        return of(CategoryType.valueOf(category));
+    }
+
     /**
      * Returns true if a given string is a valid Category.
      */
@@ -53,7 +82,7 @@ public class Category {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return type.hashCode();
     }
 
 }
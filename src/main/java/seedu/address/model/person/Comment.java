@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.validation.Validators;
+
 /**
  * Represents a Person's comment in the HackLink.
  * Guarantees: immutable; is valid as declared in {@link #isValidComment(String)}
@@ -42,7 +44,7 @@ public class Comment {
      * Returns true if a given string is a valid comment.
      */
     public static boolean isValidComment(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Validators.COMMENT.isValid(test);
     }
 
     public boolean hasComment() {
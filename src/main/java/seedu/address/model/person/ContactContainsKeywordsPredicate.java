@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -13,6 +14,7 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class ContactContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] normalizedKeywords;
 
     /**
      * Creates a ContactContainsKeywordsPredicate with the given keywords.
@@ -22,17 +24,24 @@ public class ContactContainsKeywordsPredicate implements Predicate<Person> {
     public ContactContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).toArray(String[]::new);
     }
 
     /**
      * Tests that a {@code Person}'s information matches any of the keywords given.
+     * Matches against the person's cached search tokens, so no allocation happens per test.
      *
      * @param person the input argument
      * @return true if the person's information contains any of the keywords given
      */
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getInformation(), keyword));
+        Set<String> searchTokens = person.getSearchTokens();
+        for (int i = 0; i < normalizedKeywords.length; i++) {
+            if (searchTokens.contains(normalizedKeywords[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public List<String> getKeywords() {
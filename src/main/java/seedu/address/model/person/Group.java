@@ -2,18 +2,30 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Person's group in the hackathon.
  */
 public class Group {
     public static final String MESSAGE_CONSTRAINTS =
             "Group should be a positive integer.";
-    private static int totalGroupNumber = 0;
+
+    /** Group numbers below this are created up front; hackathons rarely have more groups than this. */
+    private static final int PRECREATED_GROUPS = 256;
+    private static final Group[] PRECREATED = new Group[PRECREATED_GROUPS];
+    private static final ConcurrentMap<Integer, Group> CREATED = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < PRECREATED_GROUPS; i++) {
+            PRECREATED[i] = new Group(i);
+        }
+    }
 
     public final String value;
     private final int groupNumber;
 
-
     /**
      * Constructs a default {@code Group} with group number 0.
      */
@@ -33,6 +45,20 @@ public class Group {
         this.value = String.valueOf(groupNumber);
     }
 
+    /**
+     * Returns the shared {@code Group} with group number {@code groupNumber}.
+     * Groups are immutable, so every person in the same group can share one instance.
+     *
+     * @param groupNumber a positive integer.
+     */
+    public static Group of(int groupNumber) {
+        checkArgument(isValidGroup(groupNumber), MESSAGE_CONSTRAINTS);
+        if (groupNumber < PRECREATED_GROUPS) {
+            return PRECREATED[groupNumber];
+        }
+        return CREATED.computeIfAbsent(groupNumber, Group::new);
+    }
+
     /**
      * Returns true if a given integer is a valid Group. Includes 0 for default group.
      */
@@ -54,20 +80,6 @@ public class Group {
         }
     }
 
-    /**
-     * Sets the last group number.
-     */
-    public static void setTotalGroupNumber(int lastNumber) {
-        totalGroupNumber = lastNumber;
-    }
-
-    /**
-     * Returns the last group number.
-     */
-    public static int getTotalGroupNumber() {
-        return totalGroupNumber;
-    }
-
     /**
      * Returns the group number.
      */
@@ -79,7 +91,7 @@ public class Group {
         switch (categoryType) {
         case PARTICIPANT:
         case STAFF:
-            return new Group();
+            return of(0);
         case SPONSOR:
             return null;
         default:
@@ -107,4 +119,9 @@ public class Group {
         Group otherCategory = (Group) other;
         return groupNumber == otherCategory.groupNumber;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(groupNumber);
+    }
 }
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Allocates persons to groups at random, in time linear in the number of persons.
+ *
+ * The persons are shuffled with a Fisher-Yates shuffle and dealt round-robin into the fewest groups that respect the
+ * maximum group size, so the sizes of any two groups differ by at most one. Persons of the categories to spread are
+ * shuffled and dealt first, category by category, so each of those categories is spread as evenly as the groups are.
+ */
+public class GroupAllocator {
+
+    public static final String MESSAGE_CONSTRAINTS = "The maximum group size should be a positive integer.";
+
+    private final int maxGroupSize;
+    private final List<Category> spreadCategories;
+    private final Random random;
+
+    /**
+     * Creates a {@code GroupAllocator}.
+     *
+     * @param maxGroupSize a positive integer.
+     * @param spreadCategories categories whose persons are to be spread across the groups, in order of priority.
+     * @param random source of randomness; seeding it makes the allocation reproducible.
+     */
+    public GroupAllocator(int maxGroupSize, List<Category> spreadCategories, Random random) {
+        requireAllNonNull(spreadCategories, random);
+        checkArgument(maxGroupSize > 0, MESSAGE_CONSTRAINTS);
+        this.maxGroupSize = maxGroupSize;
+        this.spreadCategories = new ArrayList<>(spreadCategories);
+        this.random = random;
+    }
+
+    /**
+     * Returns the number of groups that {@code numberOfPersons} persons are allocated to.
+     */
+    public int getNumberOfGroups(int numberOfPersons) {
+        return (numberOfPersons + maxGroupSize - 1) / maxGroupSize;
+    }
+
+    /**
+     * Returns the group number allocated to each of {@code persons}, at the same position as the person.
+     * Group numbers run from 1 to {@link #getNumberOfGroups(int)}.
+     */
+    public int[] allocate(List<Person> persons) {
+        requireNonNull(persons);
+        int numberOfPersons = persons.size();
+        int numberOfGroups = getNumberOfGroups(numberOfPersons);
+
+        int[] order = orderByStratum(persons);
+
+        // without this, the first groups would always be the larger ones and get the spread persons first
+        int[] groupNumbers = new int[numberOfGroups];
+        for (int i = 0; i < numberOfGroups; i++) {
+            groupNumbers[i] = i + 1;
+        }
+        shuffle(groupNumbers, 0, numberOfGroups);
+
+        int[] allocation = new int[numberOfPersons];
+        for (int position = 0; position < numberOfPersons; position++) {
+            allocation[order[position]] = groupNumbers[position % numberOfGroups];
+        }
+        return allocation;
+    }
+
+    /**
+     * Returns the indices of {@code persons} grouped into strata, one for each category to spread in order and a last
+     * one for everyone else, with each stratum shuffled.
+     */
+    private int[] orderByStratum(List<Person> persons) {
+        int numberOfStrata = spreadCategories.size() + 1;
+        int[] strata = new int[persons.size()];
+        int[] stratumStarts = new int[numberOfStrata + 1];
+        for (int i = 0; i < persons.size(); i++) {
+            strata[i] = getStratum(persons.get(i));
+            stratumStarts[strata[i] + 1]++;
+        }
+        for (int stratum = 0; stratum < numberOfStrata; stratum++) {
+            stratumStarts[stratum + 1] += stratumStarts[stratum];
+        }
+
+        int[] order = new int[persons.size()];
+        int[] nextPositions = stratumStarts.clone();
+        for (int i = 0; i < persons.size(); i++) {
+            order[nextPositions[strata[i]]++] = i;
+        }
+        for (int stratum = 0; stratum < numberOfStrata; stratum++) {
+            shuffle(order, stratumStarts[stratum], stratumStarts[stratum + 1]);
+        }
+        return order;
+    }
+
+    private int getStratum(Person person) {
+        int stratum = spreadCategories.indexOf(person.getCategory());
+        return stratum == -1 ? spreadCategories.size() : stratum;
+    }
+
+    /**
+     * Shuffles the elements of {@code array} from {@code from}, inclusive, to {@code to}, exclusive, in place.
+     */
+    private void shuffle(int[] array, int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            int swapped = array[i];
+            array[i] = array[j];
+            array[j] = swapped;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -11,15 +14,26 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a NameContainsKeywordsPredicate with the given keywords.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.normalizedKeywords = keywords.stream().map(StringUtil::normalizeWord).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Set<String> nameTokens = person.getNameTokens();
+        for (int i = 0; i < normalizedKeywords.length; i++) {
+            if (nameTokens.contains(normalizedKeywords[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
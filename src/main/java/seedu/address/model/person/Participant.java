@@ -16,7 +16,7 @@ public class Participant extends Person {
      */
     public Participant(Name name, Phone phone, Email email, Category category, Comment comment) {
         super(name, phone, email, category, comment);
-        this.group = new Group();
+        this.group = Group.of(0);
     }
 
     /**
@@ -25,6 +25,7 @@ public class Participant extends Person {
     @Override
     public void setGroup(Group group) {
         this.group = group;
+        invalidateSearchTokens();
     }
 
     /**
@@ -40,7 +41,8 @@ public class Participant extends Person {
      */
     @Override
     public void setGroupNumber(int groupNumber) {
-        this.group = new Group(groupNumber);
+        this.group = Group.of(groupNumber);
+        invalidateSearchTokens();
     }
 
     /**
@@ -3,7 +3,9 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.Set;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -21,6 +23,10 @@ public abstract class Person implements Identifiable {
     // Data fields
     private final Comment comment;
 
+    // Search fields, computed lazily and cached per instance
+    private Set<String> nameTokens;
+    private Set<String> searchTokens;
+
     /**
      * Constructs person with essential information and given comment. Every field must be present and not null.
      */
@@ -53,6 +59,39 @@ public abstract class Person implements Identifiable {
         return comment;
     }
 
+    /**
+     * Returns the normalized words of this person's name.
+     *
+     * @see StringUtil#toNormalizedWordSet(String)
+     */
+    public Set<String> getNameTokens() {
+        if (nameTokens == null) {
+            nameTokens = StringUtil.toNormalizedWordSet(name.fullName);
+        }
+        return nameTokens;
+    }
+
+    /**
+     * Returns the normalized words of {@link #getInformation()}.
+     * The set is computed once and reused until the information changes.
+     *
+     * @see StringUtil#toNormalizedWordSet(String)
+     */
+    public Set<String> getSearchTokens() {
+        if (searchTokens == null) {
+            searchTokens = StringUtil.toNormalizedWordSet(getInformation());
+        }
+        return searchTokens;
+    }
+
+    /**
+     * Discards the cached search tokens. Must be called by subclasses whenever a field
+     * that is part of {@link #getInformation()} changes.
+     */
+    protected void invalidateSearchTokens() {
+        searchTokens = null;
+    }
+
     public abstract Group getGroup();
 
     public abstract void setGroup(Group group);
@@ -20,9 +20,12 @@ public class PersonFactory {
 
     /**
      * Creates a Person with the category, comment and group.
+     * The person is given the shared instances of its category and group, whichever instances are passed in.
      */
     public static Person createPerson(Name name, Phone phone, Email email, Category category, Comment comment,
                                       Group group) {
+        category = Category.of(category.type);
+        group = group == null ? null : Group.of(group.getGroupNumber());
         Person categoryPerson;
         switch (category.type) {
         case PARTICIPANT:
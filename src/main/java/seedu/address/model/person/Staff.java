@@ -15,7 +15,7 @@ public class Staff extends Person {
      */
     public Staff(Name name, Phone phone, Email email, Category category, Comment comment) {
         super(name, phone, email, category, comment);
-        this.group = new Group();
+        this.group = Group.of(0);
     }
 
     /**
@@ -24,6 +24,7 @@ public class Staff extends Person {
     @Override
     public void setGroup(Group group) {
         this.group = group;
+        invalidateSearchTokens();
     }
 
     /**
@@ -39,7 +40,8 @@ public class Staff extends Person {
      */
     @Override
     public void setGroupNumber(int groupNumber) {
-        this.group = new Group(groupNumber);
+        this.group = Group.of(groupNumber);
+        invalidateSearchTokens();
     }
 
     /**
@@ -3,11 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ListChange;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +26,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since two persons share an identity when they have the same name and either the same phone or the same email,
+ * the list keeps a hash index on (name, phone) and on (name, email) next to the observable list. Identity checks are
+ * therefore constant-time, and the index is kept in step with every operation that modifies the list.
+ *
+ * The persons are also kept, with their group numbers, in a {@code PersistentList}, from which a {@code Snapshot} of
+ * the list can be taken in constant time. As group numbers are changed in place, every operation records the group
+ * number that each person it touches has at that point.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +44,18 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<IdentityKey, Person> nameAndPhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Person> nameAndEmailIndex = new HashMap<>();
+
+    private PersistentList<Entry> entries = PersistentList.empty();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameIdentity);
+        return nameAndPhoneIndex.containsKey(IdentityKey.ofPhone(toCheck))
+                || nameAndEmailIndex.containsKey(IdentityKey.ofEmail(toCheck));
     }
 
     /**
@@ -46,6 +68,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        entries = entries.add(Entry.of(toAdd));
+        index(toAdd);
     }
 
     /**
@@ -61,11 +85,15 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSameIdentity(editedPerson) && contains(editedPerson)) {
+        Person current = internalList.get(index);
+        if (isIdentityTakenByOther(editedPerson, current)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        entries = entries.set(index, Entry.of(editedPerson));
+        unindex(current);
+        index(editedPerson);
     }
 
     /**
@@ -74,14 +102,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person existing = nameAndPhoneIndex.get(IdentityKey.ofPhone(toRemove));
+        if (existing == null || !existing.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
+
+        int index = internalList.indexOf(existing);
+        internalList.remove(index);
+        entries = entries.remove(index);
+        unindex(existing);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        entries = replacement.entries;
+        nameAndPhoneIndex.clear();
+        nameAndPhoneIndex.putAll(replacement.nameAndPhoneIndex);
+        nameAndEmailIndex.clear();
+        nameAndEmailIndex.putAll(replacement.nameAndEmailIndex);
     }
 
     /**
@@ -94,7 +133,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        List<Entry> newEntries = new ArrayList<>(persons.size());
+        persons.forEach(person -> newEntries.add(Entry.of(person)));
+
         internalList.setAll(persons);
+        entries = PersistentList.of(newEntries);
+        nameAndPhoneIndex.clear();
+        nameAndEmailIndex.clear();
+        persons.forEach(this::index);
     }
 
     /**
@@ -112,7 +158,56 @@ public class UniquePersonList implements Iterable<Person> {
 
         target.setGroupNumber(groupNumber);
 
+        Person current = internalList.get(index);
         internalList.set(index, target);
+        entries = entries.set(index, Entry.of(target));
+        unindex(current);
+        index(target);
+    }
+
+    /**
+     * Returns a snapshot of the persons in the list, in order, and of their group numbers. Takes constant time.
+     */
+    public Snapshot getSnapshot() {
+        return new Snapshot(entries);
+    }
+
+    /**
+     * Replaces the contents of this list with the persons of {@code snapshot}, and puts each of them back into the
+     * group they were in when the snapshot was taken.
+     * Only the range of persons in which the list differs from the snapshot is replaced, and it is found by skipping
+     * the structure they share, so this takes time in proportion to the change rather than to the whole list.
+     *
+     * @return the persons that were taken out of the list and those that were put back in their place.
+     */
+    public ListChange<Person> restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+
+        // the persons outside the range have the same entries, which hold the groups they are in now
+        int from = entries.countCommonPrefix(snapshot.entries);
+        int suffix = entries.countCommonSuffix(snapshot.entries,
+                Math.min(entries.size(), snapshot.entries.size()) - from);
+        List<Entry> removedEntries = entries.toList(from, entries.size() - suffix);
+        List<Entry> addedEntries = snapshot.entries.toList(from, snapshot.entries.size() - suffix);
+
+        List<Person> removed = new ArrayList<>(removedEntries.size());
+        removedEntries.forEach(entry -> removed.add(entry.person));
+        List<Person> added = new ArrayList<>(addedEntries.size());
+        for (Entry entry : addedEntries) {
+            entry.restoreGroupNumber();
+            added.add(entry.person);
+        }
+
+        if (!removed.isEmpty()) {
+            internalList.subList(from, from + removed.size()).clear();
+        }
+        if (!added.isEmpty()) {
+            internalList.addAll(from, added);
+        }
+        entries = snapshot.entries;
+        removed.forEach(this::unindex);
+        added.forEach(this::index);
+        return new ListChange<>(removed, added);
     }
 
     /**
@@ -156,13 +251,221 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameIdentity(persons.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenNameAndPhone = new HashSet<>();
+        Set<IdentityKey> seenNameAndEmail = new HashSet<>();
+        for (Person person : persons) {
+            boolean isNewPhone = seenNameAndPhone.add(IdentityKey.ofPhone(person));
+            boolean isNewEmail = seenNameAndEmail.add(IdentityKey.ofEmail(person));
+            if (!isNewPhone || !isNewEmail) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns true if the identity of {@code person} is held by a person in the list other than {@code ignored}.
+     */
+    private boolean isIdentityTakenByOther(Person person, Person ignored) {
+        Person samePhone = nameAndPhoneIndex.get(IdentityKey.ofPhone(person));
+        Person sameEmail = nameAndEmailIndex.get(IdentityKey.ofEmail(person));
+        return (samePhone != null && samePhone != ignored) || (sameEmail != null && sameEmail != ignored);
+    }
+
+    private void index(Person person) {
+        nameAndPhoneIndex.put(IdentityKey.ofPhone(person), person);
+        nameAndEmailIndex.put(IdentityKey.ofEmail(person), person);
+    }
+
+    private void unindex(Person person) {
+        nameAndPhoneIndex.remove(IdentityKey.ofPhone(person), person);
+        nameAndEmailIndex.remove(IdentityKey.ofEmail(person), person);
+    }
+
+    /**
+     * The persons of a {@code UniquePersonList} at some point in time, with the group numbers they had then.
+     * A snapshot shares its structure with the list it was taken from, and is not changed by later changes to it.
+     */
+    public static final class Snapshot {
+        private final PersistentList<Entry> entries;
+
+        private Snapshot(PersistentList<Entry> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Returns the persons of the snapshot, in order.
+         */
+        public List<Person> getPersons() {
+            List<Person> persons = new ArrayList<>(entries.size());
+            entries.forEach(entry -> persons.add(entry.person));
+            return persons;
+        }
+
+        /**
+         * Returns the persons of the snapshot from index {@code from} to {@code to}, exclusive, in order.
+         * Takes O(k log n) time for k persons.
+         *
+         * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+         */
+        public List<Person> getPersons(int from, int to) {
+            List<Person> persons = new ArrayList<>(Math.max(to - from, 0));
+            entries.toList(from, to).forEach(entry -> persons.add(entry.person));
+            return persons;
+        }
+
+        /**
+         * Returns the group numbers that the persons had when the snapshot was taken, in the order of
+         * {@link #getPersons()}.
+         */
+        public int[] getGroupNumbers() {
+            return getGroupNumbers(0, entries.size());
+        }
+
+        /**
+         * Returns the group numbers that the persons from index {@code from} to {@code to}, exclusive, had when the
+         * snapshot was taken, in order.
+         *
+         * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+         */
+        public int[] getGroupNumbers(int from, int to) {
+            List<Entry> range = entries.toList(from, to);
+            int[] groupNumbers = new int[range.size()];
+            for (int i = 0; i < range.size(); i++) {
+                groupNumbers[i] = range.get(i).groupNumber;
+            }
+            return groupNumbers;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        /**
+         * Returns the number of persons at the start of this snapshot that are the same, and in the same groups, as
+         * at the start of {@code other}.
+         *
+         * @see PersistentList#countCommonPrefix(PersistentList)
+         */
+        public int countCommonPrefix(Snapshot other) {
+            requireNonNull(other);
+            return entries.countCommonPrefix(other.entries);
+        }
+
+        /**
+         * Returns the number of persons, up to {@code maxLength}, at the end of this snapshot that are the same, and
+         * in the same groups, as at the end of {@code other}.
+         *
+         * @see PersistentList#countCommonSuffix(PersistentList, int)
+         */
+        public int countCommonSuffix(Snapshot other, int maxLength) {
+            requireNonNull(other);
+            return entries.countCommonSuffix(other.entries, maxLength);
+        }
+
+        /**
+         * Returns true if {@code other} is a snapshot of the same state of the list as this one.
+         * Takes constant time, as only snapshots that share their structure are recognized.
+         */
+        public boolean isSameState(Snapshot other) {
+            return other != null && entries == other.entries;
+        }
+
+        /**
+         * Returns an estimate of the number of nodes of this snapshot that are not shared with {@code other}.
+         *
+         * @see PersistentList#countNodesNotSharedWith(PersistentList)
+         */
+        public int countNodesNotSharedWith(Snapshot other) {
+            requireNonNull(other);
+            return entries.countNodesNotSharedWith(other.entries);
+        }
+
+        /**
+         * Returns a snapshot in which the persons from index {@code from} to {@code to}, exclusive, are replaced by
+         * {@code persons}, in the groups they are in now. The rest of the snapshot is shared with this one.
+         *
+         * @throws IndexOutOfBoundsException if {@code from} or {@code to} is out of range.
+         */
+        public Snapshot splice(int from, int to, List<Person> persons) {
+            requireNonNull(persons);
+            if (from < 0 || from > to || to > entries.size()) {
+                throw new IndexOutOfBoundsException("Range: " + from + " to " + to + ", Size: " + entries.size());
+            }
+
+            PersistentList<Entry> splicedEntries = entries;
+            for (int i = from; i < to; i++) {
+                splicedEntries = splicedEntries.remove(from);
+            }
+            for (int i = 0; i < persons.size(); i++) {
+                splicedEntries = splicedEntries.add(from + i, Entry.of(persons.get(i)));
+            }
+            return new Snapshot(splicedEntries);
+        }
+    }
+
+    /**
+     * A person in the list, with the group number the person had when the entry was made.
+     */
+    private static final class Entry {
+        private final Person person;
+        private final int groupNumber;
+
+        private Entry(Person person, int groupNumber) {
+            this.person = person;
+            this.groupNumber = groupNumber;
+        }
+
+        static Entry of(Person person) {
+            return new Entry(person, person.getGroupNumber());
+        }
+
+        void restoreGroupNumber() {
+            if (!(person instanceof Sponsor) && person.getGroupNumber() != groupNumber) {
+                person.setGroupNumber(groupNumber);
+            }
+        }
+    }
+
+    /**
+     * Hash key for one half of the identity rule in {@code Person#isSameIdentity}: a name paired with either a phone
+     * or an email.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Object contact;
+
+        private IdentityKey(Name name, Object contact) {
+            this.name = name;
+            this.contact = contact;
+        }
+
+        static IdentityKey ofPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return name.equals(otherKey.name) && contact.equals(otherKey.contact);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, contact);
+        }
+    }
 }
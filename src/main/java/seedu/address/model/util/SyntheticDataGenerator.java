@@ -0,0 +1,205 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventCategory;
+import seedu.address.model.event.EventDate;
+import seedu.address.model.event.EventFactory;
+import seedu.address.model.event.EventName;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.CategoryType;
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.Phone;
+
+/**
+ * Generates any number of valid persons and events for load testing, one at a time.
+ *
+ * The same seed always generates the same persons and events. Persons are spread across the categories roughly as
+ * they are at a hackathon: most are participants, who form groups of three to five with a few left ungrouped; some
+ * staff mentor a group; sponsors are never grouped. Every person has a distinct phone and email, and every event a
+ * distinct name, so any number of them can be put in the same address book and event book.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_INVALID_COUNT =
+            "The number of persons or events should be a non-negative integer.";
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Peter", "Aisha", "Wei Ling", "Arjun", "Mei",
+        "Jun Hao", "Siti", "Ravi", "Hui Min", "Marcus", "Nurul", "Kai", "Priya", "Daniel"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Lee", "Tan", "Lim", "Ng", "Wong", "Goh",
+        "Kumar", "Chua", "Rahman", "Ong", "Teo", "Koh", "Chen", "Singh"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "example.org", "example.net"};
+    private static final String[] COMMENTS = {
+        "Vegetarian", "Needs a parking coupon", "First hackathon", "Arriving late on day one", "Allergic to nuts"
+    };
+    private static final String[] EVENT_TOPICS = {
+        "Opening Ceremony", "Team Formation", "Workshop", "Mentor Session", "Sponsor Talk", "Lunch", "Checkpoint",
+        "Networking Night", "Pitching", "Judging", "Closing Ceremony"
+    };
+
+    private static final int PARTICIPANT_PERCENTAGE = 85;
+    private static final int STAFF_PERCENTAGE = 10;
+    private static final int UNGROUPED_PARTICIPANT_PERCENTAGE = 10;
+    private static final int MENTORING_STAFF_PERCENTAGE = 30;
+    private static final int COMMENTED_PERCENTAGE = 20;
+    private static final int MIN_GROUP_SIZE = 3;
+    private static final int MAX_GROUP_SIZE = 5;
+
+    private static final long FIRST_PHONE_NUMBER = 80000000L;
+    private static final LocalDate FIRST_EVENT_DATE = LocalDate.of(2025, 1, 1);
+    private static final int EVENT_DAYS = 365;
+    private static final DateTimeFormatter EVENT_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns an iterator over {@code count} generated persons, each of which is generated only when it is reached.
+     */
+    public Iterator<Person> generatePersons(int count) {
+        checkArgument(count >= 0, MESSAGE_INVALID_COUNT);
+        return new PersonIterator(count, new Random(seed));
+    }
+
+    /**
+     * Returns an iterator over {@code count} generated events, each of which is generated only when it is reached.
+     */
+    public Iterator<Event> generateEvents(int count) {
+        checkArgument(count >= 0, MESSAGE_INVALID_COUNT);
+        return new EventIterator(count, new Random(seed));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static boolean isChosen(Random random, int percentage) {
+        return random.nextInt(100) < percentage;
+    }
+
+    /**
+     * Generates persons, forming groups as it goes.
+     */
+    private static class PersonIterator implements Iterator<Person> {
+        private final int count;
+        private final Random random;
+        private int generated;
+        private int currentGroupNumber;
+        private int currentGroupVacancies;
+
+        PersonIterator(int count, Random random) {
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < count;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int number = generated++;
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            Name name = new Name(firstName + " " + lastName);
+            Phone phone = new Phone(String.valueOf(FIRST_PHONE_NUMBER + number));
+            Email email = new Email((firstName + "." + lastName).toLowerCase().replace(' ', '.') + "." + number
+                    + "@" + pick(random, EMAIL_DOMAINS));
+            Comment comment = isChosen(random, COMMENTED_PERCENTAGE) ? new Comment(pick(random, COMMENTS))
+                    : new Comment();
+
+            CategoryType type = nextCategoryType();
+            return PersonFactory.createPerson(name, phone, email, Category.of(type), comment, nextGroup(type));
+        }
+
+        private CategoryType nextCategoryType() {
+            int percentile = random.nextInt(100);
+            if (percentile < PARTICIPANT_PERCENTAGE) {
+                return CategoryType.PARTICIPANT;
+            }
+            if (percentile < PARTICIPANT_PERCENTAGE + STAFF_PERCENTAGE) {
+                return CategoryType.STAFF;
+            }
+            return CategoryType.SPONSOR;
+        }
+
+        private Group nextGroup(CategoryType type) {
+            switch (type) {
+            case PARTICIPANT:
+                if (isChosen(random, UNGROUPED_PARTICIPANT_PERCENTAGE)) {
+                    return Group.of(0);
+                }
+                if (currentGroupVacancies == 0) {
+                    currentGroupNumber++;
+                    currentGroupVacancies = MIN_GROUP_SIZE + random.nextInt(MAX_GROUP_SIZE - MIN_GROUP_SIZE + 1);
+                }
+                currentGroupVacancies--;
+                return Group.of(currentGroupNumber);
+            case STAFF:
+                if (currentGroupNumber == 0 || !isChosen(random, MENTORING_STAFF_PERCENTAGE)) {
+                    return Group.of(0);
+                }
+                return Group.of(1 + random.nextInt(currentGroupNumber));
+            default:
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Generates events spread over a year.
+     */
+    private static class EventIterator implements Iterator<Event> {
+        private final int count;
+        private final Random random;
+        private int generated;
+
+        EventIterator(int count, Random random) {
+            this.count = count;
+            this.random = random;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return generated < count;
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            int number = ++generated;
+            EventName name = new EventName(pick(random, EVENT_TOPICS) + " " + number);
+            EventDate date = new EventDate(FIRST_EVENT_DATE.plusDays(random.nextInt(EVENT_DAYS))
+                    .format(EVENT_DATE_FORMATTER));
+            CategoryType type = CategoryType.values()[random.nextInt(CategoryType.values().length)];
+            return EventFactory.createEvent(name, date, EventCategory.of(type.name()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The outcome of validating a value with a {@link Validator}.
+ * An invalid result tells why the value was rejected, where in the value the problem lies if that is known, and
+ * the constraints message to show to the user.
+ */
+public final class ValidationResult {
+
+    /**
+     * Reasons for which a value can be rejected.
+     */
+    public enum FailureReason {
+        /** The value is empty. */
+        EMPTY,
+        /** The value contains a character that is not allowed at its position. */
+        INVALID_CHARACTER,
+        /** The value is made of allowed characters but is too short. */
+        TOO_SHORT,
+        /** The value does not have the required structure. */
+        INVALID_FORMAT
+    }
+
+    /** Position of an invalid result that cannot be pinned to a single character. */
+    public static final int NO_POSITION = -1;
+
+    private static final ValidationResult VALID = new ValidationResult(null, NO_POSITION, null);
+
+    private final FailureReason failureReason;
+    private final int position;
+    private final String message;
+
+    private ValidationResult(FailureReason failureReason, int position, String message) {
+        this.failureReason = failureReason;
+        this.position = position;
+        this.message = message;
+    }
+
+    /**
+     * Returns the result of a successful validation.
+     */
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    /**
+     * Returns the result of a failed validation.
+     *
+     * @param position index of the offending character, or {@link #NO_POSITION}.
+     * @param message constraints message to show to the user.
+     */
+    public static ValidationResult invalid(FailureReason failureReason, int position, String message) {
+        requireNonNull(failureReason);
+        requireNonNull(message);
+        return new ValidationResult(failureReason, position, message);
+    }
+
+    public boolean isValid() {
+        return failureReason == null;
+    }
+
+    /**
+     * Returns why the value was rejected, or null if it is valid.
+     */
+    public FailureReason getFailureReason() {
+        return failureReason;
+    }
+
+    /**
+     * Returns the index of the offending character, or {@link #NO_POSITION} if there is none.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the constraints message to show to the user, or null if the value is valid.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ValidationResult)) {
+            return false;
+        }
+
+        ValidationResult otherResult = (ValidationResult) other;
+        return failureReason == otherResult.failureReason
+                && position == otherResult.position
+                && Objects.equals(message, otherResult.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(failureReason, position, message);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("failureReason", failureReason)
+                .add("position", position)
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model.validation;
+
+/**
+ * Checks whether a string is a valid value for a field of the model.
+ */
+@FunctionalInterface
+public interface Validator {
+
+    /**
+     * Returns the result of validating {@code value}, which cannot be null.
+     * A valid value always results in {@link ValidationResult#valid()}, so validating it allocates nothing.
+     */
+    ValidationResult validate(String value);
+
+    /**
+     * Returns true if {@code value}, which cannot be null, is valid.
+     */
+    default boolean isValid(String value) {
+        return validate(value).isValid();
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.validation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.validation.ValidationResult.FailureReason;
+
+/**
+ * Validators for the fields of a person.
+ *
+ * Each validator accepts exactly the strings matched by the {@code VALIDATION_REGEX} of its field. The simple ones
+ * scan the value once, character by character, instead of running the regex; the email validator runs a pattern that
+ * is compiled once instead of on every call, as {@link String#matches(String)} does.
+ */
+public final class Validators {
+
+    /** @see Name#VALIDATION_REGEX */
+    public static final Validator NAME = Validators::validateName;
+
+    /** @see Phone#VALIDATION_REGEX */
+    public static final Validator PHONE = Validators::validatePhone;
+
+    /** @see Email#VALIDATION_REGEX */
+    public static final Validator EMAIL = Validators::validateEmail;
+
+    /** @see Comment#VALIDATION_REGEX */
+    public static final Validator COMMENT = Validators::validateComment;
+
+    private static final int MIN_PHONE_LENGTH = 3;
+    private static final String EMAIL_CHARACTERS = "+_.-@";
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(Email.VALIDATION_REGEX);
+
+    private Validators() {}
+
+    private static ValidationResult validateName(String value) {
+        requireNonNull(value);
+        if (value.isEmpty()) {
+            return ValidationResult.invalid(FailureReason.EMPTY, ValidationResult.NO_POSITION,
+                    Name.MESSAGE_CONSTRAINTS);
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            // a space is allowed anywhere but at the start
+            if (!isAsciiAlphanumeric(c) && (c != ' ' || i == 0)) {
+                return ValidationResult.invalid(FailureReason.INVALID_CHARACTER, i, Name.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    private static ValidationResult validatePhone(String value) {
+        requireNonNull(value);
+        if (value.isEmpty()) {
+            return ValidationResult.invalid(FailureReason.EMPTY, ValidationResult.NO_POSITION,
+                    Phone.MESSAGE_CONSTRAINTS);
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            if (!isAsciiDigit(value.charAt(i))) {
+                return ValidationResult.invalid(FailureReason.INVALID_CHARACTER, i, Phone.MESSAGE_CONSTRAINTS);
+            }
+        }
+        if (value.length() < MIN_PHONE_LENGTH) {
+            return ValidationResult.invalid(FailureReason.TOO_SHORT, ValidationResult.NO_POSITION,
+                    Phone.MESSAGE_CONSTRAINTS);
+        }
+        return ValidationResult.valid();
+    }
+
+    private static ValidationResult validateEmail(String value) {
+        requireNonNull(value);
+        if (value.isEmpty()) {
+            return ValidationResult.invalid(FailureReason.EMPTY, ValidationResult.NO_POSITION,
+                    Email.MESSAGE_CONSTRAINTS);
+        }
+
+        // characters that cannot appear anywhere in a valid email are pinned down before running the pattern
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isAsciiAlphanumeric(c) && EMAIL_CHARACTERS.indexOf(c) < 0) {
+                return ValidationResult.invalid(FailureReason.INVALID_CHARACTER, i, Email.MESSAGE_CONSTRAINTS);
+            }
+        }
+        if (!EMAIL_PATTERN.matcher(value).matches()) {
+            return ValidationResult.invalid(FailureReason.INVALID_FORMAT, ValidationResult.NO_POSITION,
+                    Email.MESSAGE_CONSTRAINTS);
+        }
+        return ValidationResult.valid();
+    }
+
+    private static ValidationResult validateComment(String value) {
+        requireNonNull(value);
+        if (value.isEmpty()) {
+            return ValidationResult.invalid(FailureReason.EMPTY, ValidationResult.NO_POSITION,
+                    Comment.MESSAGE_CONSTRAINTS);
+        }
+
+        // the first character must match \S, and the rest must match ., which excludes line terminators
+        if (isRegexWhitespace(value.charAt(0))) {
+            return ValidationResult.invalid(FailureReason.INVALID_CHARACTER, 0, Comment.MESSAGE_CONSTRAINTS);
+        }
+        for (int i = 1; i < value.length(); i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return ValidationResult.invalid(FailureReason.INVALID_CHARACTER, i, Comment.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    /**
+     * Returns true if {@code c} matches {@code \p{Alnum}}, which only covers ASCII letters and digits.
+     */
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} matches {@code \s}, which only covers ASCII whitespace.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
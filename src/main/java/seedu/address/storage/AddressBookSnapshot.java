@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonFactory;
+import seedu.address.model.person.Sponsor;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A copy of the person list of an address book, taken so that it can be saved from another thread.
+ *
+ * Taking the copy of an {@code AddressBook} only keeps its {@code UniquePersonList.Snapshot}, which takes constant
+ * time on the thread that modifies it. The person list is built from the snapshot the first time it is asked for,
+ * i.e. on the thread that saves it. Groups are changed in place on the persons of the original address book, so each
+ * person that has a group is copied together with the group it was in when the snapshot was taken. The other fields
+ * are immutable and shared.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final UniquePersonList.Snapshot personsSnapshot;
+    private final long modificationVersion;
+    private ObservableList<Person> persons;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     * Takes constant time if {@code source} is an {@code AddressBook}, and time linear in its size otherwise.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        if (source instanceof AddressBook) {
+            personsSnapshot = ((AddressBook) source).getSnapshot();
+        } else {
+            AddressBook copy = new AddressBook();
+            copy.setPersons(source.getPersonList());
+            personsSnapshot = copy.getSnapshot();
+        }
+        modificationVersion = source.getModificationVersion();
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (persons == null) {
+            List<Person> snapshotPersons = personsSnapshot.getPersons();
+            int[] groupNumbers = personsSnapshot.getGroupNumbers();
+            Person[] copies = new Person[snapshotPersons.size()];
+            for (int i = 0; i < copies.length; i++) {
+                copies[i] = copyWithGroup(snapshotPersons.get(i), groupNumbers[i]);
+            }
+            persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(copies));
+        }
+        return persons;
+    }
+
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    /**
+     * Returns a copy of {@code person} in the group {@code groupNumber}, which {@code person} was in when the
+     * snapshot was taken.
+     */
+    private static Person copyWithGroup(Person person, int groupNumber) {
+        if (person instanceof Sponsor) {
+            return person;
+        }
+        Group group = person.getGroup() == null ? null : Group.of(groupNumber);
+        return PersonFactory.createPerson(person.getName(), person.getPhone(), person.getEmail(),
+                person.getCategory(), person.getComment(), group);
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -42,4 +49,39 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves an address book of the {@code count} persons taken from {@code persons} to the storage.
+     * Storages that can write each person as it is taken do so without holding every person in memory at once.
+     *
+     * @param persons must hold exactly {@code count} persons, none of which are duplicates of another.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws IllegalArgumentException if {@code persons} does not hold exactly {@code count} persons.
+     */
+    default void savePersons(int count, Iterator<Person> persons) throws IOException {
+        requireNonNull(persons);
+        CountedIterator<Person> countedPersons = new CountedIterator<>(count, persons, "persons");
+        List<Person> personList = new ArrayList<>(count);
+        countedPersons.forEachRemaining(personList::add);
+        countedPersons.checkNoMore();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(personList);
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the format in which the data file is written.
+     */
+    default DataFileFormat getAddressBookFileFormat() {
+        return DataFileFormat.JSON;
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that later changes to {@code addressBook} do not affect,
+     * so that it can be passed to {@link #saveAddressBook(ReadOnlyAddressBook)} from another thread.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    default ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(addressBook);
+    }
+
 }
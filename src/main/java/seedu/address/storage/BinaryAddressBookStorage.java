@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format described in {@link BinaryDataFile}.
+ * Each person is stored as its name, phone, email, category, comment and group, with the category and group
+ * dictionary encoded. Persons are validated in the same way as when they are read from a json file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public DataFileFormat getAddressBookFileFormat() {
+        return DataFileFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryDataFile.Reader reader = new BinaryDataFile.Reader(Files.newInputStream(filePath),
+                BinaryDataFile.RECORD_KIND_PERSON)) {
+            ParallelRecordConverter<JsonAdaptedPerson, Person> converter =
+                    JsonSerializableAddressBook.createConverter();
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                converter.add(new JsonAdaptedPerson(reader.readString(), reader.readString(), reader.readString(),
+                        reader.readDictionaryString(), reader.readString(), reader.readDictionaryString()));
+            }
+            reader.checkEndOfFile();
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(converter.finish()));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        writePersons(filePath, persons.size(), persons.iterator());
+    }
+
+    /**
+     * Writes {@code count} persons taken from {@code persons}, one at a time.
+     *
+     * @throws IllegalArgumentException if {@code persons} does not hold exactly {@code count} persons.
+     */
+    @Override
+    public void savePersons(int count, Iterator<Person> persons) throws IOException {
+        requireNonNull(persons);
+        writePersons(filePath, count, persons);
+    }
+
+    private static void writePersons(Path filePath, int count, Iterator<Person> persons) throws IOException {
+        CountedIterator<Person> countedPersons = new CountedIterator<>(count, persons, "persons");
+        FileUtil.createIfMissing(filePath);
+        try (BinaryDataFile.Writer writer = new BinaryDataFile.Writer(Files.newOutputStream(filePath),
+                BinaryDataFile.RECORD_KIND_PERSON, count)) {
+            while (countedPersons.hasNext()) {
+                Person person = countedPersons.next();
+                Group group = person.getGroup();
+                writer.writeString(person.getName().fullName);
+                writer.writeString(person.getPhone().value);
+                writer.writeString(person.getEmail().value);
+                writer.writeDictionaryString(person.getCategory().value);
+                writer.writeString(person.getComment().value);
+                writer.writeDictionaryString(group == null ? null : group.value);
+            }
+            countedPersons.checkNoMore();
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The layout of the data files written by {@link BinaryAddressBookStorage} and {@link BinaryEventBookStorage}.
+ *
+ * A file starts with {@link #MAGIC}, a format version byte and a byte naming the kind of records it holds, followed
+ * by the number of records and then the records themselves. Integers are written as unsigned variable-length
+ * quantities (7 bits per byte, least significant group first), and strings as their UTF-8 length followed by
+ * their bytes. Strings taken from a small set of values, such as categories and groups, are dictionary encoded:
+ * each is written as an index into a dictionary that is built up while writing, and the first occurrence of a
+ * string is followed by the string itself.
+ */
+final class BinaryDataFile {
+
+    /** Starts every binary data file. The first byte can never start a JSON document. */
+    static final byte[] MAGIC = {(byte) 0x89, 'H', 'L', 'K'};
+    static final int FORMAT_VERSION = 1;
+    static final byte RECORD_KIND_PERSON = 'P';
+    static final byte RECORD_KIND_EVENT = 'E';
+
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+    private static final int NULL_DICTIONARY_CODE = 0;
+
+    private BinaryDataFile() {}
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC}.
+     * Returns false if the file does not exist or is shorter than {@link #MAGIC}.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    static boolean isBinaryDataFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Writes the header and records of a binary data file.
+     */
+    static class Writer implements Closeable {
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        /**
+         * Creates a {@code Writer} that writes to {@code out}, starting with the header of a file that holds
+         * {@code recordCount} records of the given kind. Closing the writer closes {@code out}.
+         */
+        Writer(OutputStream out, byte recordKind, int recordCount) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out));
+            this.out.write(MAGIC);
+            this.out.writeByte(FORMAT_VERSION);
+            this.out.writeByte(recordKind);
+            writeUnsignedInt(recordCount);
+        }
+
+        /**
+         * Writes {@code value}, which cannot be null.
+         */
+        void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsignedInt(bytes.length);
+            out.write(bytes);
+        }
+
+        /**
+         * Writes {@code value}, which may be null, using the dictionary.
+         */
+        void writeDictionaryString(String value) throws IOException {
+            if (value == null) {
+                writeUnsignedInt(NULL_DICTIONARY_CODE);
+                return;
+            }
+
+            Integer code = dictionary.get(value);
+            if (code != null) {
+                writeUnsignedInt(code);
+                return;
+            }
+            int newCode = dictionary.size() + 1;
+            dictionary.put(value, newCode);
+            writeUnsignedInt(newCode);
+            writeString(value);
+        }
+
+        private void writeUnsignedInt(int value) throws IOException {
+            assert value >= 0;
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                out.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            out.writeByte(remaining);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    /**
+     * Reads the header and records of a binary data file.
+     */
+    static class Reader implements Closeable {
+        private final DataInputStream in;
+        private final List<String> dictionary = new ArrayList<>();
+        private final int recordCount;
+
+        /**
+         * Creates a {@code Reader} that reads from {@code in} and checks that it holds records of the given kind.
+         * Closing the reader closes {@code in}.
+         *
+         * @throws IOException if {@code in} could not be read or does not start with a matching header.
+         */
+        Reader(InputStream in, byte expectedRecordKind) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(in));
+
+            byte[] magic = new byte[MAGIC.length];
+            this.in.readFully(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                throw new IOException("Not a binary data file");
+            }
+            int version = this.in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported binary data file version: " + version);
+            }
+            byte recordKind = this.in.readByte();
+            if (recordKind != expectedRecordKind) {
+                throw new IOException("Binary data file holds records of kind '" + (char) recordKind
+                        + "' instead of '" + (char) expectedRecordKind + "'");
+            }
+            recordCount = readUnsignedInt();
+        }
+
+        /**
+         * Returns the number of records in the file, as given by its header.
+         */
+        int getRecordCount() {
+            return recordCount;
+        }
+
+        /**
+         * Reads a string written by {@link Writer#writeString(String)}.
+         */
+        String readString() throws IOException {
+            int length = readUnsignedInt();
+            if (length > MAX_STRING_LENGTH) {
+                throw new IOException("String of " + length + " bytes is too long");
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a string written by {@link Writer#writeDictionaryString(String)}.
+         */
+        String readDictionaryString() throws IOException {
+            int code = readUnsignedInt();
+            if (code == NULL_DICTIONARY_CODE) {
+                return null;
+            }
+            if (code <= dictionary.size()) {
+                return dictionary.get(code - 1);
+            }
+            if (code != dictionary.size() + 1) {
+                throw new IOException("Undefined dictionary code: " + code);
+            }
+            String value = readString();
+            dictionary.add(value);
+            return value;
+        }
+
+        /**
+         * Checks that every byte of the file has been read.
+         *
+         * @throws IOException if there is data after the last record.
+         */
+        void checkEndOfFile() throws IOException {
+            if (in.read() != -1) {
+                throw new IOException("Unexpected data after the last record");
+            }
+        }
+
+        private int readUnsignedInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("Malformed integer");
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+
+/**
+ * A class to access EventBook data stored in the compact binary format described in {@link BinaryDataFile}.
+ * Each event is stored as its name, date and dictionary encoded category.
+ * Events are validated in the same way as when they are read from a json file.
+ */
+public class BinaryEventBookStorage implements EventBookStorage {
+    private static final Logger logger = LogsCenter.getLogger(BinaryEventBookStorage.class);
+    private Path filePath;
+
+    public BinaryEventBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getEventBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public DataFileFormat getEventBookFileFormat() {
+        return DataFileFormat.BINARY;
+    }
+
+    @Override
+    public Optional<ReadOnlyEventBook> readEventBook() throws DataLoadingException {
+        return readEventBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (BinaryDataFile.Reader reader = new BinaryDataFile.Reader(Files.newInputStream(filePath),
+                BinaryDataFile.RECORD_KIND_EVENT)) {
+            ParallelRecordConverter<JsonAdaptedEvent, Event> converter = JsonSerializableEventBook.createConverter();
+            for (int i = 0; i < reader.getRecordCount(); i++) {
+                converter.add(new JsonAdaptedEvent(reader.readString(), reader.readString(),
+                        reader.readDictionaryString()));
+            }
+            reader.checkEndOfFile();
+            return Optional.of(JsonSerializableEventBook.toEventBook(converter.finish()));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveEventBook(ReadOnlyEventBook eventBook) throws IOException {
+        saveEventBook(eventBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveEventBook(ReadOnlyEventBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveEventBook(ReadOnlyEventBook eventBook, Path filePath) throws IOException {
+        requireNonNull(eventBook);
+        requireNonNull(filePath);
+
+        List<Event> events = eventBook.getEventList();
+        writeEvents(filePath, events.size(), events.iterator());
+    }
+
+    /**
+     * Writes {@code count} events taken from {@code events}, one at a time.
+     *
+     * @throws IllegalArgumentException if {@code events} does not hold exactly {@code count} events.
+     */
+    @Override
+    public void saveEvents(int count, Iterator<Event> events) throws IOException {
+        requireNonNull(events);
+        writeEvents(filePath, count, events);
+    }
+
+    private static void writeEvents(Path filePath, int count, Iterator<Event> events) throws IOException {
+        CountedIterator<Event> countedEvents = new CountedIterator<>(count, events, "events");
+        FileUtil.createIfMissing(filePath);
+        try (BinaryDataFile.Writer writer = new BinaryDataFile.Writer(Files.newOutputStream(filePath),
+                BinaryDataFile.RECORD_KIND_EVENT, count)) {
+            while (countedEvents.hasNext()) {
+                Event event = countedEvents.next();
+                writer.writeString(event.getEventName().eventName);
+                writer.writeString(event.getEventDate().eventDate);
+                writer.writeDictionaryString(event.getEventCategory().value);
+            }
+            countedEvents.checkNoMore();
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator over the {@code count} elements that the caller of a bulk save said {@code source} holds, which checks
+ * that it holds no fewer, and, once {@link #checkNoMore()} is called, no more.
+ *
+ * @param <T> the type of the elements.
+ */
+class CountedIterator<T> implements Iterator<T> {
+    private final int count;
+    private final Iterator<T> source;
+    private final String elementsName;
+    private int taken;
+
+    /**
+     * Creates a {@code CountedIterator} over the {@code count} {@code elementsName}, e.g. "persons", of
+     * {@code source}.
+     */
+    CountedIterator(int count, Iterator<T> source, String elementsName) {
+        requireNonNull(source);
+        requireNonNull(elementsName);
+        checkArgument(count >= 0, "Count should not be negative.");
+        this.count = count;
+        this.source = source;
+        this.elementsName = elementsName;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return taken < count;
+    }
+
+    /**
+     * Returns the next element.
+     *
+     * @throws IllegalArgumentException if {@code source} holds fewer elements than the count.
+     */
+    @Override
+    public T next() {
+        if (taken >= count) {
+            throw new NoSuchElementException();
+        }
+        checkArgument(source.hasNext(), "Fewer " + elementsName + " than the " + count + " expected");
+        taken++;
+        return source.next();
+    }
+
+    /**
+     * Checks that {@code source} holds no more elements than the count.
+     *
+     * @throws IllegalArgumentException if it does.
+     */
+    void checkNoMore() {
+        checkArgument(!source.hasNext(), "More " + elementsName + " than the " + count + " expected");
+    }
+}
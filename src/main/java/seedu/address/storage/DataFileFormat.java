@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The formats in which the address book and event book data files can be written.
+ */
+public enum DataFileFormat {
+    JSON {
+        @Override
+        public AddressBookStorage createAddressBookStorage(Path filePath) {
+            return new JsonAddressBookStorage(filePath);
+        }
+
+        @Override
+        public EventBookStorage createEventBookStorage(Path filePath) {
+            return new JsonEventBookStorage(filePath);
+        }
+    },
+    BINARY {
+        @Override
+        public AddressBookStorage createAddressBookStorage(Path filePath) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+
+        @Override
+        public EventBookStorage createEventBookStorage(Path filePath) {
+            return new BinaryEventBookStorage(filePath);
+        }
+    };
+
+    /**
+     * Returns a storage that reads and writes an address book in this format at {@code filePath}.
+     */
+    public abstract AddressBookStorage createAddressBookStorage(Path filePath);
+
+    /**
+     * Returns a storage that reads and writes an event book in this format at {@code filePath}.
+     */
+    public abstract EventBookStorage createEventBookStorage(Path filePath);
+
+    /**
+     * Returns the format of the data file at {@code filePath}, telling the formats apart by the magic bytes that
+     * start a binary data file. A file that does not exist is taken to be in the {@code JSON} format.
+     *
+     * @throws IOException if the file exists but could not be read.
+     */
+    public static DataFileFormat detect(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return BinaryDataFile.isBinaryDataFile(filePath) ? BINARY : JSON;
+    }
+}
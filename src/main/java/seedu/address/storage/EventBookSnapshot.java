@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
+
+/**
+ * A copy of the event list of an event book, taken so that it can be saved from another thread.
+ */
+class EventBookSnapshot implements ReadOnlyEventBook {
+
+    private final ObservableList<Event> events;
+    private final long modificationVersion;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    EventBookSnapshot(ReadOnlyEventBook source) {
+        events = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getEventList()));
+        modificationVersion = source.getModificationVersion();
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+}
@@ -1,11 +1,18 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.EventBook;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
 
 /**
  * Represents a storage for {@link seedu.address.model.EventBook}.
@@ -40,4 +47,39 @@ public interface EventBookStorage {
      */
     void saveEventBook(ReadOnlyEventBook eventBook, Path filePath) throws IOException;
 
+    /**
+     * Saves an event book of the {@code count} events taken from {@code events} to the storage.
+     * Storages that can write each event as it is taken do so without holding every event in memory at once.
+     *
+     * @param events must hold exactly {@code count} events, none of which are duplicates of another.
+     * @throws IOException if there was any problem writing to the file.
+     * @throws IllegalArgumentException if {@code events} does not hold exactly {@code count} events.
+     */
+    default void saveEvents(int count, Iterator<Event> events) throws IOException {
+        requireNonNull(events);
+        CountedIterator<Event> countedEvents = new CountedIterator<>(count, events, "events");
+        List<Event> eventList = new ArrayList<>(count);
+        countedEvents.forEachRemaining(eventList::add);
+        countedEvents.checkNoMore();
+        EventBook eventBook = new EventBook();
+        eventBook.setEvents(eventList);
+        saveEventBook(eventBook);
+    }
+
+    /**
+     * Returns the format in which the data file is written.
+     */
+    default DataFileFormat getEventBookFileFormat() {
+        return DataFileFormat.JSON;
+    }
+
+    /**
+     * Returns a copy of {@code eventBook} that later changes to {@code eventBook} do not affect,
+     * so that it can be passed to {@link #saveEventBook(ReadOnlyEventBook)} from another thread.
+     * Must be called on the thread that modifies {@code eventBook}.
+     */
+    default ReadOnlyEventBook snapshotEventBook(ReadOnlyEventBook eventBook) {
+        return new EventBookSnapshot(eventBook);
+    }
+
 }
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * A file to which the oldest entries of the command history are spilled, so that they take no memory until they are
+ * undone.
+ *
+ * The file holds one json entry per line. Each entry holds only the persons and events that its command changed, as
+ * they were before it, so spilling an entry takes time in proportion to the change rather than to the whole model.
+ * Entries are taken back out newest first, and the file is cut short as each one is taken out.
+ */
+public class HistorySpillFile {
+
+    private static final String TEMPORARY_FILE_PREFIX = "history";
+    private static final String TEMPORARY_FILE_SUFFIX = ".spill";
+
+    private static final Logger logger = LogsCenter.getLogger(HistorySpillFile.class);
+
+    /** The offset in the file at which each entry starts, newest first. */
+    private final Deque<Long> entryOffsets = new ArrayDeque<>();
+    private Path filePath;
+
+    /**
+     * Creates a {@code HistorySpillFile} in a temporary file, which is only created once the first entry is spilled
+     * and is deleted when the app exits.
+     */
+    public HistorySpillFile() {
+        filePath = null;
+    }
+
+    /**
+     * Creates a {@code HistorySpillFile} at {@code filePath}, replacing any file that is there once the first entry
+     * is spilled.
+     */
+    public HistorySpillFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the file, or null if it is a temporary file that has not been created yet.
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of entries in the file.
+     */
+    public int size() {
+        return entryOffsets.size();
+    }
+
+    public boolean isEmpty() {
+        return entryOffsets.isEmpty();
+    }
+
+    /**
+     * Appends the entry of a command that changed the model from {@code stateBefore} to {@code stateAfter}, and that
+     * gives {@code undoFeedback} and {@code redoFeedback} when undone and redone.
+     * Nothing is appended if writing the entry fails.
+     */
+    public void push(ModelSnapshot stateBefore, ModelSnapshot stateAfter, String undoFeedback, String redoFeedback)
+            throws IOException {
+        requireNonNull(undoFeedback);
+        requireNonNull(redoFeedback);
+
+        String line = JsonUtil.toCompactJsonString(
+                JsonAdaptedSpilledEntry.of(stateBefore, stateAfter, undoFeedback, redoFeedback)) + "\n";
+        ByteBuffer bytes = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+
+        if (filePath == null) {
+            filePath = Files.createTempFile(TEMPORARY_FILE_PREFIX, TEMPORARY_FILE_SUFFIX);
+            filePath.toFile().deleteOnExit();
+        } else if (entryOffsets.isEmpty()) {
+            FileUtil.createParentDirsOfFile(filePath);
+        }
+        StandardOpenOption[] options = entryOffsets.isEmpty()
+                ? new StandardOpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING}
+                : new StandardOpenOption[] {StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(filePath, options)) {
+            long offset = channel.size();
+            try {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes, offset + bytes.position());
+                }
+            } catch (IOException ioe) {
+                // a partly written entry would be read back as part of the entry before it
+                channel.truncate(offset);
+                throw ioe;
+            }
+            entryOffsets.push(offset);
+        }
+    }
+
+    /**
+     * Removes the newest entry from the file and returns it. The state before its command is rebuilt on
+     * {@code stateAfter}, which must be the state after the command.
+     *
+     * @throws DataLoadingException if the entry could not be read back. The entry is removed all the same.
+     */
+    public SpilledEntry pop(ModelSnapshot stateAfter) throws DataLoadingException {
+        requireNonNull(stateAfter);
+        if (entryOffsets.isEmpty()) {
+            throw new IllegalStateException("No spilled entry to take out");
+        }
+
+        long offset = entryOffsets.pop();
+        String line;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < offset) {
+                throw new IOException("File is shorter than the spilled entries");
+            }
+            ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(channel.size() - offset));
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, offset + bytes.position()) < 0) {
+                    break;
+                }
+            }
+            channel.truncate(offset);
+            line = new String(bytes.array(), 0, bytes.position(), StandardCharsets.UTF_8);
+        } catch (IOException | ArithmeticException e) {
+            logger.warning("Error reading spilled history entry from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        try {
+            JsonAdaptedSpilledEntry entry = JsonUtil.fromJsonString(line, JsonAdaptedSpilledEntry.class);
+            return new SpilledEntry(entry.toStateBefore(stateAfter), entry.getUndoFeedback(),
+                    entry.getRedoFeedback());
+        } catch (IOException ioe) {
+            logger.warning("Error parsing spilled history entry from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in spilled history entry from " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Removes every entry, and deletes the file.
+     */
+    public void clear() {
+        entryOffsets.clear();
+        if (filePath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete " + filePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * An entry taken back out of a {@code HistorySpillFile}.
+     */
+    public static class SpilledEntry {
+        private final ModelSnapshot stateBefore;
+        private final String undoFeedback;
+        private final String redoFeedback;
+
+        SpilledEntry(ModelSnapshot stateBefore, String undoFeedback, String redoFeedback) {
+            this.stateBefore = stateBefore;
+            this.undoFeedback = undoFeedback;
+            this.redoFeedback = redoFeedback;
+        }
+
+        public ModelSnapshot getStateBefore() {
+            return stateBefore;
+        }
+
+        public String getUndoFeedback() {
+            return undoFeedback;
+        }
+
+        public String getRedoFeedback() {
+            return redoFeedback;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. Every change made to the
+ * person list of the saved address book is recorded as a small journal entry, and a save only appends the entries
+ * recorded since the previous save. Once the journal holds more than the compaction threshold of entries, the next
+ * save rewrites the snapshot and starts an empty journal.
+ *
+ * The first line of the journal holds the checksum of the snapshot it extends. A journal whose checksum does not
+ * match the snapshot (e.g. because the app stopped midway through a compaction) is ignored when reading.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final String JOURNAL_HEADER_PREFIX = "snapshot ";
+    private static final long NO_COMPACTION_REQUIRED = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final ListChangeListener<Person> changeRecorder = this::recordChanges;
+    private final Object saveLock = new Object();
+
+    // Guarded by this. Every recorded change gets the next sequence number, and the pending entries are the
+    // ones numbered just below recordedEntryCount that have not been written yet.
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private ObservableList<Person> trackedPersons;
+    private long recordedEntryCount;
+    private long compactionSequence = NO_COMPACTION_REQUIRED;
+    private int journalEntryCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal into a new snapshot
+     * once the journal holds more than {@code compactionThreshold} entries.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that extends the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reads the snapshot at {@code filePath} and replays its journal, if there is one.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            List<Person> persons;
+            long snapshotChecksum;
+            try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+                persons = new ArrayList<>(JsonSerializableAddressBook.read(in).getPersonList());
+                // the checksum covers the whole file, including anything after the address book
+                in.transferTo(OutputStream.nullOutputStream());
+                snapshotChecksum = in.getChecksum().getValue();
+            }
+            replayJournal(getJournalFilePath(filePath), snapshotChecksum, persons);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journalled file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (DuplicatePersonException dpe) {
+            logger.info("Duplicate persons found in " + filePath + " after replaying its journal");
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code persons}.
+     * A journal written for a different snapshot is ignored, and so is a truncated last entry.
+     */
+    private void replayJournal(Path journalFilePath, long snapshotChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(JOURNAL_HEADER_PREFIX + snapshotChecksum)) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it was not written for the current snapshot");
+            return;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return;
+                }
+                throw ioe;
+            }
+            entry.applyTo(persons);
+        }
+        logger.fine("Replayed " + (lines.size() - 1) + " journal entries from " + journalFilePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the file path of this storage is journalled; saving to any other path writes a plain snapshot.
+     * An address book that was not obtained from {@link #snapshotAddressBook(ReadOnlyAddressBook)} must be saved
+     * on the thread that modifies it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            try (OutputStream out = Files.newOutputStream(filePath)) {
+                JsonSerializableAddressBook.write(addressBook, out);
+            }
+            return;
+        }
+
+        TrackedSnapshot snapshot = addressBook instanceof TrackedSnapshot
+                ? (TrackedSnapshot) addressBook
+                : (TrackedSnapshot) snapshotAddressBook(addressBook);
+        synchronized (saveLock) {
+            saveSnapshot(snapshot);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that remembers how many changes had been recorded when it was taken,
+     * and starts recording the changes made to {@code addressBook} if they are not recorded yet.
+     */
+    @Override
+    public synchronized ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        if (addressBook.getPersonList() != trackedPersons) {
+            track(addressBook.getPersonList());
+        }
+        return new TrackedSnapshot(addressBook, trackedPersons, recordedEntryCount);
+    }
+
+    /**
+     * Starts recording the changes made to {@code persons}, and stops recording those of the previous list.
+     * The journal of the previous list does not apply to the new one, so a new snapshot is required.
+     */
+    private void track(ObservableList<Person> persons) {
+        if (trackedPersons != null) {
+            trackedPersons.removeListener(changeRecorder);
+        }
+        trackedPersons = persons;
+        trackedPersons.addListener(changeRecorder);
+        requireCompaction();
+    }
+
+    private synchronized void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()
+                    || pendingEntries.size() + change.getAddedSize() > compactionThreshold) {
+                // cheaper to write a new snapshot than to journal the change
+                requireCompaction();
+                continue;
+            }
+            if (change.wasRemoved()) {
+                recordEntry(JsonAdaptedJournalEntry.ofRemove(change.getFrom(), change.getRemovedSize()));
+            }
+            if (change.wasAdded()) {
+                int index = change.getFrom();
+                for (Person person : change.getAddedSubList()) {
+                    recordEntry(JsonAdaptedJournalEntry.ofAdd(index++, person));
+                }
+            }
+        }
+    }
+
+    private void recordEntry(JsonAdaptedJournalEntry entry) {
+        pendingEntries.add(entry);
+        recordedEntryCount++;
+    }
+
+    /**
+     * Discards the pending entries, so that only a snapshot taken from now on can bring the files up to date.
+     */
+    private void requireCompaction() {
+        pendingEntries.clear();
+        recordedEntryCount++;
+        compactionSequence = recordedEntryCount;
+    }
+
+    /**
+     * Appends the pending entries covered by {@code snapshot} to the journal, or writes {@code snapshot} as a new
+     * snapshot if the journal cannot be brought up to date by appending. File writes are done without holding the
+     * lock on this storage, so recording changes is never blocked by a save.
+     */
+    private void saveSnapshot(TrackedSnapshot snapshot) throws IOException {
+        boolean isStale;
+        boolean isCompacting;
+        List<JsonAdaptedJournalEntry> entriesToAppend;
+        synchronized (this) {
+            isStale = snapshot.source != trackedPersons;
+            entriesToAppend = new ArrayList<>(pendingEntries.subList(0, countPendingEntriesBefore(snapshot)));
+            isCompacting = isStale || compactionSequence != NO_COMPACTION_REQUIRED
+                    || journalEntryCount + entriesToAppend.size() > compactionThreshold;
+        }
+
+        if (isCompacting) {
+            compact(snapshot);
+        } else if (!entriesToAppend.isEmpty()) {
+            appendEntries(entriesToAppend);
+        }
+
+        synchronized (this) {
+            if (isStale) {
+                return;
+            }
+            pendingEntries.subList(0, countPendingEntriesBefore(snapshot)).clear();
+            if (!isCompacting) {
+                journalEntryCount += entriesToAppend.size();
+                return;
+            }
+            journalEntryCount = 0;
+            if (snapshot.entrySequence >= compactionSequence) {
+                compactionSequence = NO_COMPACTION_REQUIRED;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of pending entries that were recorded before {@code snapshot} was taken.
+     */
+    private int countPendingEntriesBefore(TrackedSnapshot snapshot) {
+        long firstPendingSequence = recordedEntryCount - pendingEntries.size();
+        return (int) Math.max(0, Math.min(pendingEntries.size(), snapshot.entrySequence - firstPendingSequence));
+    }
+
+    /**
+     * Appends {@code entries} to the journal.
+     */
+    private void appendEntries(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        try {
+            Files.write(getJournalFilePath(filePath), lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // the journal may now end with a partial entry, so start afresh on the next save
+            synchronized (this) {
+                requireCompaction();
+            }
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        long snapshotChecksum;
+        try (CheckedOutputStream out = new CheckedOutputStream(Files.newOutputStream(filePath), new CRC32())) {
+            JsonSerializableAddressBook.write(addressBook, out);
+            snapshotChecksum = out.getChecksum().getValue();
+        }
+        Files.write(getJournalFilePath(filePath),
+                (JOURNAL_HEADER_PREFIX + snapshotChecksum + "\n").getBytes(StandardCharsets.UTF_8));
+        logger.fine("Wrote a new snapshot to " + filePath);
+    }
+
+    /**
+     * A snapshot of the tracked person list, together with the number of changes recorded when it was taken.
+     */
+    private static class TrackedSnapshot extends AddressBookSnapshot {
+        private final ObservableList<Person> source;
+        private final long entrySequence;
+
+        TrackedSnapshot(ReadOnlyAddressBook addressBook, ObservableList<Person> source, long entrySequence) {
+            super(addressBook);
+            this.source = source;
+            this.entrySequence = entrySequence;
+        }
+    }
+}
@@ -75,7 +75,7 @@ public class JsonAdaptedEvent {
         if (!EventCategory.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final EventCategory modelCategory = new EventCategory(category);
+        final EventCategory modelCategory = EventCategory.of(category);
 
         return EventFactory.createEvent(modelName, modelDate, modelCategory);
     }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the person list, as recorded in an address book journal.
+ * An entry either inserts one person at {@code index}, or removes {@code count} persons starting at {@code index}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry does not fit a list of %d person(s).";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry for an addition has no person.";
+
+    private final String operation;
+    private final int index;
+    private final int count;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+            @JsonProperty("count") int count, @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.index = index;
+        this.count = count;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry ofAdd(int index, Person person) {
+        requireNonNull(person);
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, index, 1, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns an entry that removes {@code count} persons starting at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry ofRemove(int index, int count) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, index, count, null);
+    }
+
+    /**
+     * Applies this entry to {@code persons}.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        requireNonNull(persons);
+
+        if (OPERATION_ADD.equals(operation)) {
+            if (person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+            }
+            if (index < 0 || index > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, persons.size()));
+            }
+            persons.add(index, person.toModelType());
+        } else if (OPERATION_REMOVE.equals(operation)) {
+            if (index < 0 || count < 0 || index + count > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, persons.size()));
+            }
+            persons.subList(index, index + count).clear();
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+}
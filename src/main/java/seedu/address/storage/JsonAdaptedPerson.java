@@ -12,6 +12,9 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonFactory;
 import seedu.address.model.person.Phone;
+import seedu.address.model.validation.ValidationResult;
+import seedu.address.model.validation.Validator;
+import seedu.address.model.validation.Validators;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -68,25 +71,19 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Validators.NAME, name);
         final Name modelName = new Name(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Validators.PHONE, phone);
         final Phone modelPhone = new Phone(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Validators.EMAIL, email);
         final Email modelEmail = new Email(email);
 
         if (category == null) {
@@ -96,15 +93,13 @@ class JsonAdaptedPerson {
         if (!Category.isValidCategory(category)) {
             throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
         }
-        final Category modelCategory = new Category(category);
+        final Category modelCategory = Category.of(category);
 
         if (comment == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Comment.class.getSimpleName()));
         }
-        if (!Comment.isValidComment(comment)) {
-            throw new IllegalValueException(Comment.MESSAGE_CONSTRAINTS);
-        }
+        checkValid(Validators.COMMENT, comment);
 
         final Comment modelComment = new Comment(comment);
 
@@ -112,10 +107,20 @@ class JsonAdaptedPerson {
 
         if (Group.isValidGroup(group)) {
             model.setGroupNumber(Integer.parseInt(group));
-            Group.setTotalGroupNumber(Math.max(Group.getTotalGroupNumber(), Integer.parseInt(group)));
         }
 
         return model;
     }
 
+    /**
+     * Throws an {@code IllegalValueException} with the constraints message of {@code validator} if {@code value} is
+     * not valid.
+     */
+    private static void checkValid(Validator validator, String value) throws IllegalValueException {
+        ValidationResult validationResult = validator.validate(value);
+        if (!validationResult.isValid()) {
+            throw new IllegalValueException(validationResult.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Jackson-friendly version of a command history entry, as spilled to a {@link HistorySpillFile}.
+ *
+ * Instead of the whole state before the command, an entry holds the range of persons and the range of events that
+ * the command changed, as they were before it. Replacing those ranges of the state after the command gives the
+ * state before it.
+ */
+class JsonAdaptedSpilledEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Spilled entry does not fit a list of %d item(s).";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Spilled entry's %s field is missing!";
+
+    private final String undoFeedback;
+    private final String redoFeedback;
+    private final int personsFrom;
+    private final int personsTo;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final int eventsFrom;
+    private final int eventsTo;
+    private final List<JsonAdaptedEvent> events = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSpilledEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedSpilledEntry(@JsonProperty("undoFeedback") String undoFeedback,
+            @JsonProperty("redoFeedback") String redoFeedback,
+            @JsonProperty("personsFrom") int personsFrom, @JsonProperty("personsTo") int personsTo,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("eventsFrom") int eventsFrom, @JsonProperty("eventsTo") int eventsTo,
+            @JsonProperty("events") List<JsonAdaptedEvent> events) {
+        this.undoFeedback = undoFeedback;
+        this.redoFeedback = redoFeedback;
+        this.personsFrom = personsFrom;
+        this.personsTo = personsTo;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        this.eventsFrom = eventsFrom;
+        this.eventsTo = eventsTo;
+        if (events != null) {
+            this.events.addAll(events);
+        }
+    }
+
+    /**
+     * Returns the entry of a command that changed the model from {@code stateBefore} to {@code stateAfter}.
+     * The changed ranges are found by skipping the structure that the two states share, so this takes time in
+     * proportion to the change rather than to the number of persons and events.
+     */
+    public static JsonAdaptedSpilledEntry of(ModelSnapshot stateBefore, ModelSnapshot stateAfter,
+            String undoFeedback, String redoFeedback) {
+        requireNonNull(stateBefore);
+        requireNonNull(stateAfter);
+
+        UniquePersonList.Snapshot personsBefore = stateBefore.getPersons();
+        UniquePersonList.Snapshot personsAfter = stateAfter.getPersons();
+        int personsPrefix = personsBefore.countCommonPrefix(personsAfter);
+        int personsSuffix = personsBefore.countCommonSuffix(personsAfter,
+                Math.min(personsBefore.size(), personsAfter.size()) - personsPrefix);
+        List<Person> changedPersons = personsBefore.getPersons(personsPrefix, personsBefore.size() - personsSuffix);
+        int[] changedGroupNumbers = personsBefore.getGroupNumbers(personsPrefix,
+                personsBefore.size() - personsSuffix);
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        for (int i = 0; i < changedPersons.size(); i++) {
+            adaptedPersons.add(toAdaptedPerson(changedPersons.get(i), changedGroupNumbers[i]));
+        }
+
+        UniqueEventList.Snapshot eventsBefore = stateBefore.getEvents();
+        UniqueEventList.Snapshot eventsAfter = stateAfter.getEvents();
+        int eventsPrefix = eventsBefore.countCommonPrefix(eventsAfter);
+        int eventsSuffix = eventsBefore.countCommonSuffix(eventsAfter,
+                Math.min(eventsBefore.size(), eventsAfter.size()) - eventsPrefix);
+        List<JsonAdaptedEvent> adaptedEvents = new ArrayList<>();
+        for (Event event : eventsBefore.getEvents(eventsPrefix, eventsBefore.size() - eventsSuffix)) {
+            adaptedEvents.add(new JsonAdaptedEvent(event));
+        }
+
+        return new JsonAdaptedSpilledEntry(undoFeedback, redoFeedback,
+                personsPrefix, personsAfter.size() - personsSuffix, adaptedPersons,
+                eventsPrefix, eventsAfter.size() - eventsSuffix, adaptedEvents);
+    }
+
+    public String getUndoFeedback() {
+        return undoFeedback;
+    }
+
+    public String getRedoFeedback() {
+        return redoFeedback;
+    }
+
+    /**
+     * Returns the state before the command of this entry, given {@code stateAfter}, the state after it.
+     * The persons and events that the command did not change are shared with {@code stateAfter}.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit {@code stateAfter}.
+     */
+    public ModelSnapshot toStateBefore(ModelSnapshot stateAfter) throws IllegalValueException {
+        requireNonNull(stateAfter);
+
+        if (undoFeedback == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "undoFeedback"));
+        }
+        if (redoFeedback == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "redoFeedback"));
+        }
+
+        UniquePersonList.Snapshot personsAfter = stateAfter.getPersons();
+        int personCount = personsAfter.size();
+        if (personsFrom < 0 || personsFrom > personsTo || personsTo > personCount) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, personCount));
+        }
+        List<Person> changedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            changedPersons.add(person.toModelType());
+        }
+
+        UniqueEventList.Snapshot eventsAfter = stateAfter.getEvents();
+        int eventCount = eventsAfter.size();
+        if (eventsFrom < 0 || eventsFrom > eventsTo || eventsTo > eventCount) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, eventCount));
+        }
+        List<Event> changedEvents = new ArrayList<>();
+        for (JsonAdaptedEvent event : events) {
+            changedEvents.add(event.toModelType());
+        }
+
+        return new ModelSnapshot(personsAfter.splice(personsFrom, personsTo, changedPersons),
+                eventsAfter.splice(eventsFrom, eventsTo, changedEvents));
+    }
+
+    /**
+     * Converts {@code person}, as it was when it was in the group {@code groupNumber}.
+     */
+    private static JsonAdaptedPerson toAdaptedPerson(Person person, int groupNumber) {
+        String group = person.getGroup() == null ? null : String.valueOf(groupNumber);
+        return new JsonAdaptedPerson(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getCategory().value, person.getComment().value, group);
+    }
+}
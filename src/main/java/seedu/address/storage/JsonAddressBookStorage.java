@@ -3,7 +3,11 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,8 +15,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,14 +49,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +79,26 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonSerializableAddressBook.write(addressBook, out);
+        }
+    }
+
+    /**
+     * Writes {@code count} persons taken from {@code persons}, one at a time.
+     *
+     * @throws IllegalArgumentException if {@code persons} does not hold exactly {@code count} persons.
+     */
+    @Override
+    public void savePersons(int count, Iterator<Person> persons) throws IOException {
+        requireNonNull(persons);
+
+        CountedIterator<Person> countedPersons = new CountedIterator<>(count, persons, "persons");
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonSerializableAddressBook.write(countedPersons, out);
+        }
+        countedPersons.checkNoMore();
     }
 
 }
@@ -3,7 +3,11 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,8 +15,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.event.Event;
 
 /**
  * A class to access EventBook data stored as a json file on the hard disk.
@@ -38,14 +42,15 @@ public class JsonEventBookStorage implements EventBookStorage {
     public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEventBook> jsonEventBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEventBook.class);
-        if (!jsonEventBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonEventBook.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Optional.of(JsonSerializableEventBook.read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -67,7 +72,26 @@ public class JsonEventBookStorage implements EventBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEventBook(eventBook), filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonSerializableEventBook.write(eventBook, out);
+        }
+    }
+
+    /**
+     * Writes {@code count} events taken from {@code events}, one at a time.
+     *
+     * @throws IllegalArgumentException if {@code events} does not hold exactly {@code count} events.
+     */
+    @Override
+    public void saveEvents(int count, Iterator<Event> events) throws IOException {
+        requireNonNull(events);
+
+        CountedIterator<Event> countedEvents = new CountedIterator<>(count, events, "events");
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = Files.newOutputStream(filePath)) {
+            JsonSerializableEventBook.write(countedEvents, out);
+        }
+        countedEvents.checkNoMore();
     }
 
 }
@@ -1,6 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -9,9 +13,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +27,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +54,76 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ParallelRecordConverter<JsonAdaptedPerson, Person> converter = createConverter();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            converter.add(jsonAdaptedPerson);
+        }
+        return toAddressBook(converter.finish());
+    }
+
+    /**
+     * Reads an address book in this class's JSON format from {@code in}, handing each person to a
+     * {@code ParallelRecordConverter} as soon as it is read instead of first reading every person into a
+     * {@code JsonSerializableAddressBook}.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        ParallelRecordConverter<JsonAdaptedPerson, Person> converter = createConverter();
+        JsonUtil.readJsonArray(in, PERSONS_FIELD, JsonAdaptedPerson.class, converter::add);
+        return toAddressBook(converter.finish());
+    }
+
+    /**
+     * Returns a converter from adapted persons to the model's persons.
+     */
+    static ParallelRecordConverter<JsonAdaptedPerson, Person> createConverter() {
+        return new ParallelRecordConverter<>(JsonAdaptedPerson::toModelType);
+    }
+
+    /**
+     * Returns an address book holding {@code persons}, which are checked for duplicates in a single pass.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code out} in this class's JSON format, converting one person at a time.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        write(source.getPersonList().iterator(), out);
+    }
+
+    /**
+     * Writes an address book of the persons taken from {@code persons} to {@code out} in this class's JSON format,
+     * converting one person at a time.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void write(Iterator<Person> persons, OutputStream out) throws IOException {
+        JsonUtil.writeJsonArray(out, PERSONS_FIELD, () -> new Iterator<JsonAdaptedPerson>() {
+            @Override
+            public boolean hasNext() {
+                return persons.hasNext();
+            }
+
+            @Override
+            public JsonAdaptedPerson next() {
+                return new JsonAdaptedPerson(persons.next());
+            }
+        });
+    }
+
 }
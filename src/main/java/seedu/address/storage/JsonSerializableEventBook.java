@@ -1,6 +1,10 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -9,9 +13,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.EventBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
 
 
 /**
@@ -21,6 +27,8 @@ import seedu.address.model.event.Event;
 public class JsonSerializableEventBook {
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
 
+    private static final String EVENTS_FIELD = "events";
+
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
@@ -46,15 +54,76 @@ public class JsonSerializableEventBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public EventBook toModelType() throws IllegalValueException {
-        EventBook eventBook = new EventBook();
+        ParallelRecordConverter<JsonAdaptedEvent, Event> converter = createConverter();
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (eventBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            eventBook.addEvent(event);
+            converter.add(jsonAdaptedEvent);
+        }
+        return toEventBook(converter.finish());
+    }
+
+    /**
+     * Reads an event book in this class's JSON format from {@code in}, handing each event to a
+     * {@code ParallelRecordConverter} as soon as it is read instead of first reading every event into a
+     * {@code JsonSerializableEventBook}.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold an event book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static EventBook read(InputStream in) throws IOException, IllegalValueException {
+        ParallelRecordConverter<JsonAdaptedEvent, Event> converter = createConverter();
+        JsonUtil.readJsonArray(in, EVENTS_FIELD, JsonAdaptedEvent.class, converter::add);
+        return toEventBook(converter.finish());
+    }
+
+    /**
+     * Returns a converter from adapted events to the model's events.
+     */
+    static ParallelRecordConverter<JsonAdaptedEvent, Event> createConverter() {
+        return new ParallelRecordConverter<>(JsonAdaptedEvent::toModelType);
+    }
+
+    /**
+     * Returns an event book holding {@code events}, which are checked for duplicates in a single pass.
+     *
+     * @throws IllegalValueException if {@code events} contains duplicate events.
+     */
+    static EventBook toEventBook(List<Event> events) throws IllegalValueException {
+        EventBook eventBook = new EventBook();
+        try {
+            eventBook.setEvents(events);
+        } catch (DuplicateEventException dee) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
         }
         return eventBook;
     }
 
+    /**
+     * Writes {@code source} to {@code out} in this class's JSON format, converting one event at a time.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void write(ReadOnlyEventBook source, OutputStream out) throws IOException {
+        write(source.getEventList().iterator(), out);
+    }
+
+    /**
+     * Writes an event book of the events taken from {@code events} to {@code out} in this class's JSON format,
+     * converting one event at a time.
+     *
+     * @throws IOException if there was an error writing to {@code out}.
+     */
+    public static void write(Iterator<Event> events, OutputStream out) throws IOException {
+        JsonUtil.writeJsonArray(out, EVENTS_FIELD, () -> new Iterator<JsonAdaptedEvent>() {
+            @Override
+            public boolean hasNext() {
+                return events.hasNext();
+            }
+
+            @Override
+            public JsonAdaptedEvent next() {
+                return new JsonAdaptedEvent(events.next());
+            }
+        });
+    }
+
 }
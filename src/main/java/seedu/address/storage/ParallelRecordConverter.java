@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the records read from a data file into model objects, validating and converting them in parallel on the
+ * common fork-join pool.
+ *
+ * Records are collected into batches of at most {@link #BATCH_SIZE}, so only one batch of unconverted records is held
+ * in memory at a time. The records of a batch are converted in parallel, but the results are taken in file order, so
+ * the error reported for a file with several invalid records is always the one for the first of them, whether it is
+ * an {@code IllegalValueException} or a runtime exception.
+ *
+ * @param <R> the type of the records read from the file.
+ * @param <M> the type of the model objects they are converted into.
+ */
+class ParallelRecordConverter<R, M> {
+
+    static final int BATCH_SIZE = 4096;
+
+    /** Batches smaller than this are converted on the calling thread, as parallelism would not pay off. */
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final RecordConversion<R, M> conversion;
+    private final List<R> batch = new ArrayList<>();
+    private final List<M> converted = new ArrayList<>();
+
+    /**
+     * Creates a {@code ParallelRecordConverter} that converts each record with {@code conversion}.
+     * {@code conversion} may be called on several threads at once.
+     */
+    ParallelRecordConverter(RecordConversion<R, M> conversion) {
+        requireNonNull(conversion);
+        this.conversion = conversion;
+    }
+
+    /**
+     * Adds the next record in file order, converting the current batch if it is full.
+     *
+     * @throws IllegalValueException if a record of the converted batch is invalid.
+     */
+    void add(R record) throws IllegalValueException {
+        requireNonNull(record);
+        batch.add(record);
+        if (batch.size() == BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Converts any remaining records and returns every model object in file order.
+     *
+     * @throws IllegalValueException if a remaining record is invalid.
+     */
+    List<M> finish() throws IllegalValueException {
+        convertBatch();
+        return converted;
+    }
+
+    private void convertBatch() throws IllegalValueException {
+        int size = batch.size();
+        Object[] results = new Object[size];
+        // a record may also fail with a runtime exception, e.g. a sponsor with a group, which must not escape the
+        // parallel stream ahead of an earlier record's failure
+        Exception[] failures = new Exception[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                results[i] = conversion.convert(batch.get(i));
+            } catch (IllegalValueException | RuntimeException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (failures[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) failures[i];
+            } else if (failures[i] != null) {
+                throw (RuntimeException) failures[i];
+            }
+            @SuppressWarnings("unchecked")
+            M model = (M) results[i];
+            converted.add(model);
+        }
+        batch.clear();
+    }
+
+    /**
+     * Converts a single record into a model object.
+     */
+    @FunctionalInterface
+    interface RecordConversion<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyEventBook;
+
+/**
+ * Saves the address book and event book to a {@code Storage} on a dedicated background thread.
+ *
+ * A save request takes a snapshot of the book on the calling thread and returns immediately. Requests made while
+ * an earlier write is still queued are coalesced, so that a burst of commands results in a single write of the
+ * latest snapshot. Write failures are passed to the error handler on the background thread, together with the data
+ * file that could not be written.
+ */
+public class PersistenceService {
+
+    public static final String ADDRESS_BOOK_FILE = "address book";
+    public static final String EVENT_BOOK_FILE = "event book";
+
+    /** Version recorded before the first save, never equal to the version of an address book or event book. */
+    private static final long UNSAVED_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(PersistenceService.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    // Guarded by this.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyEventBook pendingEventBook;
+    private boolean isWriteScheduled;
+
+    private volatile long requestedAddressBookVersion = UNSAVED_VERSION;
+    private volatile long requestedEventBookVersion = UNSAVED_VERSION;
+    private volatile BiConsumer<String, IOException> errorHandler = (dataFile, ioe) -> {};
+    private volatile ObjLongConsumer<String> writeTimeListener = (dataFile, nanos) -> {};
+
+    /**
+     * Creates a {@code PersistenceService} that writes to {@code storage}.
+     */
+    public PersistenceService(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is given the data file, either {@link #ADDRESS_BOOK_FILE} or {@link #EVENT_BOOK_FILE},
+     * and the {@code IOException} thrown, for every write that fails.
+     * The handler is called on the background thread.
+     */
+    public void setErrorHandler(BiConsumer<String, IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Sets the listener that is given the data file written, either {@link #ADDRESS_BOOK_FILE} or
+     * {@link #EVENT_BOOK_FILE}, and how long the write took in nanoseconds, after every successful write.
+     * The listener is called on the background thread.
+     */
+    public void setWriteTimeListener(ObjLongConsumer<String> writeTimeListener) {
+        requireNonNull(writeTimeListener);
+        this.writeTimeListener = writeTimeListener;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved. Must be called on the thread that modifies {@code addressBook}.
+     *
+     * @return false if nothing was scheduled because {@code addressBook} has not changed since the last request.
+     */
+    public boolean saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        long version = addressBook.getModificationVersion();
+        if (version == requestedAddressBookVersion) {
+            return false;
+        }
+        requestedAddressBookVersion = version;
+
+        ReadOnlyAddressBook snapshot = storage.snapshotAddressBook(addressBook);
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            scheduleWrite();
+        }
+        return true;
+    }
+
+    /**
+     * Schedules {@code eventBook} to be saved. Must be called on the thread that modifies {@code eventBook}.
+     *
+     * @return false if nothing was scheduled because {@code eventBook} has not changed since the last request.
+     */
+    public boolean saveEventBook(ReadOnlyEventBook eventBook) {
+        requireNonNull(eventBook);
+
+        long version = eventBook.getModificationVersion();
+        if (version == requestedEventBookVersion) {
+            return false;
+        }
+        requestedEventBookVersion = version;
+
+        ReadOnlyEventBook snapshot = storage.snapshotEventBook(eventBook);
+        synchronized (this) {
+            pendingEventBook = snapshot;
+            scheduleWrite();
+        }
+        return true;
+    }
+
+    /**
+     * Blocks until every save scheduled so far has been written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for pending saves to be written");
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException(ee.getCause());
+        }
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyEventBook eventBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            eventBook = pendingEventBook;
+            pendingAddressBook = null;
+            pendingEventBook = null;
+            isWriteScheduled = false;
+        }
+
+        if (addressBook != null) {
+            try {
+                long start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                writeTimeListener.accept(ADDRESS_BOOK_FILE, System.nanoTime() - start);
+            } catch (IOException ioe) {
+                // make the next request write again even if nothing changes in between
+                requestedAddressBookVersion = UNSAVED_VERSION;
+                reportError(ADDRESS_BOOK_FILE, ioe);
+            }
+        }
+        if (eventBook != null) {
+            try {
+                long start = System.nanoTime();
+                storage.saveEventBook(eventBook);
+                writeTimeListener.accept(EVENT_BOOK_FILE, System.nanoTime() - start);
+            } catch (IOException ioe) {
+                requestedEventBookVersion = UNSAVED_VERSION;
+                reportError(EVENT_BOOK_FILE, ioe);
+            }
+        }
+    }
+
+    private void reportError(String dataFile, IOException ioe) {
+        logger.warning("Failed to save " + dataFile + ": " + ioe);
+        errorHandler.accept(dataFile, ioe);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -11,6 +13,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -21,6 +25,8 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private EventBookStorage eventBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** The journal replayed by a storage other than the address book storage, to be deleted on the next save. */
+    private volatile Path leftoverJournalFilePath;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -62,10 +68,37 @@ public class StorageManager implements Storage {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
+    @Override
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookStorage.getAddressBookFileFormat();
+    }
+
+    /**
+     * Reads the address book at {@code filePath} in whichever format it was written. A file in a format other than
+     * that of the address book storage is written in the storage's format the next time it is saved.
+     * A journal left next to a json file while journalling was enabled is replayed even if journalling has since
+     * been disabled, and is deleted once the address book is next saved.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        DataFileFormat fileFormat = detectFormat(filePath);
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        if (fileFormat == DataFileFormat.JSON && !(addressBookStorage instanceof JournalAddressBookStorage)
+                && Files.exists(journalFilePath)) {
+            logger.info("Replaying journal " + journalFilePath + " left by an earlier journalled storage");
+            Optional<ReadOnlyAddressBook> addressBook = new JournalAddressBookStorage(filePath)
+                    .readAddressBook(filePath);
+            leftoverJournalFilePath = journalFilePath;
+            return addressBook;
+        }
+        if (fileFormat == addressBookStorage.getAddressBookFileFormat()) {
+            return addressBookStorage.readAddressBook(filePath);
+        }
+
+        logger.info("Converting " + filePath + " from " + fileFormat + " to "
+                + addressBookStorage.getAddressBookFileFormat() + " when it is next saved");
+        return fileFormat.createAddressBookStorage(filePath).readAddressBook(filePath);
     }
 
     @Override
@@ -77,7 +110,34 @@ public class StorageManager implements Storage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        deleteLeftoverJournal(filePath);
+    }
+
+    @Override
+    public void savePersons(int count, Iterator<Person> persons) throws IOException {
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.savePersons(count, persons);
+        deleteLeftoverJournal(addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Deletes the journal replayed when reading, once the snapshot it extends has been overwritten at
+     * {@code savedFilePath}. Until then the journal still holds changes that the snapshot lacks.
+     */
+    private void deleteLeftoverJournal(Path savedFilePath) throws IOException {
+        if (leftoverJournalFilePath == null
+                || !leftoverJournalFilePath.equals(JournalAddressBookStorage.getJournalFilePath(savedFilePath))) {
+            return;
+        }
+        Files.deleteIfExists(leftoverJournalFilePath);
+        leftoverJournalFilePath = null;
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshotAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBookStorage.snapshotAddressBook(addressBook);
     }
+
     // ================ EventBook methods ==============================
     @Override
     public Path getEventBookFilePath() {
@@ -88,10 +148,26 @@ public class StorageManager implements Storage {
         return readEventBook(eventBookStorage.getEventBookFilePath());
     }
 
+    @Override
+    public DataFileFormat getEventBookFileFormat() {
+        return eventBookStorage.getEventBookFileFormat();
+    }
+
+    /**
+     * Reads the event book at {@code filePath} in whichever format it was written. A file in a format other than
+     * that of the event book storage is written in the storage's format the next time it is saved.
+     */
     @Override
     public Optional<ReadOnlyEventBook> readEventBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return eventBookStorage.readEventBook(filePath);
+        DataFileFormat fileFormat = detectFormat(filePath);
+        if (fileFormat == eventBookStorage.getEventBookFileFormat()) {
+            return eventBookStorage.readEventBook(filePath);
+        }
+
+        logger.info("Converting " + filePath + " from " + fileFormat + " to "
+                + eventBookStorage.getEventBookFileFormat() + " when it is next saved");
+        return fileFormat.createEventBookStorage(filePath).readEventBook(filePath);
     }
 
     @Override
@@ -105,5 +181,27 @@ public class StorageManager implements Storage {
         eventBookStorage.saveEventBook(eventBook, filePath);
     }
 
+    @Override
+    public void saveEvents(int count, Iterator<Event> events) throws IOException {
+        logger.fine("Attempting to write to data file: " + eventBookStorage.getEventBookFilePath());
+        eventBookStorage.saveEvents(count, events);
+    }
+
+    @Override
+    public ReadOnlyEventBook snapshotEventBook(ReadOnlyEventBook eventBook) {
+        return eventBookStorage.snapshotEventBook(eventBook);
+    }
+
+    // ================ Helper methods ==============================
+
+    private static DataFileFormat detectFormat(Path filePath) throws DataLoadingException {
+        try {
+            return DataFileFormat.detect(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
 
 }
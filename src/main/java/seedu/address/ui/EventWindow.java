@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -195,6 +196,9 @@ public class EventWindow extends UiPart<Stage> {
         }
         // set focus trigger on the event result display to F3
         setKeyPressHandler(eventResultDisplay::focus, KeyCombination.keyCombination("F3"));
+        // saves are written in the background, so failures are reported once they happen
+        logic.setEventBookSaveErrorHandler(message ->
+                Platform.runLater(() -> eventResultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -0,0 +1,57 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.DataGeneratorMain.Options;
+import seedu.address.storage.DataFileFormat;
+
+public class DataGeneratorMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_binaryFormat_filesReadable() throws Exception {
+        Options options = Options.parse(new String[] {"200", "30", "--seed", "5", "--format", "binary",
+            "--directory", testFolder.toString()});
+
+        DataGeneratorMain.generate(options);
+
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(options.getAddressBookFilePath()));
+        assertEquals(200, DataFileFormat.BINARY.createAddressBookStorage(options.getAddressBookFilePath())
+                .readAddressBook().get().getPersonList().size());
+        assertEquals(30, DataFileFormat.BINARY.createEventBookStorage(options.getEventBookFilePath())
+                .readEventBook().get().getEventList().size());
+    }
+
+    @Test
+    public void generate_defaultFormat_jsonFilesReadable() throws Exception {
+        Options options = Options.parse(new String[] {"50", "0", "--directory", testFolder.toString()});
+
+        DataGeneratorMain.generate(options);
+
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(options.getAddressBookFilePath()));
+        assertEquals(50, DataFileFormat.JSON.createAddressBookStorage(options.getAddressBookFilePath())
+                .readAddressBook().get().getPersonList().size());
+        assertEquals(0, DataFileFormat.JSON.createEventBookStorage(options.getEventBookFilePath())
+                .readEventBook().get().getEventList().size());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"10"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"-1", "10"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"10", "ten"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"10", "10", "--seed"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"10", "10", "--seed", "x"}));
+        assertThrows(IllegalArgumentException.class, () ->
+                Options.parse(new String[] {"10", "10", "--format", "xml"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"10", "10", "--size", "1"}));
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.HeadlessMain.Options;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.AddEventCommand;
+import seedu.address.logic.commands.ClearEventCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonEventBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path configFilePath;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        userPrefs.setEventBookFilePath(testFolder.resolve("eventbook.json"));
+        Path userPrefsFilePath = testFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+    }
+
+    @Test
+    public void run_script_runsCommandsUntilExit() throws Exception {
+        AppComponents components = AppComponents.init(configFilePath);
+        Logic logic = components.getLogic();
+        int eventCount = logic.getEventBook().getEventList().size();
+        String script = ListCommand.COMMAND_WORD + "\n"
+                + "# a comment\n"
+                + "\n"
+                + "  " + AddEventCommand.COMMAND_WORD + " en/Headless Check ed/11-06-2024 ec/staff  \n"
+                + "delete 99\n"
+                + "exit\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        boolean isSuccessful = run(logic, script);
+        components.stop();
+
+        assertFalse(isSuccessful);
+        assertTrue(out.toString().startsWith(ListCommand.MESSAGE_SUCCESS));
+        assertTrue(err.toString().startsWith("delete 99: "));
+        assertEquals(1, logic.getCommandMetrics().getCount(ListCommand.COMMAND_WORD));
+        assertEquals(eventCount + 1, new JsonEventBookStorage(testFolder.resolve("eventbook.json"))
+                .readEventBook().get().getEventList().size());
+        assertTrue(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void run_validCommands_successful() throws Exception {
+        AppComponents components = AppComponents.init(configFilePath);
+
+        assertTrue(run(components.getLogic(), ListCommand.COMMAND_WORD + "\n" + ListEventCommand.COMMAND_WORD));
+        components.stop();
+        assertEquals("", err.toString());
+    }
+
+    @Test
+    public void run_eventBookPrefix_runsOnEventBook() throws Exception {
+        AppComponents components = AppComponents.init(configFilePath);
+        Logic logic = components.getLogic();
+        int personCount = logic.getAddressBook().getPersonList().size();
+
+        assertTrue(run(logic, HeadlessMain.EVENT_BOOK_PREFIX + " " + ClearEventCommand.COMMAND_WORD));
+        components.stop();
+
+        assertEquals(0, logic.getEventBook().getEventList().size());
+        assertEquals(personCount, logic.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void parse_validArgs_success() {
+        Options options = Options.parse(new String[] {"--config=custom.json", "commands.txt"});
+        assertEquals(Paths.get("custom.json"), options.getConfigFilePath());
+        assertEquals(Paths.get("commands.txt"), options.getScriptFilePath());
+
+        Options defaultOptions = Options.parse(new String[0]);
+        assertNull(defaultOptions.getConfigFilePath());
+        assertNull(defaultOptions.getScriptFilePath());
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"--verbose"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"a.txt", "b.txt"}));
+        assertThrows(IllegalArgumentException.class, () -> Options.parse(new String[] {"--config=a\0b"}));
+    }
+
+    private boolean run(Logic logic, String script) throws Exception {
+        return HeadlessMain.run(logic, new BufferedReader(new StringReader(script)), new PrintStream(out, true),
+                new PrintStream(err, true));
+    }
+}
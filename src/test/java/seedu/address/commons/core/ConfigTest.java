@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", addressBookJournalEnabled=" + config.isAddressBookJournalEnabled()
+                + ", binaryStorageEnabled=" + config.isBinaryStorageEnabled()
+                + ", commandMetricsFilePath=" + config.getCommandMetricsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,213 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.toList());
+        assertFalse(list.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> list.iterator().next());
+    }
+
+    @Test
+    public void of_elements_keepsOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements.size(), list.size());
+        assertEquals(elements, list.toList());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void add_toEnd_appends() {
+        PersistentList<String> list = PersistentList.<String>empty().add("a").add("b").add("c");
+        assertEquals(List.of("a", "b", "c"), list.toList());
+        assertEquals(List.of("a", "x", "b", "c"), list.add(1, "x").toList());
+        assertEquals(List.of("x", "a", "b", "c"), list.add(0, "x").toList());
+    }
+
+    @Test
+    public void changes_doNotAffectOlderVersions() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+        PersistentList<String> set = original.set(1, "x");
+        PersistentList<String> removed = original.remove(0);
+        PersistentList<String> added = original.add("d");
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("a", "x", "c"), set.toList());
+        assertEquals(List.of("b", "c"), removed.toList());
+        assertEquals(List.of("a", "b", "c", "d"), added.toList());
+    }
+
+    @Test
+    public void remove_lastElement_returnsEmpty() {
+        assertTrue(PersistentList.of(List.of("a")).remove(0).isEmpty());
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void randomChanges_matchArrayList() {
+        Random random = new Random(42);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                list = list.add(i);
+                expected.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list = list.set(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.remove(index);
+                expected.remove(index);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list.toList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+        int index = random.nextInt(expected.size());
+        assertEquals(expected.get(index), list.get(index));
+    }
+
+    @Test
+    public void countNodesNotSharedWith() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1023; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        // same version -> none
+        assertEquals(0, list.countNodesNotSharedWith(list));
+
+        // one element set -> only the path to it, in a tree of height 10
+        PersistentList<Integer> set = list.set(500, -1);
+        assertEquals(10, set.countNodesNotSharedWith(list));
+        assertEquals(10, list.countNodesNotSharedWith(set));
+
+        // nothing shared -> every node
+        assertEquals(1023, list.countNodesNotSharedWith(PersistentList.empty()));
+        assertEquals(0, PersistentList.<Integer>empty().countNodesNotSharedWith(list));
+    }
+
+    @Test
+    public void countCommonPrefixAndSuffix_randomChanges_matchScan() {
+        Random random = new Random(7);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> base = PersistentList.of(elements);
+
+        for (int version = 0; version < 200; version++) {
+            PersistentList<Integer> changed = base;
+            int changeCount = random.nextInt(4);
+            for (int i = 0; i < changeCount; i++) {
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    changed = changed.add(random.nextInt(changed.size() + 1), 1000 + i);
+                } else if (operation == 1) {
+                    changed = changed.set(random.nextInt(changed.size()), 1000 + i);
+                } else {
+                    changed = changed.remove(random.nextInt(changed.size()));
+                }
+            }
+
+            List<Integer> before = base.toList();
+            List<Integer> after = changed.toList();
+            int expectedPrefix = 0;
+            while (expectedPrefix < before.size() && expectedPrefix < after.size()
+                    && before.get(expectedPrefix) == after.get(expectedPrefix)) {
+                expectedPrefix++;
+            }
+            int maxSuffix = Math.min(before.size(), after.size()) - expectedPrefix;
+            int expectedSuffix = 0;
+            while (expectedSuffix < maxSuffix && before.get(before.size() - expectedSuffix - 1)
+                    == after.get(after.size() - expectedSuffix - 1)) {
+                expectedSuffix++;
+            }
+
+            assertEquals(expectedPrefix, changed.countCommonPrefix(base));
+            assertEquals(expectedPrefix, base.countCommonPrefix(changed));
+            assertEquals(expectedSuffix, changed.countCommonSuffix(base, maxSuffix));
+            assertEquals(expectedSuffix, base.countCommonSuffix(changed, maxSuffix));
+        }
+    }
+
+    @Test
+    public void countCommonPrefix_equalButNotSameElements_notCounted() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b"));
+        PersistentList<String> other = PersistentList.of(List.of(new String("a"), "b"));
+
+        assertEquals(2, list.countCommonPrefix(list));
+        assertEquals(0, list.countCommonPrefix(other));
+        assertEquals(1, list.countCommonSuffix(other, 2));
+        assertEquals(0, list.countCommonPrefix(PersistentList.empty()));
+    }
+
+    @Test
+    public void toList_range() {
+        PersistentList<Integer> list = PersistentList.of(List.of(0, 1, 2, 3, 4));
+        assertEquals(List.of(1, 2, 3), list.toList(1, 4));
+        assertEquals(List.of(), list.toList(5, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.toList(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.toList(0, 6));
+    }
+
+    @Test
+    public void iterator_visitsElementsInOrder() {
+        PersistentList<Integer> list = PersistentList.empty();
+        for (int i = 0; i < 100; i++) {
+            list = list.add(0, i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toNormalizedWordSet --------------------------------------
+
+    @Test
+    public void toNormalizedWordSet_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toNormalizedWordSet(null));
+    }
+
+    @Test
+    public void toNormalizedWordSet_validInputs_correctResult() {
+        assertEquals(Set.of(), StringUtil.toNormalizedWordSet(""));
+        assertEquals(Set.of(), StringUtil.toNormalizedWordSet(" \n "));
+        assertEquals(Set.of("abc", "def"), StringUtil.toNormalizedWordSet("  ABc\ndef  abc "));
+        assertEquals(Set.of("a@b.com", "123"), StringUtil.toNormalizedWordSet("A@B.com 123"));
+    }
+
+    @Test
+    public void normalizeWord_validInputs_correctResult() {
+        assertEquals("", StringUtil.normalizeWord("   "));
+        assertEquals("abc", StringUtil.normalizeWord(" aBC "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
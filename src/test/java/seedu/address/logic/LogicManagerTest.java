@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CATEGORY_DESC_PARTICIPANT;
@@ -13,15 +15,23 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddEventCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpcomingEventsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -32,6 +42,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonEventBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PersistenceService;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
@@ -75,17 +86,86 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void isEventCommand() {
+        assertTrue(logic.isEventCommand(" " + ListEventCommand.COMMAND_WORD + " 1"));
+        assertTrue(logic.isEventCommand(UpcomingEventsCommand.COMMAND_WORD));
+        // both books have a clear command
+        assertFalse(logic.isEventCommand(ClearCommand.COMMAND_WORD));
+        assertFalse(logic.isEventCommand(ListCommand.COMMAND_WORD));
+        assertFalse(logic.isEventCommand("unknown"));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_addressBookUnchangedSinceLastSave_saveSkipped() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonEventBookStorage eventBookStorage = new JsonEventBookStorage(temporaryFolder.resolve("eventBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage));
+
+        // nothing has been saved yet
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertEquals(1, saveCount[0]);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + CATEGORY_DESC_PARTICIPANT);
+        logic.flushSaves();
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void execute_undoEventCommand_eventBookSaved() throws Exception {
+        Path eventBookFilePath = temporaryFolder.resolve("eventBook.json");
+        logic.executeEvent(AddEventCommand.COMMAND_WORD + " en/Lunch ed/11-06-2024 ec/staff");
+        logic.flushSaves();
+        assertEquals(1, new JsonEventBookStorage(eventBookFilePath).readEventBook().get().getEventList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        logic.flushSaves();
+        assertEquals(0, new JsonEventBookStorage(eventBookFilePath).readEventBook().get().getEventList().size());
+    }
+
+    @Test
+    public void execute_commands_recordedInMetrics() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD + " 3");
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        logic.flushSaves();
+
+        CommandMetrics metrics = logic.getCommandMetrics();
+        assertEquals(2, metrics.getCount(ListCommand.COMMAND_WORD));
+        assertEquals(0, metrics.getFailureCount(ListCommand.COMMAND_WORD));
+        assertEquals(1, metrics.getCount("delete"));
+        assertEquals(1, metrics.getFailureCount("delete"));
+        assertEquals(1, metrics.getUnparsedCommandCount());
+        assertTrue(metrics.getReport().contains(PersistenceService.ADDRESS_BOOK_FILE));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,11 +226,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported to the save error handler once the save is written.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -174,6 +255,10 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedErrors = new CopyOnWriteArrayList<>();
+        logic.setAddressBookSaveErrorHandler(reportedErrors::add);
+        List<String> reportedEventBookErrors = new CopyOnWriteArrayList<>();
+        logic.setEventBookSaveErrorHandler(reportedEventBookErrors::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -181,6 +266,12 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
+
+        logic.flushSaves();
+        assertEquals(List.of(expectedMessage), reportedErrors);
+        // the event book has not been saved before either, so its failure is reported to its own handler
+        assertEquals(List.of(expectedMessage), reportedEventBookErrors);
     }
 }
@@ -8,8 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +26,8 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonBatch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -57,51 +64,28 @@ public class AddCommandTest {
     }
 
     @Test
-    public void undo_validPerson_success() throws CommandException, UndoException {
-        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+    public void undo_validPerson_success() throws Exception {
+        Model model = new ModelManager();
         Person validPerson = new PersonBuilder().build();
-        AddCommand addCommand = new AddCommand(validPerson);
-
-        // Execute the add command
-        addCommand.execute(modelStub);
+        new AddCommand(validPerson).execute(model);
 
-        // Undo the add command
-        CommandResult undoResult = addCommand.undo(modelStub);
+        CommandResult undoResult = model.undoAddressBook();
 
-        // Verify that the person is removed from the model
-        assertFalse(modelStub.personsAdded.contains(validPerson));
+        assertFalse(model.hasPerson(validPerson));
         assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_UNDO, Messages.format(validPerson)),
                 undoResult.getFeedbackToUser());
     }
 
     @Test
-    public void undo_nonExistentPerson_throwsCommandException() {
-        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
-        Person nonExistentPerson = new PersonBuilder().build();
-        AddCommand addCommand = new AddCommand(nonExistentPerson);
-
-        // Undo the add command for a non-existent person
-        String expectedMessage = AddCommand.MESSAGE_UNDO_NONEXISTENT_PERSON;
-        assertThrows(UndoException.class, expectedMessage, () -> addCommand.undo(modelStub));
-    }
-
-    @Test
-    public void redo_validPerson_success() throws CommandException, UndoException {
-        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+    public void redo_validPerson_success() throws Exception {
+        Model model = new ModelManager();
         Person validPerson = new PersonBuilder().build();
-        AddCommand addCommand = new AddCommand(validPerson);
+        new AddCommand(validPerson).execute(model);
+        model.undoAddressBook();
 
-        // Execute the add command
-        addCommand.execute(modelStub);
+        CommandResult redoResult = model.redoAddressBook();
 
-        // Undo the add command
-        addCommand.undo(modelStub);
-
-        // Redo the add command
-        CommandResult redoResult = addCommand.redo(modelStub);
-
-        // Verify that the person is added back to the model
-        assertTrue(modelStub.personsAdded.contains(validPerson));
+        assertTrue(model.hasPerson(validPerson));
         assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(validPerson)),
                 redoResult.getFeedbackToUser());
     }
@@ -206,11 +190,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(PersonBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getGroupMembers(int groupNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<Integer, Integer> getGroupSizes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getHighestGroupNumber() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersons(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -290,6 +299,16 @@ public class AddCommandTest {
         public void setEventBook(ReadOnlyEventBook eventBook) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsFrom(LocalDate start, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 
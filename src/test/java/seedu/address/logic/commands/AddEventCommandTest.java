@@ -8,7 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.EVENT1;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -18,6 +23,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.UndoException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PersonBatch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -54,51 +61,28 @@ public class AddEventCommandTest {
     }
 
     @Test
-    public void undo_validEvent_success() throws CommandException, UndoException {
-        ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
+    public void undo_validEvent_success() throws Exception {
+        Model model = new ModelManager();
         Event validEvent = new EventBuilder().build();
-        AddEventCommand addCommand = new AddEventCommand(validEvent);
-
-        // Execute the add command
-        addCommand.execute(modelStub);
+        new AddEventCommand(validEvent).execute(model);
 
-        // Undo the add command
-        CommandResult undoResult = addCommand.undo(modelStub);
+        CommandResult undoResult = model.undoAddressBook();
 
-        // Verify that the event is removed from the model
-        assertFalse(modelStub.hasEvent(validEvent));
+        assertFalse(model.hasEvent(validEvent));
         assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS_UNDO, validEvent),
                 undoResult.getFeedbackToUser());
     }
 
     @Test
-    public void undo_nonExistentEvent_throwsCommandException() {
-        ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
-        Event nonExistentEvent = new EventBuilder().build();
-        AddEventCommand addCommand = new AddEventCommand(nonExistentEvent);
-
-        // Undo the add command for a non-existent event
-        String expectedMessage = AddEventCommand.MESSAGE_UNDO_NONEXISTENT_EVENT;
-        assertThrows(UndoException.class, expectedMessage, () -> addCommand.undo(modelStub));
-    }
-
-    @Test
-    public void redo_validEvent_success() throws CommandException, UndoException {
-        ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
+    public void redo_validEvent_success() throws Exception {
+        Model model = new ModelManager();
         Event validEvent = new EventBuilder().build();
-        AddEventCommand addCommand = new AddEventCommand(validEvent);
+        new AddEventCommand(validEvent).execute(model);
+        model.undoAddressBook();
 
-        // Execute the add command
-        addCommand.execute(modelStub);
+        CommandResult redoResult = model.redoAddressBook();
 
-        // Undo the add command
-        addCommand.undo(modelStub);
-
-        // Redo the add command
-        CommandResult redoResult = addCommand.redo(modelStub);
-
-        // Verify that the event is added back to the model
-        assertTrue(modelStub.hasEvent(validEvent));
+        assertTrue(model.hasEvent(validEvent));
         assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS, validEvent),
                 redoResult.getFeedbackToUser());
     }
@@ -245,11 +229,36 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(PersonBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getGroupMembers(int groupNumber) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<Integer, Integer> getGroupSizes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getHighestGroupNumber() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<Person> findPersons(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -329,5 +338,15 @@ public class AddEventCommandTest {
         public void setEventBook(ReadOnlyEventBook eventBook) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Event> getEventsBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsFrom(LocalDate start, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class AliasCommandTest {
+
+    private CommandRegistry<String> registry;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry<>();
+        registry.register(ListCommand.COMMAND_WORD, "list parser");
+        registry.register("d", "delete parser");
+        model = new ModelManager(new AddressBook(), new EventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AliasCommand(null));
+        assertThrows(NullPointerException.class, () -> new AliasCommand(registry, null, ListCommand.COMMAND_WORD));
+        assertThrows(NullPointerException.class, () -> new AliasCommand(registry, "ls", null));
+    }
+
+    @Test
+    public void execute_newAlias_addsAndSavesAlias() throws Exception {
+        CommandResult result = new AliasCommand(registry, "ls", ListCommand.COMMAND_WORD).execute(model);
+
+        assertEquals(String.format(AliasCommand.MESSAGE_SUCCESS, "ls", ListCommand.COMMAND_WORD),
+                result.getFeedbackToUser());
+        assertTrue(registry.hasAlias("ls"));
+        assertEquals(Map.of("ls", ListCommand.COMMAND_WORD), model.getUserPrefs().getAliases());
+    }
+
+    @Test
+    public void execute_aliasOfBuiltInAlias_addsAlias() throws Exception {
+        new AliasCommand(registry, "del", "d").execute(model);
+        assertEquals(Map.of("del", "d"), model.getUserPrefs().getAliases());
+    }
+
+    @Test
+    public void execute_builtInWordAsAlias_throwsCommandException() {
+        assertCommandFailure(new AliasCommand(registry, "d", ListCommand.COMMAND_WORD), model,
+                AliasStore.MESSAGE_INVALID_ALIAS);
+    }
+
+    @Test
+    public void execute_unknownCommandWord_throwsCommandException() {
+        assertCommandFailure(new AliasCommand(registry, "ls", "lst"), model,
+                String.format(AliasStore.MESSAGE_UNKNOWN_COMMAND_WORD, "lst"));
+        assertFalse(registry.hasAlias("ls"));
+    }
+
+    @Test
+    public void execute_noAliases_showsNoAliases() throws Exception {
+        assertEquals(AliasCommand.MESSAGE_NO_ALIASES, new AliasCommand(registry).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_listAliases_showsSortedAliases() throws Exception {
+        registry.addAlias("ls", ListCommand.COMMAND_WORD);
+        registry.addAlias("del", "d");
+        assertEquals(String.format(AliasCommand.MESSAGE_ALIASES, "del: d\nls: list"),
+                new AliasCommand(registry).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        AliasCommand listCommand = new AliasCommand(registry);
+        AliasCommand addCommand = new AliasCommand(registry, "ls", ListCommand.COMMAND_WORD);
+
+        // same object -> returns true
+        assertTrue(addCommand.equals(addCommand));
+
+        // same values -> returns true
+        assertTrue(addCommand.equals(new AliasCommand(registry, "ls", ListCommand.COMMAND_WORD)));
+        assertTrue(listCommand.equals(new AliasCommand(registry)));
+
+        // different types -> returns false
+        assertFalse(addCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(addCommand.equals(null));
+
+        // different alias -> returns false
+        assertFalse(addCommand.equals(new AliasCommand(registry, "l", ListCommand.COMMAND_WORD)));
+
+        // listing vs adding -> returns false
+        assertFalse(addCommand.equals(listCommand));
+
+        // different registry -> returns false
+        assertFalse(addCommand.equals(new AliasCommand(new CommandRegistry<>(), "ls", ListCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AliasCommand command = new AliasCommand(registry, "ls", ListCommand.COMMAND_WORD);
+        String expected = AliasCommand.class.getCanonicalName() + "{alias=Optional[ls], commandWord=Optional[list]}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -33,20 +33,20 @@ public class CommentCommandTest {
     }
 
     @Test
-    public void undo() throws CommandException {
+    public void undo() throws Exception {
         CommentCommand commentCommand = new CommentCommand(INDEX_FIRST_PERSON, new Comment("This is a comment."));
         commentCommand.execute(model);
-        commentCommand.undo(model);
+        model.undoAddressBook();
         assertEquals(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getComment(),
                 new Comment("She is an Expert."));
     }
 
     @Test
-    public void redo() throws CommandException {
+    public void redo() throws Exception {
         CommentCommand commentCommand = new CommentCommand(INDEX_FIRST_PERSON, new Comment("This is a comment."));
         commentCommand.execute(model);
-        commentCommand.undo(model);
-        commentCommand.redo(model);
+        model.undoAddressBook();
+        model.redoAddressBook();
         assertEquals(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()).getComment(),
                 new Comment("This is a comment."));
     }
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -115,6 +116,7 @@ public class DeleteCommandTest {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
 
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
         Model expectedModel = new ModelManager(model.getAddressBook(), model.getEventBook(), new UserPrefs());
         expectedModel.deletePerson(personToDelete);
 
@@ -123,9 +125,9 @@ public class DeleteCommandTest {
                 String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)),
                 expectedModel);
 
-        // undo -> reverts addressbook back to previous state and filtered person list
-        // to show all persons
-        expectedModel.addPerson(personToDelete);
+        // undo -> reverts addressbook back to previous state, with the person in its original position, and
+        // filtered person list to show all persons
+        expectedModel.setAddressBook(originalAddressBook);
         assertCommandSuccess(new UndoCommand(), model,
                 String.format(DeleteCommand.MESSAGE_SUCCESS_UNDO, Messages.format(personToDelete)), expectedModel);
 
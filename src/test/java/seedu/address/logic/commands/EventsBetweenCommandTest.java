@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalEvents.EVENT5;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDate;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code EventsBetweenCommand}.
+ */
+public class EventsBetweenCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+
+    @Test
+    public void execute_range_listsEventsInRange() throws Exception {
+        EventsBetweenCommand command = new EventsBetweenCommand(new EventDate("02-02-2025"),
+                new EventDate("04-04-2025"));
+
+        EventCommandResult result = command.execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 3), result.getFeedbackToUser());
+        assertEquals(List.of(EVENT2, EVENT3, EVENT4), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_noEventsInRange_listsNoEvents() throws Exception {
+        EventsBetweenCommand command = new EventsBetweenCommand(new EventDate("01-01-2030"),
+                new EventDate("31-12-2030"));
+
+        EventCommandResult result = command.execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0), result.getFeedbackToUser());
+        assertTrue(model.getFilteredEventList().isEmpty());
+    }
+
+    @Test
+    public void execute_eventsEditedAfterwards_listsEventsInRange() throws Exception {
+        new EventsBetweenCommand(new EventDate("02-02-2025"), new EventDate("04-04-2025")).execute(model);
+
+        Event renamedEvent3 = new EventBuilder(EVENT3).withEventName("renamed event 3").build();
+        model.setEvent(EVENT3, renamedEvent3);
+        Event movedEvent5 = new EventBuilder(EVENT5).withEventDate("03-04-2025").build();
+        model.setEvent(EVENT5, movedEvent5);
+        Event movedEvent2 = new EventBuilder(EVENT2).withEventDate("05-04-2025").build();
+        model.setEvent(EVENT2, movedEvent2);
+
+        assertEquals(List.of(renamedEvent3, EVENT4, movedEvent5), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_startAfterEnd_throwsCommandException() {
+        EventsBetweenCommand command = new EventsBetweenCommand(new EventDate("04-04-2025"),
+                new EventDate("02-02-2025"));
+        assertThrows(CommandException.class, EventsBetweenCommand.MESSAGE_INVALID_RANGE, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        EventsBetweenCommand command = new EventsBetweenCommand(new EventDate("02-02-2025"),
+                new EventDate("04-04-2025"));
+
+        // same values -> returns true
+        assertTrue(command.equals(new EventsBetweenCommand(new EventDate("02-02-2025"),
+                new EventDate("04-04-2025"))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different dates -> returns false
+        assertFalse(command.equals(new EventsBetweenCommand(new EventDate("02-02-2025"),
+                new EventDate("05-05-2025"))));
+    }
+}
@@ -20,6 +20,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -75,6 +77,19 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_listedPersonEdited_editedPersonListedWhileItMatches() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        model.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl), model.getFilteredPersonList());
+
+        Person renamedCarl = new PersonBuilder(editedCarl).withName("Carl Lee").build();
+        model.setPerson(editedCarl, renamedCarl);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         ContactContainsKeywordsPredicate predicate = new ContactContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -44,11 +44,12 @@ public class GroupCommandTest {
     }
 
     @Test
-    public void execute_noTargetGroup_success() {
+    public void execute_noTargetGroup_success() throws Exception {
         Person personToGroup = new PersonBuilder().build();
         model.setPerson(model.getFilteredPersonList().get(0), personToGroup);
 
-        GroupCommand groupCommandToSetTotalGroupNumber = new GroupCommand(INDEX_FIRST_PERSON, 3);
+        // puts the person in group 3, so there is an existing group to pick from
+        new GroupCommand(INDEX_FIRST_PERSON, 3).execute(model);
         GroupCommand groupCommand = new GroupCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(GroupCommand.MESSAGE_GROUP_PERSON_SUCCESS,
@@ -8,6 +8,10 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.AddressBook;
@@ -15,6 +19,8 @@ import seedu.address.model.EventBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Category;
+import seedu.address.model.person.Person;
 
 public class GroupRandomCommandTest {
 
@@ -31,6 +37,24 @@ public class GroupRandomCommandTest {
         assertCommandSuccess(groupRandomCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_sameSeed_sameGroups() throws Exception {
+        new GroupRandomCommand(2, Optional.of(42L), List.of()).execute(model);
+        List<Integer> firstGroups = getGroupNumbers(model);
+
+        new GroupRandomCommand(2, Optional.of(42L), List.of()).execute(model);
+        assertEquals(firstGroups, getGroupNumbers(model));
+    }
+
+    @Test
+    public void execute_undo_restoresOriginalGroups() throws Exception {
+        List<Integer> originalGroups = getGroupNumbers(model);
+
+        new GroupRandomCommand(2, Optional.of(7L), List.of()).execute(model);
+        new UndoCommand().execute(model);
+        assertEquals(originalGroups, getGroupNumbers(model));
+    }
+
     @Test
     public void execute_invalidGroupSize_failure() {
         GroupRandomCommand groupRandomCommand = new GroupRandomCommand(0);
@@ -75,13 +99,27 @@ public class GroupRandomCommandTest {
 
         // different maxGroupSize -> returns false
         assertFalse(standardCommand.equals(new GroupRandomCommand(3)));
+
+        // different seed -> returns false
+        assertFalse(standardCommand.equals(new GroupRandomCommand(2, Optional.of(1L), List.of())));
+
+        // different spread categories -> returns false
+        assertFalse(standardCommand.equals(new GroupRandomCommand(2, Optional.empty(),
+                List.of(new Category("STAFF")))));
     }
 
     @Test
     public void toStringMethod() {
         int maxGroupSize = 2;
         GroupRandomCommand groupRandomCommand = new GroupRandomCommand(maxGroupSize);
-        String expected = GroupRandomCommand.class.getCanonicalName() + "{maxGroupSize=" + maxGroupSize + "}";
+        String expected = GroupRandomCommand.class.getCanonicalName() + "{maxGroupSize=" + maxGroupSize
+                + ", seed=Optional.empty, spreadCategories=[]}";
         assertEquals(expected, groupRandomCommand.toString());
     }
+
+    private static List<Integer> getGroupNumbers(Model model) {
+        return model.getAddressBook().getPersonList().stream()
+                .map(Person::getGroupNumber)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListGroupCommand.
+ */
+public class ListGroupCommandTest {
+
+    private Person alice;
+    private Person benson;
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        alice = createGrouped(ALICE, 2);
+        benson = createGrouped(BENSON, 7);
+        List<Person> persons = Arrays.asList(alice, benson, new PersonBuilder(CARL).build());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new EventBook(), new UserPrefs());
+        expectedModel = new ModelManager(new AddressBook(addressBook), new EventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_groupNumber_listsMembers() {
+        expectedModel.updateFilteredPersonList(person -> person.equals(benson));
+        assertCommandSuccess(new ListGroupCommand(7), model,
+                String.format(ListGroupCommand.MESSAGE_GROUP_LISTED, 1, 7), expectedModel);
+        assertEquals(List.of(benson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_emptyGroup_listsNoOne() {
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new ListGroupCommand(3), model,
+                String.format(ListGroupCommand.MESSAGE_GROUP_LISTED, 0, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_noGroupNumber_showsGroupSizes() {
+        String expectedMessage = String.format(ListGroupCommand.MESSAGE_GROUP_SIZES,
+                String.format(ListGroupCommand.MESSAGE_GROUP_SIZE, 2, 1) + "\n"
+                + String.format(ListGroupCommand.MESSAGE_GROUP_SIZE, 7, 1));
+        assertCommandSuccess(new ListGroupCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noGroups_showsNoGroups() {
+        Model emptyModel = new ModelManager();
+        assertCommandSuccess(new ListGroupCommand(), emptyModel, ListGroupCommand.MESSAGE_NO_GROUPS,
+                new ModelManager());
+    }
+
+    @Test
+    public void execute_invalidGroupNumber_failure() {
+        assertCommandFailure(new ListGroupCommand(0), model, ListGroupCommand.MESSAGE_INVALID_GROUP_NUMBER);
+    }
+
+    @Test
+    public void execute_afterRegrouping_reflectsNewGroups() throws Exception {
+        model.groupPerson(alice, 7);
+
+        new ListGroupCommand(7).execute(model);
+        assertEquals(List.of(alice, benson), model.getFilteredPersonList());
+        assertEquals(7, model.getHighestGroupNumber());
+    }
+
+    @Test
+    public void execute_listedPersonEditedOrRegrouped_listsCurrentMembers() throws Exception {
+        new ListGroupCommand(7).execute(model);
+
+        Person editedBenson = new PersonBuilder(benson).withPhone("91234567").build();
+        editedBenson.setGroupNumber(7);
+        model.setPerson(benson, editedBenson);
+        assertEquals(List.of(editedBenson), model.getFilteredPersonList());
+
+        model.groupPerson(alice, 7);
+        assertEquals(List.of(alice, editedBenson), model.getFilteredPersonList());
+
+        model.groupPerson(editedBenson, 2);
+        assertEquals(List.of(alice), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        ListGroupCommand listGroupCommand = new ListGroupCommand(2);
+
+        // same values -> returns true
+        assertTrue(listGroupCommand.equals(new ListGroupCommand(2)));
+
+        // same object -> returns true
+        assertTrue(listGroupCommand.equals(listGroupCommand));
+
+        // null -> returns false
+        assertFalse(listGroupCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(listGroupCommand.equals(new ListCommand()));
+
+        // different group number -> returns false
+        assertFalse(listGroupCommand.equals(new ListGroupCommand(3)));
+        assertFalse(listGroupCommand.equals(new ListGroupCommand()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = ListGroupCommand.class.getCanonicalName() + "{groupNumber=Optional[2]}";
+        assertEquals(expected, new ListGroupCommand(2).toString());
+    }
+
+    private static Person createGrouped(Person person, int groupNumber) {
+        Person grouped = new PersonBuilder(person).build();
+        grouped.setGroupNumber(groupNumber);
+        return grouped;
+    }
+}
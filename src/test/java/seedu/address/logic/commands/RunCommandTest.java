@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RunCommandTest {
+
+    private static final String ADD_AMY = "add n/Amy Bee p/11111111 e/amy@example.com c/participant";
+    private static final String ADD_BOB = "add n/Bob Choo p/22222222 e/bob@example.com c/staff";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Parser<Command> scriptParser = new AddressBookParser()::parseCommand;
+    private Person alice;
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        alice = new PersonBuilder().withName("Alice Pauline").withCategory("PARTICIPANT").build();
+        alice.setGroupNumber(2);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(alice);
+        model = new ModelManager(addressBook, new EventBook(), new UserPrefs());
+        expectedModel = new ModelManager(addressBook, new EventBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null, scriptParser));
+        assertThrows(NullPointerException.class, () -> new RunCommand(testFolder, null));
+    }
+
+    @Test
+    public void execute_validScript_runsEveryCommandAsOne() throws Exception {
+        Path script = writeScript("# new staff", ADD_AMY, "", "  " + ADD_BOB, "group 1 5");
+
+        CommandResult result = new RunCommand(script, scriptParser).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 3 commands from " + script));
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertEquals(5, alice.getGroupNumber());
+
+        // the whole script is undone at once
+        assertTrue(model.canUndoAddressBook());
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS_UNDO, script),
+                model.undoAddressBook().getFeedbackToUser());
+        assertEquals(List.of(alice), model.getAddressBook().getPersonList());
+        assertEquals(2, alice.getGroupNumber());
+        assertFalse(model.canUndoAddressBook());
+
+        model.redoAddressBook();
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertEquals(5, alice.getGroupNumber());
+    }
+
+    @Test
+    public void execute_failingCommand_changesNothing() throws Exception {
+        Path script = writeScript("group 1 7", ADD_AMY, "delete 9");
+
+        assertCommandFailure(new RunCommand(script, scriptParser), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 3,
+                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(expectedModel, model);
+        assertEquals(2, alice.getGroupNumber());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_undoInScript_nothingToUndo() throws Exception {
+        // the commands before it in the script are not recorded one by one, so there is nothing for it to undo
+        Path script = writeScript(ADD_AMY, "undo");
+
+        assertCommandFailure(new RunCommand(script, scriptParser), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, UndoCommand.MESSAGE_FAILURE_NO_COMMAND_TO_UNDO));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_unparsableLine_runsNothing() throws Exception {
+        Path script = writeScript(ADD_AMY, "unknown 1");
+
+        assertCommandFailure(new RunCommand(script, scriptParser), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, MESSAGE_UNKNOWN_COMMAND));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_unsupportedCommand_throwsCommandException() throws Exception {
+        Path script = writeScript(ADD_AMY, "run other.txt");
+
+        assertCommandFailure(new RunCommand(script, scriptParser), model,
+                String.format(RunCommand.MESSAGE_LINE_FAILED, 2, RunCommand.MESSAGE_UNSUPPORTED_COMMAND));
+    }
+
+    @Test
+    public void execute_emptyScript_throwsCommandException() throws Exception {
+        Path script = writeScript("# nothing to run", "");
+
+        assertCommandFailure(new RunCommand(script, scriptParser), model,
+                String.format(RunCommand.MESSAGE_EMPTY_SCRIPT, script));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        RunCommand command = new RunCommand(testFolder.resolve("missing.txt"), scriptParser);
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand command = new RunCommand(script, scriptParser);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RunCommand(script, scriptParser)));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new RunCommand(testFolder.resolve("other.txt"), scriptParser)));
+        assertFalse(command.equals(new RunCommand(script, new AddressBookParser()::parseCommand)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path script = testFolder.resolve("script.txt");
+        String expected = RunCommand.class.getCanonicalName() + "{scriptFilePath=" + script + "}";
+        assertEquals(expected, new RunCommand(script, scriptParser).toString());
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
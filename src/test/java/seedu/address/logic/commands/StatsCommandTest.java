@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommands_showsNoCommandsMessage() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics()), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_commandsRecorded_showsReport() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.record("list", Phase.PARSE, 1_000);
+        assertCommandSuccess(new StatsCommand(metrics), model, metrics.getReport(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics metrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(metrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        CommandMetrics metrics = new CommandMetrics();
+        String expected = StatsCommand.class.getCanonicalName() + "{commandMetrics=" + metrics + "}";
+        assertEquals(expected, new StatsCommand(metrics).toString());
+    }
+}
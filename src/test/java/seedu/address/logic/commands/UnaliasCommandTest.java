@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UnaliasCommandTest {
+
+    private CommandRegistry<String> registry;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry<>();
+        registry.register(ListCommand.COMMAND_WORD, "list parser");
+        registry.addAlias("ls", ListCommand.COMMAND_WORD);
+        registry.addAlias("l", ListCommand.COMMAND_WORD);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAliases(registry.getAliases());
+        model = new ModelManager(new AddressBook(), new EventBook(), userPrefs);
+    }
+
+    @Test
+    public void execute_alias_removesAndSavesAlias() throws Exception {
+        CommandResult result = new UnaliasCommand(registry, "ls").execute(model);
+
+        assertEquals(String.format(UnaliasCommand.MESSAGE_SUCCESS, "ls"), result.getFeedbackToUser());
+        assertFalse(registry.hasAlias("ls"));
+        assertEquals(Map.of("l", ListCommand.COMMAND_WORD), model.getUserPrefs().getAliases());
+    }
+
+    @Test
+    public void execute_notAlias_throwsCommandException() {
+        assertCommandFailure(new UnaliasCommand(registry, ListCommand.COMMAND_WORD), model,
+                String.format(AliasStore.MESSAGE_UNKNOWN_ALIAS, ListCommand.COMMAND_WORD));
+        assertTrue(registry.isBuiltIn(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void equals() {
+        UnaliasCommand command = new UnaliasCommand(registry, "ls");
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UnaliasCommand(registry, "ls")));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new UnaliasCommand(registry, "l")));
+        assertFalse(command.equals(new UnaliasCommand(new CommandRegistry<>(), "ls")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = UnaliasCommand.class.getCanonicalName() + "{alias=ls}";
+        assertEquals(expected, new UnaliasCommand(registry, "ls").toString());
+    }
+}
@@ -34,6 +34,22 @@ class UndoCommandTest {
         assertCommandSuccess(new UndoCommand(), model, ReversibleCommandStub.MESSAGE_SUCCESS_UNDO, model);
     }
 
+    @Test
+    public void execute_afterClear_restoresPersons() {
+        new ClearCommand().execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, ClearCommand.MESSAGE_SUCCESS_UNDO, expectedModel);
+    }
+
+    @Test
+    public void execute_afterClearEvents_restoresEvents() {
+        new ClearEventCommand().execute(model);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, ClearEventCommand.MESSAGE_SUCCESS_UNDO, expectedModel);
+    }
+
     private class ReversibleCommandStub extends Command implements ReversibleCommand {
         public static final String MESSAGE_SUCCESS = "success";
         public static final String MESSAGE_SUCCESS_UNDO = "undo";
@@ -46,12 +62,12 @@ class UndoCommandTest {
         }
 
         @Override
-        public CommandResult undo(Model model) {
+        public CommandResult getUndoResult() {
             return new CommandResult(MESSAGE_SUCCESS_UNDO);
         }
 
         @Override
-        public CommandResult redo(Model model) {
+        public CommandResult getRedoResult() {
             return new CommandResult(MESSAGE_SUCCESS_REDO);
         }
     }
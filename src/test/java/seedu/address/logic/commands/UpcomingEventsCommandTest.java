@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+import static seedu.address.testutil.TypicalEvents.EVENT5;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UpcomingEventsCommand}.
+ */
+public class UpcomingEventsCommandTest {
+    private static final Clock MARCH_3_2025 = Clock.fixed(
+            LocalDate.of(2025, 3, 3).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalEventBook(), new UserPrefs());
+
+    @Test
+    public void execute_count_listsNextEventsFromToday() {
+        EventCommandResult result = new UpcomingEventsCommand(2, MARCH_3_2025).execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2), result.getFeedbackToUser());
+        assertEquals(List.of(EVENT3, EVENT4), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_countAboveRemaining_listsAllRemainingEvents() {
+        EventCommandResult result = new UpcomingEventsCommand(50, MARCH_3_2025).execute(model);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 5), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_eventsEditedAfterwards_listsEventsFoundWhenRun() {
+        new UpcomingEventsCommand(2, MARCH_3_2025).execute(model);
+
+        // the listed events are those found when the command ran, so an edited event is not listed again
+        Event renamedEvent3 = new EventBuilder(EVENT3).withEventName("renamed event 3").build();
+        model.setEvent(EVENT3, renamedEvent3);
+        Event movedEvent5 = new EventBuilder(EVENT5).withEventDate("03-03-2025").build();
+        model.setEvent(EVENT5, movedEvent5);
+        assertEquals(List.of(EVENT4), model.getFilteredEventList());
+
+        new UpcomingEventsCommand(2, MARCH_3_2025).execute(model);
+        assertEquals(List.of(renamedEvent3, movedEvent5), model.getFilteredEventList());
+    }
+
+    @Test
+    public void equals() {
+        UpcomingEventsCommand command = new UpcomingEventsCommand(3);
+
+        // same values -> returns true
+        assertTrue(command.equals(new UpcomingEventsCommand(3)));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different count -> returns false
+        assertFalse(command.equals(new UpcomingEventsCommand(4)));
+    }
+}
@@ -0,0 +1,218 @@
+package seedu.address.logic.commands.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ReversibleCommand;
+import seedu.address.logic.commands.exceptions.UndoException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.storage.HistorySpillFile;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandHistoryManagerTest {
+
+    private static final int COMMAND_COUNT = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path spillFilePath;
+    private Path redoSpillFilePath;
+    /** The state before each command, followed by the state after the last one. */
+    private final List<ModelSnapshot> states = new ArrayList<>();
+    private final List<HistoryEntry> entries = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        spillFilePath = testFolder.resolve("history.spill");
+        redoSpillFilePath = testFolder.resolve("redo.spill");
+        AddressBook addressBook = new AddressBook();
+        EventBook eventBook = new EventBook();
+        states.add(new ModelSnapshot(addressBook.getSnapshot(), eventBook.getSnapshot()));
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+            states.add(new ModelSnapshot(addressBook.getSnapshot(), eventBook.getSnapshot()));
+            entries.add(new HistoryEntry(new ReversibleCommandStub(i), states.get(i), states.get(i + 1)));
+        }
+    }
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                createHistory(-1));
+    }
+
+    @Test
+    public void addEntry_withinBudget_nothingSpilled() {
+        CommandHistoryManager history = createHistory(Long.MAX_VALUE);
+        entries.forEach(history::addEntry);
+
+        assertEquals(COMMAND_COUNT, history.getEntriesInMemoryCount());
+        assertFalse(Files.exists(spillFilePath));
+    }
+
+    @Test
+    public void addEntry_overBudget_spillsAllButNewest() {
+        CommandHistoryManager history = createHistory(0);
+        entries.forEach(history::addEntry);
+
+        assertEquals(1, history.getEntriesInMemoryCount());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void addEntry_budgetForSomeEntries_keepsNewestInMemory() {
+        long budget = entries.get(COMMAND_COUNT - 1).getEstimatedSize() + entries.get(COMMAND_COUNT - 2)
+                .getEstimatedSize();
+        CommandHistoryManager history = createHistory(budget);
+        entries.forEach(history::addEntry);
+
+        assertEquals(2, history.getEntriesInMemoryCount());
+    }
+
+    @Test
+    public void getEntryToUndo_spilledEntries_loadedBackInOrder() throws Exception {
+        CommandHistoryManager history = createHistory(0);
+        entries.forEach(history::addEntry);
+
+        for (int i = COMMAND_COUNT - 1; i >= 0; i--) {
+            HistoryEntry entry = history.getEntryToUndo();
+            assertEquals(ReversibleCommandStub.MESSAGE_UNDO + i, entry.getCommand().getUndoResult()
+                    .getFeedbackToUser());
+            assertEquals(states.get(i).getPersons().getPersons(), entry.getStateBefore().getPersons().getPersons());
+            assertEquals(states.get(i + 1).getPersons().getPersons(),
+                    entry.getStateAfter().getPersons().getPersons());
+        }
+        assertFalse(history.canUndo());
+        assertThrows(UndoException.class, history::getEntryToUndo);
+
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            HistoryEntry entry = history.getEntryToRedo();
+            assertEquals(ReversibleCommandStub.MESSAGE_REDO + i, entry.getCommand().getRedoResult()
+                    .getFeedbackToUser());
+            assertEquals(states.get(i + 1).getPersons().getPersons(),
+                    entry.getStateAfter().getPersons().getPersons());
+        }
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void getEntryToUndo_overBudget_redoEntriesSpilledAndRedoneInOrder() throws Exception {
+        CommandHistoryManager history = createHistory(0);
+        entries.forEach(history::addEntry);
+
+        for (int i = COMMAND_COUNT - 1; i >= 0; i--) {
+            history.getEntryToUndo();
+            // only the next entry to redo is kept in memory
+            assertEquals(1, history.getRedoEntriesInMemoryCount());
+        }
+        assertTrue(Files.exists(redoSpillFilePath));
+
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            HistoryEntry entry = history.getEntryToRedo();
+            assertEquals(ReversibleCommandStub.MESSAGE_REDO + i, entry.getCommand().getRedoResult()
+                    .getFeedbackToUser());
+            assertEquals(states.get(i).getPersons().getPersons(), entry.getStateBefore().getPersons().getPersons());
+            assertEquals(states.get(i + 1).getPersons().getPersons(),
+                    entry.getStateAfter().getPersons().getPersons());
+        }
+        assertFalse(history.canRedo());
+        assertThrows(UndoException.class, history::getEntryToRedo);
+    }
+
+    @Test
+    public void getEntryToRedo_corruptedRedoSpillFile_throwsUndoException() throws Exception {
+        CommandHistoryManager history = createHistory(0);
+        entries.forEach(history::addEntry);
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            history.getEntryToUndo();
+        }
+        history.getEntryToRedo();
+
+        Files.writeString(redoSpillFilePath, "not json\n");
+        assertThrows(UndoException.class, CommandHistoryManager.MESSAGE_SPILLED_REDO_ENTRY_LOST,
+                history::getEntryToRedo);
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void addEntry_afterUndo_clearsRedo() throws Exception {
+        CommandHistoryManager history = createHistory(0);
+        history.addEntry(entries.get(0));
+        history.addEntry(entries.get(1));
+        history.getEntryToUndo();
+        assertTrue(history.canRedo());
+
+        history.addEntry(new HistoryEntry(new ReversibleCommandStub(COMMAND_COUNT), states.get(1), states.get(3)));
+        assertFalse(history.canRedo());
+
+        // the spilled entry follows on from the new entry
+        history.getEntryToUndo();
+        HistoryEntry entry = history.getEntryToUndo();
+        assertEquals(states.get(0).getPersons().getPersons(), entry.getStateBefore().getPersons().getPersons());
+        assertEquals(states.get(1).getPersons().getPersons(), entry.getStateAfter().getPersons().getPersons());
+    }
+
+    @Test
+    public void getEntryToUndo_corruptedSpillFile_throwsUndoException() throws Exception {
+        CommandHistoryManager history = createHistory(0);
+        entries.forEach(history::addEntry);
+        history.getEntryToUndo();
+
+        Files.writeString(spillFilePath, "not json\n");
+        assertThrows(UndoException.class, CommandHistoryManager.MESSAGE_SPILLED_ENTRY_LOST, history::getEntryToUndo);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void getEntryToUndo_emptyHistory_throwsUndoException() {
+        CommandHistoryManager history = new CommandHistoryManager();
+        assertFalse(history.canUndo());
+        assertThrows(UndoException.class, history::getEntryToUndo);
+        assertThrows(UndoException.class, history::getEntryToRedo);
+        assertNull(new HistorySpillFile().getFilePath());
+    }
+
+    private CommandHistoryManager createHistory(long memoryBudget) {
+        return new CommandHistoryManager(memoryBudget, new HistorySpillFile(spillFilePath),
+                new HistorySpillFile(redoSpillFilePath));
+    }
+
+    private static class ReversibleCommandStub implements ReversibleCommand {
+        static final String MESSAGE_UNDO = "undo ";
+        static final String MESSAGE_REDO = "redo ";
+
+        private final int number;
+
+        ReversibleCommandStub(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public CommandResult getUndoResult() {
+            return new CommandResult(MESSAGE_UNDO + number);
+        }
+
+        @Override
+        public CommandResult getRedoResult() {
+            return new CommandResult(MESSAGE_REDO + number);
+        }
+    }
+}
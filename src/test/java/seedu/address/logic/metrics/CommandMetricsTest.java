@@ -0,0 +1,76 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void record_countsPerCommandWord() {
+        CommandMetrics metrics = new CommandMetrics();
+        recordRun(metrics, "add", 1_000);
+        recordRun(metrics, "add", 2_000);
+        recordRun(metrics, "delete", 3_000);
+        metrics.recordFailure("delete");
+        metrics.recordUnparsedCommand();
+
+        assertEquals(2, metrics.getCount("add"));
+        assertEquals(0, metrics.getFailureCount("add"));
+        assertEquals(1, metrics.getCount("delete"));
+        assertEquals(1, metrics.getFailureCount("delete"));
+        assertEquals(0, metrics.getCount("list"));
+        assertEquals(0, metrics.getFailureCount("list"));
+        assertEquals(1, metrics.getUnparsedCommandCount());
+    }
+
+    @Test
+    public void getReport_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, new CommandMetrics().getReport());
+    }
+
+    @Test
+    public void getReport_commandsAndWrites_reportsEach() {
+        CommandMetrics metrics = new CommandMetrics();
+        recordRun(metrics, "delete", 1_500_000);
+        recordRun(metrics, "add", 2_000_000);
+        metrics.recordFailure("delete");
+        metrics.recordWrite("address book", 4_000_000);
+        metrics.recordUnparsedCommand();
+
+        String report = metrics.getReport();
+        assertTrue(report.contains("add (1 runs, 0 failed)"));
+        assertTrue(report.contains("delete (1 runs, 1 failed)"));
+        assertTrue(report.indexOf("add (") < report.indexOf("delete ("));
+        assertTrue(report.contains("execute"));
+        assertTrue(report.contains("address book"));
+        assertTrue(report.contains("4.000"));
+        assertTrue(report.endsWith("unparsed commands: 1"));
+    }
+
+    @Test
+    public void dump_writesReport() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        recordRun(metrics, "list", 1_000);
+        Path filePath = testFolder.resolve("metrics").resolve("commandMetrics.txt");
+
+        metrics.dump(filePath);
+        assertEquals(metrics.getReport() + System.lineSeparator(), Files.readString(filePath));
+    }
+
+    private static void recordRun(CommandMetrics metrics, String commandWord, long nanos) {
+        for (Phase phase : Phase.values()) {
+            metrics.record(commandWord, phase, nanos);
+        }
+    }
+}
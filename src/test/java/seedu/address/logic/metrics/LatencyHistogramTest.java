@@ -0,0 +1,86 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_noLatencies_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, LatencyHistogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, LatencyHistogram.MESSAGE_INVALID_PERCENTILE, () ->
+                histogram.getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(2, histogram.getValueAtPercentile(50));
+        assertEquals(3, histogram.getValueAtPercentile(100));
+        assertEquals(3, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_manyLatencies_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long latency = 1; latency <= 1000; latency++) {
+            histogram.record(latency * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertWithinBucketError(500_000, histogram.getValueAtPercentile(50));
+        assertWithinBucketError(950_000, histogram.getValueAtPercentile(95));
+        assertWithinBucketError(990_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeLatency_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_maximumLatency_recorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getBucketUpperBound_everyBucket_holdsItsLatencies() {
+        int lastIndex = LatencyHistogram.getBucketIndex(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(lastIndex));
+        for (int index = 0; index < lastIndex; index++) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(index);
+            assertEquals(index, LatencyHistogram.getBucketIndex(upperBound));
+            assertEquals(index + 1, LatencyHistogram.getBucketIndex(upperBound + 1));
+        }
+    }
+
+    private static void assertWithinBucketError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 4,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -9,11 +9,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AliasCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -24,7 +26,24 @@ import seedu.address.logic.commands.GroupCommand;
 import seedu.address.logic.commands.GroupRandomCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListGroupCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UnaliasCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.alias.AddParticipantAlias;
+import seedu.address.logic.parser.alias.AddSponsorAlias;
+import seedu.address.logic.parser.alias.AddStaffAlias;
+import seedu.address.logic.parser.alias.DeleteAlias;
+import seedu.address.logic.parser.alias.EditAlias;
+import seedu.address.logic.parser.alias.ExitAlias;
+import seedu.address.logic.parser.alias.FindAlias;
+import seedu.address.logic.parser.alias.RedoAlias;
+import seedu.address.logic.parser.alias.UndoAlias;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
 import seedu.address.model.person.ContactContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -90,6 +109,20 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        AddressBookParser metricsParser = new AddressBookParser(metrics);
+        assertEquals(new StatsCommand(metrics), metricsParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(metrics), metricsParser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_listGroup() throws Exception {
+        assertEquals(new ListGroupCommand(3), parser.parseCommand(ListGroupCommand.COMMAND_WORD + " 3"));
+        assertEquals(new ListGroupCommand(), parser.parseCommand(ListGroupCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_group() throws Exception {
         GroupCommand command = (GroupCommand) parser.parseCommand(GroupCommand.COMMAND_WORD + " "
@@ -105,6 +138,89 @@ public class AddressBookParserTest {
     }
 
 
+    @Test
+    public void parseCommand_alias() throws Exception {
+        assertTrue(parser.parseCommand(AliasCommand.COMMAND_WORD) instanceof AliasCommand);
+        assertTrue(parser.parseCommand(AliasCommand.COMMAND_WORD + " ls list") instanceof AliasCommand);
+    }
+
+    @Test
+    public void parseCommand_unalias() throws Exception {
+        assertTrue(parser.parseCommand(UnaliasCommand.COMMAND_WORD + " ls") instanceof UnaliasCommand);
+    }
+
+    @Test
+    public void parseCommand_builtInAddAliases_addWithCategory() throws Exception {
+        assertAddAlias(AddParticipantAlias.ALIAS_WORD, "PARTICIPANT");
+        assertAddAlias(AddStaffAlias.ALIAS_WORD, "STAFF");
+        assertAddAlias(AddSponsorAlias.ALIAS_WORD, "SPONSOR");
+    }
+
+    private void assertAddAlias(String aliasWord, String category) throws Exception {
+        Person person = new PersonBuilder().withCategory(category).build();
+        assertEquals(new AddCommand(person),
+                parser.parseCommand(aliasWord + " " + PersonUtil.getPersonDetailNoCategory(person)));
+    }
+
+    @Test
+    public void parseCommand_builtInAliases_sameAsCommandWord() throws Exception {
+        String index = " " + INDEX_FIRST_PERSON.getOneBased();
+        assertEquals(parser.parseCommand(DeleteCommand.COMMAND_WORD + index),
+                parser.parseCommand(DeleteAlias.ALIAS_WORD + index));
+        String editArgs = index + " " + PersonUtil.getPersonDetailNoCategory(new PersonBuilder().build());
+        assertEquals(parser.parseCommand(EditCommand.COMMAND_WORD + editArgs),
+                parser.parseCommand(EditAlias.ALIAS_WORD + editArgs));
+        assertEquals(parser.parseCommand(FindCommand.COMMAND_WORD + " John"),
+                parser.parseCommand(FindAlias.ALIAS_WORD + " John"));
+        assertEquals(new ExitCommand(), parser.parseCommand(ExitAlias.ALIAS_WORD));
+        assertEquals(new UndoCommand(), parser.parseCommand(UndoAlias.ALIAS_WORD));
+        assertEquals(new RedoCommand(), parser.parseCommand(RedoAlias.ALIAS_WORD));
+    }
+
+    @Test
+    public void parseCommand_userAlias_parsesAsCommandWord() throws Exception {
+        AddressBookParser aliasParser = new AddressBookParser();
+        aliasParser.addAliases(Map.of("rm", DeleteCommand.COMMAND_WORD, "ls", "d"));
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                aliasParser.parseCommand("rm " + INDEX_FIRST_PERSON.getOneBased()));
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                aliasParser.parseCommand("ls " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void addAliases_invalidAliases_skipped() throws Exception {
+        AddressBookParser aliasParser = new AddressBookParser();
+        aliasParser.addAliases(Map.of(ListCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD, "rm", "remove"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> aliasParser.parseCommand("rm 1"));
+        assertTrue(aliasParser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_aliasCommand_changesDispatch() throws Exception {
+        AddressBookParser aliasParser = new AddressBookParser();
+        ModelManager model = new ModelManager();
+        aliasParser.parseCommand(AliasCommand.COMMAND_WORD + " ls " + ListCommand.COMMAND_WORD).execute(model);
+        assertTrue(aliasParser.parseCommand("ls") instanceof ListCommand);
+
+        aliasParser.parseCommand(UnaliasCommand.COMMAND_WORD + " ls").execute(model);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> aliasParser.parseCommand("ls"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertTrue(parser.parseCommand(RunCommand.COMMAND_WORD + " script.txt") instanceof RunCommand);
+    }
+
+    @Test
+    public void getCommandWord_aliases_commandWordTheyStandFor() {
+        parser.addAliases(Map.of("del", DeleteCommand.COMMAND_WORD));
+        assertEquals(AddCommand.COMMAND_WORD, parser.getCommandWord("  ap n/Amy"));
+        assertEquals(DeleteCommand.COMMAND_WORD, parser.getCommandWord("del 1"));
+        assertEquals(ListCommand.COMMAND_WORD, parser.getCommandWord(ListCommand.COMMAND_WORD));
+        assertEquals("unknown", parser.getCommandWord("unknown 3"));
+        assertEquals("", parser.getCommandWord("   "));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AliasCommand;
+
+public class AliasCommandParserTest {
+
+    private final CommandRegistry<String> registry = new CommandRegistry<>();
+    private final AliasCommandParser parser = new AliasCommandParser(registry);
+
+    @Test
+    public void parse_noArgs_returnsListingAliasCommand() {
+        assertParseSuccess(parser, "  ", new AliasCommand(registry));
+    }
+
+    @Test
+    public void parse_aliasAndCommandWord_returnsAliasCommand() {
+        assertParseSuccess(parser, " ls   list ", new AliasCommand(registry, "ls", "list"));
+    }
+
+    @Test
+    public void parse_wrongNumberOfWords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AliasCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "ls", expectedMessage);
+        assertParseFailure(parser, "ls list 3", expectedMessage);
+    }
+}
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 public class ArgumentTokenizerTest {
@@ -136,6 +140,86 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters() {
+        Prefix eSlash = new Prefix("e/");
+        Prefix enSlash = new Prefix("en/");
+        Prefix edSlash = new Prefix("ed/");
+        String argsString = " en/Lunch e/ e/amy@example.com ed/01-01-2025 ee/ en/Dinner";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, eSlash, enSlash, edSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, enSlash, "Lunch", "Dinner");
+        assertArgumentPresent(argMultimap, eSlash, "", "amy@example.com");
+        assertArgumentPresent(argMultimap, edSlash, "01-01-2025 ee/");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognized() {
+        String argsString = "preamble\tp/not a prefix p/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble\tp/not a prefix");
+        assertArgumentPresent(argMultimap, pSlash, "");
+    }
+
+    @Test
+    public void tokenize_prefixTrie_sameAsPrefixes() {
+        PrefixTrie prefixTrie = new PrefixTrie(pSlash, dashT, hatQ);
+        String argsString = "preamble p/ one -t two ^Q three p/four";
+        ArgumentMultimap expected = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, prefixTrie);
+
+        assertPreamblePresent(argMultimap, expected.getPreamble());
+        for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ}) {
+            assertEquals(expected.getAllValues(prefix), argMultimap.getAllValues(prefix));
+        }
+        // the trie can be reused
+        assertEquals(expected.getAllValues(pSlash),
+                ArgumentTokenizer.tokenize(argsString, prefixTrie).getAllValues(pSlash));
+    }
+
+    @Test
+    public void tokenize_randomInputs_sameAsIndexOfTokenizer() {
+        // a small alphabet makes prefixes that share characters, overlap and repeat likely
+        String alphabet = "ab/ \t";
+        Random random = new Random(2024);
+        for (int run = 0; run < 2000; run++) {
+            Prefix[] prefixes = randomPrefixes(random, 1 + random.nextInt(4));
+            String argsString = randomString(random, alphabet, random.nextInt(30));
+
+            ArgumentMultimap expected = IndexOfTokenizer.tokenize(argsString, prefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, prefixes);
+            String input = "args \"" + argsString + "\" with prefixes " + List.of(prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), input);
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), input);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code count} distinct prefixes that each end with their only {@code /}, so that none starts with
+     * another, as with the prefixes of every command. Neither tokenizer supports two prefixes found at the same
+     * position.
+     */
+    private static Prefix[] randomPrefixes(Random random, int count) {
+        List<Prefix> prefixes = new ArrayList<>();
+        while (prefixes.size() < count) {
+            Prefix prefix = new Prefix(randomString(random, "ab", random.nextInt(3)) + "/");
+            if (!prefixes.contains(prefix)) {
+                prefixes.add(prefix);
+            }
+        }
+        return prefixes.toArray(new Prefix[0]);
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -147,4 +231,40 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    /**
+     * The tokenizer that {@code ArgumentTokenizer} replaced, which finds the positions of each prefix with
+     * {@code String#indexOf} and sorts them. Kept as the reference that the single-pass tokenizer must agree with.
+     */
+    private static class IndexOfTokenizer {
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<Integer> positions = new ArrayList<>();
+            List<Prefix> foundPrefixes = new ArrayList<>();
+            for (Prefix prefix : prefixes) {
+                int position = argsString.indexOf(" " + prefix.getPrefix());
+                while (position != -1) {
+                    // stable insertion by position keeps prefixes at the same position in the order given
+                    int insertAt = positions.size();
+                    while (insertAt > 0 && positions.get(insertAt - 1) > position + 1) {
+                        insertAt--;
+                    }
+                    positions.add(insertAt, position + 1);
+                    foundPrefixes.add(insertAt, prefix);
+                    position = argsString.indexOf(" " + prefix.getPrefix(), position + 1);
+                }
+            }
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            Prefix currentPrefix = new Prefix("");
+            int currentPosition = 0;
+            for (int i = 0; i < positions.size(); i++) {
+                argMultimap.put(currentPrefix, argsString.substring(
+                        currentPosition + currentPrefix.getPrefix().length(), positions.get(i)).trim());
+                currentPrefix = foundPrefixes.get(i);
+                currentPosition = positions.get(i);
+            }
+            argMultimap.put(currentPrefix, argsString.substring(
+                    currentPosition + currentPrefix.getPrefix().length()).trim());
+            return argMultimap;
+        }
+    }
 }
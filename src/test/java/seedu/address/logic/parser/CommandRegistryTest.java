@@ -0,0 +1,116 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CommandRegistryTest {
+
+    private CommandRegistry<String> registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry<>();
+        registry.register("list", "list parser");
+        registry.register("find", "find parser");
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", "other parser"));
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, "parser"));
+        assertThrows(NullPointerException.class, () -> registry.register("view", null));
+    }
+
+    @Test
+    public void getParser() {
+        assertEquals(Optional.of("list parser"), registry.getParser("list"));
+        assertEquals(Optional.empty(), registry.getParser("ls"));
+    }
+
+    @Test
+    public void isValidAlias() {
+        assertTrue(registry.isValidAlias("ls"));
+        assertFalse(registry.isValidAlias(""));
+        assertFalse(registry.isValidAlias("l s"));
+        assertFalse(registry.isValidAlias("list"));
+    }
+
+    @Test
+    public void addAlias_builtInWord_dispatchesToSameParser() {
+        registry.addAlias("ls", "list");
+        assertTrue(registry.hasAlias("ls"));
+        assertFalse(registry.isBuiltIn("ls"));
+        assertEquals(Optional.of("list parser"), registry.getParser("ls"));
+        assertEquals(Map.of("ls", "list"), registry.getAliases());
+    }
+
+    @Test
+    public void addAlias_existingAlias_replacesTarget() {
+        registry.addAlias("l", "list");
+        registry.addAlias("l", "find");
+        assertEquals(Optional.of("find parser"), registry.getParser("l"));
+        assertEquals(Map.of("l", "find"), registry.getAliases());
+    }
+
+    @Test
+    public void addAlias_invalid_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CommandRegistry.MESSAGE_INVALID_ALIAS, ()
+            -> registry.addAlias("find", "list"));
+        assertThrows(IllegalArgumentException.class,
+                String.format(CommandRegistry.MESSAGE_UNKNOWN_COMMAND_WORD, "ls"), () -> registry.addAlias("l", "ls"));
+    }
+
+    @Test
+    public void addAlias_aliasOfAlias_throwsIllegalArgumentException() {
+        registry.addAlias("ls", "list");
+        assertThrows(IllegalArgumentException.class, () -> registry.addAlias("l", "ls"));
+    }
+
+    @Test
+    public void getCommandWord() {
+        registry.register("f", "find", "find alias parser");
+        registry.addAlias("ls", "list");
+        registry.addAlias("search", "f");
+
+        assertEquals(Optional.of("list"), registry.getCommandWord("list"));
+        assertEquals(Optional.of("find"), registry.getCommandWord("f"));
+        assertEquals(Optional.of("list"), registry.getCommandWord("ls"));
+        assertEquals(Optional.of("find"), registry.getCommandWord("search"));
+        assertEquals(Optional.empty(), registry.getCommandWord("unknown"));
+
+        registry.removeAlias("ls");
+        assertEquals(Optional.empty(), registry.getCommandWord("ls"));
+    }
+
+    @Test
+    public void removeAlias() {
+        registry.addAlias("ls", "list");
+        registry.removeAlias("ls");
+        assertFalse(registry.hasAlias("ls"));
+        assertEquals(Optional.empty(), registry.getParser("ls"));
+        assertTrue(registry.getAliases().isEmpty());
+    }
+
+    @Test
+    public void removeAlias_notAlias_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(CommandRegistry.MESSAGE_UNKNOWN_ALIAS, "list"), ()
+            -> registry.removeAlias("list"));
+    }
+
+    @Test
+    public void getAliases_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> registry.getAliases().put("ls", "list"));
+    }
+}
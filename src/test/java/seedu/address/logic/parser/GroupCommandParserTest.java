@@ -12,7 +12,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.GroupCommand;
-import seedu.address.model.person.Group;
 
 public class GroupCommandParserTest {
 
@@ -64,7 +63,6 @@ public class GroupCommandParserTest {
         Index targetIndex = INDEX_FIRST_PERSON;
         String userInput = String.valueOf(targetIndex.getOneBased());
 
-        Group.setTotalGroupNumber(1);
         GroupCommand expectedCommand = new GroupCommand(targetIndex);
 
         assertParseSuccess(parser, userInput, expectedCommand);
@@ -4,9 +4,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.GroupRandomCommand;
+import seedu.address.model.person.Category;
 
 public class GroupRandomCommandParserTest {
 
@@ -39,4 +44,28 @@ public class GroupRandomCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_seedAndSpreadCategories_success() {
+        GroupRandomCommand expectedCommand = new GroupRandomCommand(4, Optional.of(42L),
+                List.of(new Category("STAFF"), new Category("PARTICIPANT")));
+
+        assertParseSuccess(parser, " 4 sd/42 sp/staff sp/PARTICIPANT", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidSeed_failure() {
+        assertParseFailure(parser, " 4 sd/abc", GroupRandomCommand.MESSAGE_INVALID_SEED);
+    }
+
+    @Test
+    public void parse_invalidSpreadCategory_failure() {
+        assertParseFailure(parser, " 4 sp/judge", Category.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateSeed_failure() {
+        assertParseFailure(parser, " 4 sd/1 sd/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_SEED));
+    }
+
 }
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListGroupCommand;
+
+public class ListGroupCommandParserTest {
+
+    private ListGroupCommandParser parser = new ListGroupCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsGroupSizesCommand() {
+        assertParseSuccess(parser, "  ", new ListGroupCommand());
+    }
+
+    @Test
+    public void parse_groupNumber_returnsListGroupCommand() {
+        assertParseSuccess(parser, " 3 ", new ListGroupCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "three",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListGroupCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final Parser<Command> scriptParser = new AddressBookParser()::parseCommand;
+    private final RunCommandParser parser = new RunCommandParser(scriptParser);
+
+    @Test
+    public void parse_filePath_returnsRunCommand() {
+        assertParseSuccess(parser, " scripts/participants.txt ",
+                new RunCommand(Paths.get("scripts/participants.txt"), scriptParser));
+    }
+
+    @Test
+    public void parse_noArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "a\0b", String.format(RunCommandParser.MESSAGE_INVALID_PATH, "a\0b"));
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.UnaliasCommand;
+
+public class UnaliasCommandParserTest {
+
+    private final CommandRegistry<String> registry = new CommandRegistry<>();
+    private final UnaliasCommandParser parser = new UnaliasCommandParser(registry);
+
+    @Test
+    public void parse_alias_returnsUnaliasCommand() {
+        assertParseSuccess(parser, " ls ", new UnaliasCommand(registry, "ls"));
+    }
+
+    @Test
+    public void parse_wrongNumberOfWords_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnaliasCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "  ", expectedMessage);
+        assertParseFailure(parser, "ls list", expectedMessage);
+    }
+}
@@ -5,19 +5,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.GroupSponsorException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -74,6 +82,136 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void findPersons_afterEditAndDelete_reflectsCurrentPersons() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withComment("Renamed").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice), addressBook.findPersons(Collections.singletonList("renamed")));
+        assertTrue(addressBook.findPersons(Collections.singletonList("Expert.")).isEmpty());
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.findPersons(Collections.singletonList("alice")).isEmpty());
+    }
+
+    @Test
+    public void getModificationVersion_afterEachMutation_increases() {
+        long version = addressBook.getModificationVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getModificationVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withComment("Edited").build());
+        assertTrue(addressBook.getModificationVersion() > version);
+
+        version = addressBook.getModificationVersion();
+        addressBook.resetData(new AddressBook());
+        assertTrue(addressBook.getModificationVersion() > version);
+    }
+
+    @Test
+    public void applyBatch_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.applyBatch(null));
+    }
+
+    @Test
+    public void applyBatch_severalChanges_appliedAsSingleListChange() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        Person carl = new PersonBuilder(CARL).build();
+        addressBook.setPersons(Arrays.asList(alice, benson, carl));
+        long version = addressBook.getModificationVersion();
+
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        Person editedAlice = new PersonBuilder(alice).withComment("Renamed").build();
+        addressBook.applyBatch(new PersonBatch()
+                .setPerson(alice, editedAlice)
+                .groupPerson(benson, 2)
+                .removePerson(carl));
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(editedAlice, benson), addressBook.getPersonList());
+        assertEquals(2, benson.getGroupNumber());
+        assertEquals(Set.of(editedAlice), addressBook.findPersons(Collections.singletonList("renamed")));
+        assertTrue(addressBook.findPersons(Collections.singletonList("carl")).isEmpty());
+        assertEquals(version + 1, addressBook.getModificationVersion());
+    }
+
+    @Test
+    public void applyBatch_emptyBatch_noChange() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getModificationVersion();
+
+        addressBook.applyBatch(new PersonBatch());
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
+    @Test
+    public void applyBatch_targetNotFound_nothingApplied() {
+        Person alice = new PersonBuilder(ALICE).build();
+        int originalGroupNumber = alice.getGroupNumber();
+        addressBook.addPerson(alice);
+
+        PersonBatch batch = new PersonBatch()
+                .groupPerson(alice, originalGroupNumber + 1)
+                .removePerson(BENSON);
+        assertThrows(PersonNotFoundException.class, () -> addressBook.applyBatch(batch));
+        assertEquals(Collections.singletonList(alice), addressBook.getPersonList());
+        assertEquals(originalGroupNumber, alice.getGroupNumber());
+    }
+
+    @Test
+    public void applyBatch_duplicateIdentity_nothingApplied() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        int originalGroupNumber = alice.getGroupNumber();
+        addressBook.setPersons(Arrays.asList(alice, benson));
+
+        PersonBatch batch = new PersonBatch()
+                .groupPerson(alice, originalGroupNumber + 1)
+                .setPerson(benson, new PersonBuilder(ALICE).withComment("Copy").build());
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyBatch(batch));
+        assertEquals(Arrays.asList(alice, benson), addressBook.getPersonList());
+        assertEquals(originalGroupNumber, alice.getGroupNumber());
+    }
+
+    @Test
+    public void applyBatch_sponsorRegrouped_earlierRegroupingReverted() {
+        Person alice = new PersonBuilder(ALICE).build();
+        int originalGroupNumber = alice.getGroupNumber();
+        addressBook.setPersons(Arrays.asList(alice, DANIEL));
+
+        PersonBatch batch = new PersonBatch()
+                .groupPerson(alice, originalGroupNumber + 1)
+                .groupPerson(DANIEL, 1);
+        assertThrows(GroupSponsorException.class, () -> addressBook.applyBatch(batch));
+        assertEquals(originalGroupNumber, alice.getGroupNumber());
+    }
+
+    @Test
+    public void restore_afterChanges_indexesFollowSnapshot() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person carl = new PersonBuilder(CARL).build();
+        addressBook.setPersons(Arrays.asList(alice, BENSON, carl));
+        addressBook.groupPerson(alice, 1);
+        UniquePersonList.Snapshot snapshot = addressBook.getSnapshot();
+
+        addressBook.groupPerson(alice, 2);
+        addressBook.setPerson(carl, new PersonBuilder(carl).withName("Zed").build());
+        addressBook.restore(snapshot);
+
+        assertEquals(Arrays.asList(alice, BENSON, carl), addressBook.getPersonList());
+        assertEquals(Set.of(alice), addressBook.getGroupMembers(1));
+        assertEquals(Set.of(), addressBook.getGroupMembers(2));
+        assertEquals(Set.of(carl), addressBook.findPersons(List.of("Carl")));
+        assertEquals(Set.of(), addressBook.findPersons(List.of("Zed")));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -99,6 +237,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getModificationVersion() {
+            return 0;
+        }
     }
 
 }
@@ -34,6 +34,11 @@ public class EventBookTest {
             public ObservableList<Event> getEventList() {
                 return FXCollections.observableArrayList(Collections.emptyList());
             }
+
+            @Override
+            public long getModificationVersion() {
+                return 0;
+            }
         });
         assertNotNull(eventBook);
     }
@@ -98,6 +103,23 @@ public class EventBookTest {
         assertFalse(eventBook1.equals(eventBook2));
     }
 
+    @Test
+    public void getModificationVersion_afterEachMutation_increases() {
+        EventBook eventBook = new EventBook();
+        Event event = new Event(new EventName("Meeting1"), new EventDate("01-01-2025"), new EventCategory("STAFF"));
+        long version = eventBook.getModificationVersion();
+
+        eventBook.addEvent(event);
+        assertTrue(eventBook.getModificationVersion() > version);
+
+        version = eventBook.getModificationVersion();
+        eventBook.hasEvent(event);
+        assertEquals(version, eventBook.getModificationVersion());
+
+        eventBook.removeEvent(event);
+        assertTrue(eventBook.getModificationVersion() > version);
+    }
+
     @Test
     public void hashCode_sameObject_equalHashCodes() {
         EventBook eventBook = new EventBook();
@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+import static seedu.address.testutil.TypicalEvents.EVENT3;
+import static seedu.address.testutil.TypicalEvents.EVENT4;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventDate;
+import seedu.address.testutil.EventBuilder;
+
+public class EventDateIndexTest {
+
+    private final EventDateIndex dateIndex = new EventDateIndex();
+
+    @Test
+    public void getEventsBetween_emptyIndex_returnsEmptyList() {
+        assertTrue(dateIndex.getEventsBetween(Long.MIN_VALUE, Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    public void getEventsBetween_eventsAddedOutOfOrder_returnsInDateOrder() {
+        dateIndex.reset(Arrays.asList(EVENT4, EVENT2, EVENT1, EVENT3));
+
+        assertEquals(List.of(EVENT2, EVENT3),
+                dateIndex.getEventsBetween(epochDayOf("02-02-2025"), epochDayOf("03-03-2025")));
+        assertEquals(List.of(EVENT1, EVENT2, EVENT3, EVENT4),
+                dateIndex.getEventsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getEventsBetween_startAfterEnd_returnsEmptyList() {
+        dateIndex.reset(Arrays.asList(EVENT1, EVENT2));
+        assertTrue(dateIndex.getEventsBetween(epochDayOf("02-02-2025"), epochDayOf("01-01-2025")).isEmpty());
+    }
+
+    @Test
+    public void getEventsFrom_sameDay_keepsOrderAdded() {
+        Event sameDayAsEvent2 = new EventBuilder().withEventName("brunch").withEventDate("02-02-2025")
+                .withEventCategory("STAFF").build();
+        dateIndex.reset(Arrays.asList(EVENT3, EVENT2, sameDayAsEvent2, EVENT1));
+
+        assertEquals(List.of(EVENT2, sameDayAsEvent2), dateIndex.getEventsFrom(epochDayOf("15-01-2025"), 2));
+        assertEquals(List.of(EVENT2, sameDayAsEvent2, EVENT3), dateIndex.getEventsFrom(epochDayOf("15-01-2025"), 9));
+    }
+
+    @Test
+    public void remove_lastEventOfDay_noLongerFound() {
+        dateIndex.add(EVENT1);
+        dateIndex.add(EVENT2);
+        dateIndex.remove(EVENT1);
+        dateIndex.remove(EVENT3);
+
+        assertEquals(List.of(EVENT2), dateIndex.getEventsFrom(Long.MIN_VALUE, 5));
+    }
+
+    private static long epochDayOf(String date) {
+        return new EventDate(date).getEpochDay();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupIndexTest {
+
+    private final GroupIndex groupIndex = new GroupIndex();
+
+    @Test
+    public void getMembers_emptyIndex_returnsEmptySet() {
+        assertTrue(groupIndex.getMembers(1).isEmpty());
+        assertTrue(groupIndex.getGroupSizes().isEmpty());
+        assertEquals(0, groupIndex.getHighestGroupNumber());
+    }
+
+    @Test
+    public void reset_ungroupedPersonsAndSponsors_notIndexed() {
+        groupIndex.reset(Arrays.asList(new PersonBuilder(ALICE).build(), new PersonBuilder(DANIEL).build()));
+        assertTrue(groupIndex.getGroupSizes().isEmpty());
+    }
+
+    @Test
+    public void getMembers_groupedPersons_returnsMembersOfGroup() {
+        Person alice = createGrouped(ALICE, 2);
+        Person benson = createGrouped(BENSON, 2);
+        Person carl = createGrouped(CARL, 5);
+        groupIndex.reset(Arrays.asList(alice, benson, carl));
+
+        assertEquals(Set.of(alice, benson), groupIndex.getMembers(2));
+        assertEquals(Map.of(2, 2, 5, 1), groupIndex.getGroupSizes());
+        assertEquals(5, groupIndex.getHighestGroupNumber());
+    }
+
+    @Test
+    public void remove_personRegroupedInPlace_removedFromOriginalGroup() {
+        Person alice = createGrouped(ALICE, 3);
+        groupIndex.add(alice);
+
+        alice.setGroupNumber(1);
+        groupIndex.remove(alice);
+        groupIndex.add(alice);
+
+        assertTrue(groupIndex.getMembers(3).isEmpty());
+        assertEquals(Set.of(alice), groupIndex.getMembers(1));
+        assertEquals(1, groupIndex.getHighestGroupNumber());
+    }
+
+    @Test
+    public void getMembers_modifyResult_indexUnchanged() {
+        Person alice = createGrouped(ALICE, 1);
+        groupIndex.add(alice);
+
+        groupIndex.getMembers(1).clear();
+        assertEquals(Set.of(alice), groupIndex.getMembers(1));
+    }
+
+    private static Person createGrouped(Person person, int groupNumber) {
+        Person grouped = new PersonBuilder(person).build();
+        grouped.setGroupNumber(groupNumber);
+        return grouped;
+    }
+}
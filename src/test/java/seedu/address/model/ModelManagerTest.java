@@ -5,17 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddEventCommand;
+import seedu.address.logic.commands.exceptions.UndoException;
+import seedu.address.logic.commands.history.NoCommandHistory;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -88,6 +97,61 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void applyBatch_nullBatch_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.applyBatch(null));
+    }
+
+    @Test
+    public void applyBatch_clearsAddressBook_filteredListChangedOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        int[] changeCount = new int[1];
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.applyBatch(new PersonBatch().removePerson(ALICE).removePerson(BENSON));
+        assertEquals(1, changeCount[0]);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void addCommand_afterUndo_clearsRedo() throws Exception {
+        new AddCommand(ALICE).execute(modelManager);
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        new AddCommand(BENSON).execute(modelManager);
+        assertFalse(modelManager.canRedoAddressBook());
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void addCommand_noCommandHistory_nothingToUndo() throws Exception {
+        ModelManager modelWithoutHistory = new ModelManager(new AddressBook(), new EventBook(), new UserPrefs(),
+                new NoCommandHistory());
+        new AddCommand(ALICE).execute(modelWithoutHistory);
+
+        assertTrue(modelWithoutHistory.hasPerson(ALICE));
+        assertFalse(modelWithoutHistory.canUndoAddressBook());
+        assertThrows(UndoException.class, modelWithoutHistory::undoAddressBook);
+    }
+
+    @Test
+    public void undoAddressBook_eventCommand_leavesPersonsUntouched() throws Exception {
+        new AddCommand(ALICE).execute(modelManager);
+        new AddEventCommand(EVENT1).execute(modelManager);
+
+        ObservableList<Person> personsBeforeUndo = modelManager.getFilteredPersonList();
+        int[] changeCount = new int[1];
+        personsBeforeUndo.addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasEvent(EVENT1));
+        assertEquals(0, changeCount[0]);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+
+    @Test
+    public void findAny_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> searchIndex.findAny(null));
+    }
+
+    @Test
+    public void findAny_emptyIndex_returnsEmptySet() {
+        assertTrue(searchIndex.findAny(Collections.singletonList("alice")).isEmpty());
+    }
+
+    @Test
+    public void findAny_mixedCaseKeywords_returnsMatchingPersons() {
+        searchIndex.reset(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(ALICE, CARL), searchIndex.findAny(Arrays.asList("aLiCe", "KURZ")));
+    }
+
+    @Test
+    public void findAny_partialOrBlankKeyword_returnsEmptySet() {
+        searchIndex.reset(Arrays.asList(ALICE, BENSON, CARL));
+        assertTrue(searchIndex.findAny(Arrays.asList("Ali", "", " ")).isEmpty());
+    }
+
+    @Test
+    public void findAny_nonNameField_returnsMatchingPersons() {
+        searchIndex.reset(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(Set.of(BENSON), searchIndex.findAny(Collections.singletonList("johnd@example.com")));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerFound() {
+        searchIndex.add(ALICE);
+        searchIndex.remove(ALICE);
+        assertTrue(searchIndex.findAny(Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void remove_personMutatedAfterIndexing_removesOldTokens() {
+        Person person = new PersonBuilder().withName("Zed Quill").withCategory("PARTICIPANT").build();
+        person.setGroupNumber(7);
+        searchIndex.add(person);
+
+        person.setGroupNumber(8);
+        searchIndex.remove(person);
+        searchIndex.add(person);
+
+        assertTrue(searchIndex.findAny(Collections.singletonList("7")).isEmpty());
+        assertEquals(Set.of(person), searchIndex.findAny(Collections.singletonList("8")));
+    }
+}
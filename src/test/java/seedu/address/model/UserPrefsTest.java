@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 public class UserPrefsTest {
@@ -18,4 +21,20 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAliases_nullAliases_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAliases(null));
+    }
+
+    @Test
+    public void resetData_copiesAliases() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAliases(Map.of("ls", "list"));
+
+        UserPrefs copy = new UserPrefs(userPrefs);
+        assertEquals(Map.of("ls", "list"), copy.getAliases());
+        assertEquals(userPrefs, copy);
+    }
+
 }
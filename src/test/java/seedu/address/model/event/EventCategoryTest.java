@@ -2,6 +2,7 @@ package seedu.address.model.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -20,6 +21,17 @@ public class EventCategoryTest {
         assertThrows(IllegalArgumentException.class, () -> new EventCategory(invalidCategory));
     }
 
+    @Test
+    public void of_sameCategory_returnsSameInstance() {
+        assertSame(EventCategory.of("STAFF"), EventCategory.of("STAFF"));
+        assertEquals(new EventCategory("STAFF"), EventCategory.of("STAFF"));
+    }
+
+    @Test
+    public void of_invalidCategory_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> EventCategory.of("InvalidCategory"));
+    }
+
     @Test
     public void isValidCategory_nullCategory_returnsFalse() {
         assertFalse(EventCategory.isValidCategory(null));
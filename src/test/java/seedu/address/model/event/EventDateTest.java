@@ -1,7 +1,11 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,4 +26,16 @@ public class EventDateTest {
         assertFalse(EventDate.isValidDate("abc")); // Non-numeric characters
     }
 
+    @Test
+    public void constructor_invalidDate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new EventDate("32-01-2023"));
+    }
+
+    @Test
+    public void getEpochDay_validDate_daysSinceEpoch() {
+        assertEquals(0, new EventDate("01-01-1970").getEpochDay());
+        assertEquals(LocalDate.of(2025, 3, 1).toEpochDay(), new EventDate("01-03-2025").getEpochDay());
+        assertEquals(LocalDate.of(2025, 3, 1), new EventDate("01-03-2025").toLocalDate());
+    }
+
 }
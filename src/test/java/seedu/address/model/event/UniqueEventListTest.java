@@ -79,6 +79,18 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(event1, event2));
     }
 
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_releasesOldIdentity() {
+        Event event1 = new Event(new EventName("Meeting"), new EventDate("01-01-2025"), new EventCategory("STAFF"));
+        Event event2 = new Event(new EventName("Conference"), new EventDate("02-01-2025"), new EventCategory("STAFF"));
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        uniqueEventList.add(event1);
+        uniqueEventList.setEvent(event1, event2);
+        assertFalse(uniqueEventList.contains(event1));
+        assertTrue(uniqueEventList.contains(event2));
+        assertEquals(Collections.singletonList(event2), uniqueEventList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullEvent_throwsNullPointerException() {
         UniqueEventList uniqueEventList = new UniqueEventList();
@@ -100,6 +112,18 @@ public class UniqueEventListTest {
         uniqueEventList.remove(event);
         UniqueEventList expectedUniqueEventList = new UniqueEventList();
         assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(event));
+    }
+
+    @Test
+    public void remove_eventWithSameIdentity_removesStoredEvent() {
+        Event event = new Event(new EventName("Meeting"), new EventDate("01-01-2025"), new EventCategory("STAFF"));
+        Event sameEvent = new Event(new EventName("Meeting"), new EventDate("01-01-2025"),
+                new EventCategory("STAFF"));
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        uniqueEventList.add(event);
+        uniqueEventList.remove(sameEvent);
+        assertTrue(uniqueEventList.asUnmodifiableObservableList().isEmpty());
     }
 
     @Test
@@ -135,6 +159,9 @@ public class UniqueEventListTest {
         UniqueEventList expectedUniqueEventList = new UniqueEventList();
         expectedUniqueEventList.setEvents(listWithEvents);
         assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(new Event(new EventName("Random Event"), new EventDate("03-01-2025"),
+                new EventCategory("SPONSOR"))));
+        assertTrue(uniqueEventList.contains(listWithEvents.get(1)));
     }
 
     @Test
@@ -179,4 +206,20 @@ public class UniqueEventListTest {
         String expectedString = "[eventName=Meeting, eventDate=01-01-2025, eventCategory=STAFF]";
         assertEquals(expectedString, uniqueEventList.toString());
     }
+
+    @Test
+    public void restore_afterChanges_restoresEvents() {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event meeting = new Event(new EventName("Meeting"), new EventDate("01-01-2025"), new EventCategory("STAFF"));
+        Event workshop = new Event(new EventName("Workshop"), new EventDate("02-01-2025"), new EventCategory("STAFF"));
+        uniqueEventList.add(meeting);
+        UniqueEventList.Snapshot snapshot = uniqueEventList.getSnapshot();
+
+        uniqueEventList.add(workshop);
+        uniqueEventList.remove(meeting);
+        uniqueEventList.restore(snapshot);
+
+        assertEquals(Collections.singletonList(meeting), uniqueEventList.asUnmodifiableObservableList());
+        assertTrue(snapshot.isSameState(uniqueEventList.getSnapshot()));
+    }
 }
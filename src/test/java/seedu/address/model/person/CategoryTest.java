@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CategoryTest {
+
+    @Test
+    public void of_sameType_returnsSameInstance() {
+        for (CategoryType type : CategoryType.values()) {
+            assertSame(Category.of(type), Category.of(type));
+            assertSame(Category.of(type), Category.of(type.name()));
+            assertEquals(type, Category.of(type).type);
+        }
+    }
+
+    @Test
+    public void of_invalidCategory_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Category.of("student"));
+        assertThrows(NullPointerException.class, () -> Category.of((String) null));
+    }
+
+    @Test
+    public void equals() {
+        Category category = Category.of(CategoryType.STAFF);
+
+        // same values -> returns true
+        assertTrue(category.equals(new Category("STAFF")));
+        assertEquals(category.hashCode(), new Category("STAFF").hashCode());
+
+        // different values -> returns false
+        assertFalse(category.equals(Category.of(CategoryType.SPONSOR)));
+        assertFalse(category.equals(null));
+    }
+}
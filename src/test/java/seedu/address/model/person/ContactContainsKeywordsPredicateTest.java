@@ -4,12 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+
 import seedu.address.testutil.PersonBuilder;
 
 public class ContactContainsKeywordsPredicateTest {
@@ -82,6 +86,36 @@ public class ContactContainsKeywordsPredicateTest {
         assertTrue(predicate.test(new PersonBuilder().withName("Alice").withComment("This is comment").build()));
     }
 
+    @Test
+    public void test_largeListWithCachedTokens_doesNotAllocate() {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+        }
+        ContactContainsKeywordsPredicate predicate =
+                new ContactContainsKeywordsPredicate(Arrays.asList("9999", "PERSON42@EXAMPLE.COM", "nobody"));
+        int warmMatches = countMatches(predicate, persons);
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        int matches = 0;
+        for (int run = 0; run < 10; run++) {
+            matches += countMatches(predicate, persons);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertEquals(2, warmMatches);
+        assertEquals(20, matches);
+        // 100,000 predicate tests; only the measurement calls themselves may allocate
+        assertTrue(allocated < 1024, "find allocated " + allocated + " bytes");
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -90,4 +124,14 @@ public class ContactContainsKeywordsPredicateTest {
         String expected = ContactContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
         assertEquals(expected, predicate.toString());
     }
+
+    private static int countMatches(ContactContainsKeywordsPredicate predicate, List<Person> persons) {
+        int matches = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (predicate.test(persons.get(i))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
 }
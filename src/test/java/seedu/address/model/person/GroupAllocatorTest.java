@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class GroupAllocatorTest {
+
+    private static final Category STAFF = new Category("STAFF");
+
+    @Test
+    public void constructor_invalidMaxGroupSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GroupAllocator(0, List.of(), new Random()));
+    }
+
+    @Test
+    public void getNumberOfGroups() {
+        GroupAllocator allocator = new GroupAllocator(4, List.of(), new Random());
+        assertEquals(0, allocator.getNumberOfGroups(0));
+        assertEquals(1, allocator.getNumberOfGroups(4));
+        assertEquals(2, allocator.getNumberOfGroups(5));
+    }
+
+    @Test
+    public void allocate_noPersons_noGroups() {
+        assertEquals(0, new GroupAllocator(3, List.of(), new Random()).allocate(List.of()).length);
+    }
+
+    @Test
+    public void allocate_groupSizesDifferByAtMostOne() {
+        // 13 persons in groups of at most 4 -> 4 groups of 3 or 4, never 4, 4, 4 and 1
+        List<Person> persons = createPersons(13, 0);
+        int[] groupSizes = countPerGroup(new GroupAllocator(4, List.of(), new Random(1)).allocate(persons),
+                persons, null, 4);
+
+        for (int groupSize : groupSizes) {
+            assertTrue(groupSize == 3 || groupSize == 4);
+        }
+    }
+
+    @Test
+    public void allocate_sameSeed_sameAllocation() {
+        List<Person> persons = createPersons(50, 10);
+        int[] first = new GroupAllocator(5, List.of(STAFF), new Random(42)).allocate(persons);
+        int[] second = new GroupAllocator(5, List.of(STAFF), new Random(42)).allocate(persons);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void allocate_spreadStaff_staffSpreadEvenly() {
+        // 30 persons in 6 groups of 5, 8 of them staff -> every group has 1 or 2 staff
+        List<Person> persons = createPersons(30, 8);
+        for (long seed = 0; seed < 20; seed++) {
+            int[] allocation = new GroupAllocator(5, List.of(STAFF), new Random(seed)).allocate(persons);
+            for (int staffCount : countPerGroup(allocation, persons, STAFF, 6)) {
+                assertTrue(staffCount == 1 || staffCount == 2);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons, or of persons in {@code category} if it is not null, in each group.
+     */
+    private static int[] countPerGroup(int[] allocation, List<Person> persons, Category category,
+            int numberOfGroups) {
+        int[] counts = new int[numberOfGroups];
+        for (int i = 0; i < allocation.length; i++) {
+            assertTrue(allocation[i] >= 1 && allocation[i] <= numberOfGroups);
+            if (category == null || persons.get(i).getCategory().equals(category)) {
+                counts[allocation[i] - 1]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns {@code count} distinct persons, the first {@code staffCount} of which are staff and the rest
+     * participants.
+     */
+    private static List<Person> createPersons(int count, int staffCount) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(10000000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withCategory(i < staffCount ? "STAFF" : "PARTICIPANT")
+                    .build());
+        }
+        return persons;
+    }
+}
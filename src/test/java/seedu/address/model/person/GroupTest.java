@@ -3,7 +3,9 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +22,19 @@ public class GroupTest {
         assertEquals(group.getGroupNumber(), 5);
     }
 
+    @Test
+    public void of_sameGroupNumber_returnsSameInstance() {
+        assertSame(Group.of(0), Group.of(0));
+        assertSame(Group.of(5), Group.of(5));
+        assertSame(Group.of(100000), Group.of(100000));
+        assertEquals(new Group(100000), Group.of(100000));
+    }
+
+    @Test
+    public void of_invalidGroupNumber_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Group.of(-1));
+    }
+
     @Test
     public void isValidGroup() {
         // invalid group number
@@ -43,8 +58,7 @@ public class GroupTest {
     }
 
     @Test
-    public void setTotalGroupNumber() {
-        Group.setTotalGroupNumber(5);
-        assertEquals(Group.getTotalGroupNumber(), 5);
+    public void hashCode_sameValues_returnEqualHashCodes() {
+        assertEquals(new Group(5).hashCode(), Group.of(5).hashCode());
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
@@ -17,4 +18,13 @@ public class PersonFactoryTest {
         assertTrue(PersonFactory.createPerson(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
                 new Category("SPONSOR")) instanceof Sponsor);
     }
+
+    @Test
+    public void createPerson_returnsSharedCategoryAndGroup() {
+        Person staff = PersonFactory.createPerson(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                new Category("STAFF"), new Comment(), new Group(3));
+
+        assertSame(Category.of(CategoryType.STAFF), staff.getCategory());
+        assertSame(Group.of(3), staff.getGroup());
+    }
 }
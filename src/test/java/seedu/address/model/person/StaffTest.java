@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,5 +30,16 @@ public class StaffTest {
         assertNotEquals(5, test.getGroupNumber());
         assertEquals(1, test.getGroupNumber());
     }
-}
 
+    @Test
+    public void getSearchTokens_afterGroupChange_reflectsNewGroup() {
+        Staff test = (Staff) new PersonBuilder().withCategory("STAFF").withName("John").build();
+        test.setGroupNumber(3);
+        assertTrue(test.getSearchTokens().contains("3"));
+
+        test.setGroupNumber(4);
+        assertFalse(test.getSearchTokens().contains("3"));
+        assertTrue(test.getSearchTokens().contains("4"));
+        assertTrue(test.getSearchTokens().contains("staff"));
+    }
+}
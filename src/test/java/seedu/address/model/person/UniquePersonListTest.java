@@ -13,6 +13,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.ListChange;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -44,6 +45,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("11111111").build();
+        assertTrue(uniquePersonList.contains(aliceWithOtherPhone));
+    }
+
+    @Test
+    public void contains_personWithSameNameOnlyInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person otherAlice = new PersonBuilder(ALICE).withPhone("11111111").withEmail("other@example.com").build();
+        assertFalse(uniquePersonList.contains(otherAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -98,6 +113,25 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_releasesOldIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPerson_editedPersonSharesEmailWithOtherPerson_throwsDuplicatePersonException() {
+        Person bobWithAliceName = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(bobWithAliceName);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -121,6 +155,15 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person aliceAsStaff = new PersonBuilder(ALICE).withCategory("STAFF").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(aliceAsStaff));
+        assertTrue(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -140,6 +183,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -163,6 +208,81 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmail_throwsDuplicatePersonException() {
+        Person aliceWithOtherPhone = new PersonBuilder(ALICE).withPhone("11111111").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceWithOtherPhone);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void restore_afterChanges_restoresPersonsAndGroups() {
+        Person person = new PersonBuilder(ALICE).build();
+        uniquePersonList.add(person);
+        uniquePersonList.groupPerson(person, 1);
+        UniquePersonList.Snapshot snapshot = uniquePersonList.getSnapshot();
+
+        uniquePersonList.groupPerson(person, 2);
+        uniquePersonList.add(BOB);
+        uniquePersonList.restore(snapshot);
+
+        assertEquals(Collections.singletonList(person), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, person.getGroupNumber());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void restore_oneChangedPerson_replacesOnlyThatPerson() {
+        Person carl = new PersonBuilder().withName("Carl").build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, carl));
+        UniquePersonList.Snapshot snapshot = uniquePersonList.getSnapshot();
+
+        Person editedBob = new PersonBuilder(BOB).withPhone("11111111").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        ListChange<Person> change = uniquePersonList.restore(snapshot);
+
+        assertEquals(Collections.singletonList(editedBob), change.getRemoved());
+        assertEquals(Collections.singletonList(BOB), change.getAdded());
+        assertEquals(Arrays.asList(ALICE, BOB, carl), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(new PersonBuilder(editedBob).withEmail("other@example.com").build()));
+
+        // already in the state of the snapshot -> nothing replaced
+        assertTrue(uniquePersonList.restore(snapshot).isEmpty());
+    }
+
+    @Test
+    public void snapshot_range() {
+        Person alice = new PersonBuilder(ALICE).build();
+        uniquePersonList.setPersons(Arrays.asList(alice, BOB));
+        UniquePersonList.Snapshot before = uniquePersonList.getSnapshot();
+        uniquePersonList.groupPerson(alice, 3);
+        UniquePersonList.Snapshot after = uniquePersonList.getSnapshot();
+
+        assertEquals(2, after.size());
+        assertEquals(Collections.singletonList(BOB), after.getPersons(1, 2));
+        assertEquals(3, after.getGroupNumbers(0, 1)[0]);
+        assertEquals(0, after.countCommonPrefix(before));
+        assertEquals(1, after.countCommonSuffix(before, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> after.getPersons(1, 3));
+    }
+
+    @Test
+    public void isSameState() {
+        UniquePersonList.Snapshot emptySnapshot = uniquePersonList.getSnapshot();
+
+        // no changes -> returns true
+        assertTrue(emptySnapshot.isSameState(uniquePersonList.getSnapshot()));
+
+        // changed -> returns false
+        uniquePersonList.add(ALICE);
+        assertFalse(emptySnapshot.isSameState(uniquePersonList.getSnapshot()));
+
+        // restored -> returns true
+        uniquePersonList.restore(emptySnapshot);
+        assertTrue(emptySnapshot.isSameState(uniquePersonList.getSnapshot()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
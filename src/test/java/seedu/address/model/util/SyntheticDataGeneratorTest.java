@@ -0,0 +1,97 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.CategoryType;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        List<Person> persons = toList(new SyntheticDataGenerator(42).generatePersons(500));
+        List<Person> samePersons = toList(new SyntheticDataGenerator(42).generatePersons(500));
+        assertEquals(persons, samePersons);
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).getGroup(), samePersons.get(i).getGroup());
+        }
+
+        assertNotEquals(persons, toList(new SyntheticDataGenerator(43).generatePersons(500)));
+    }
+
+    @Test
+    public void generatePersons_distinctPersonsOfEveryCategory() {
+        List<Person> persons = toList(new SyntheticDataGenerator(0).generatePersons(2000));
+        assertEquals(2000, persons.size());
+
+        // throws if any two persons are duplicates
+        new AddressBook().setPersons(persons);
+
+        Set<CategoryType> categoryTypes = EnumSet.noneOf(CategoryType.class);
+        Map<Integer, Integer> participantGroupSizes = new HashMap<>();
+        for (Person person : persons) {
+            CategoryType type = person.getCategory().type;
+            categoryTypes.add(type);
+            if (type == CategoryType.SPONSOR) {
+                assertNull(person.getGroup());
+            } else if (type == CategoryType.PARTICIPANT && person.getGroupNumber() > 0) {
+                participantGroupSizes.merge(person.getGroupNumber(), 1, Integer::sum);
+            }
+        }
+        assertEquals(EnumSet.allOf(CategoryType.class), categoryTypes);
+        assertTrue(participantGroupSizes.values().stream().allMatch(size -> size <= 5));
+        assertTrue(participantGroupSizes.size() > 1);
+    }
+
+    @Test
+    public void generateEvents_sameSeed_distinctEvents() {
+        List<Event> events = toList(new SyntheticDataGenerator(7).generateEvents(1000));
+        assertEquals(events, toList(new SyntheticDataGenerator(7).generateEvents(1000)));
+
+        // throws if any two events are duplicates
+        new EventBook().setEvents(events);
+    }
+
+    @Test
+    public void generate_invalidCount_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(0);
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_COUNT, () ->
+                generator.generatePersons(-1));
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_INVALID_COUNT, () ->
+                generator.generateEvents(-1));
+    }
+
+    @Test
+    public void next_noMoreElements_throwsNoSuchElementException() {
+        Iterator<Person> persons = new SyntheticDataGenerator(0).generatePersons(1);
+        persons.next();
+        assertFalse(persons.hasNext());
+        assertThrows(NoSuchElementException.class, persons::next);
+        assertThrows(NoSuchElementException.class, new SyntheticDataGenerator(0).generateEvents(0)::next);
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Comment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.validation.ValidationResult.FailureReason;
+
+public class ValidatorsTest {
+
+    /** Characters around the edges of the character classes used by the validation regexes. */
+    private static final String ALPHABET = "aZz09 _.+-@\t\n\r\u000B\f\u0085\u2028\u00e9/";
+    /** Characters allowed in an email, so that random values are often close to being valid emails. */
+    private static final String EMAIL_ALPHABET = "ab0-.@+_";
+    private static final int SAMPLE_COUNT = 20000;
+
+    @Test
+    public void validate_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Validators.NAME.validate(null));
+        assertThrows(NullPointerException.class, () -> Validators.PHONE.validate(null));
+        assertThrows(NullPointerException.class, () -> Validators.EMAIL.validate(null));
+        assertThrows(NullPointerException.class, () -> Validators.COMMENT.validate(null));
+    }
+
+    @Test
+    public void isValid_randomValues_sameAsValidationRegex() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            String value = randomValue(random, ALPHABET);
+            assertEquals(value.matches(Name.VALIDATION_REGEX), Validators.NAME.isValid(value), value);
+            assertEquals(value.matches(Phone.VALIDATION_REGEX), Validators.PHONE.isValid(value), value);
+            assertEquals(value.matches(Email.VALIDATION_REGEX), Validators.EMAIL.isValid(value), value);
+            assertEquals(value.matches(Comment.VALIDATION_REGEX), Validators.COMMENT.isValid(value), value);
+        }
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            String value = randomValue(random, EMAIL_ALPHABET);
+            assertEquals(value.matches(Email.VALIDATION_REGEX), Validators.EMAIL.isValid(value), value);
+        }
+    }
+
+    @Test
+    public void validate_validValues_validResult() {
+        assertEquals(ValidationResult.valid(), Validators.NAME.validate("Peter Jack 2nd"));
+        assertEquals(ValidationResult.valid(), Validators.PHONE.validate("911"));
+        assertEquals(ValidationResult.valid(), Validators.EMAIL.validate("peter.jack-1@example.com.sg"));
+        assertEquals(ValidationResult.valid(), Validators.COMMENT.validate("Likes  tabs\tand unicode \u00e9"));
+    }
+
+    @Test
+    public void validate_invalidName_reasonAndPosition() {
+        assertInvalid(FailureReason.EMPTY, ValidationResult.NO_POSITION, Name.MESSAGE_CONSTRAINTS,
+                Validators.NAME.validate(""));
+        assertInvalid(FailureReason.INVALID_CHARACTER, 0, Name.MESSAGE_CONSTRAINTS, Validators.NAME.validate(" Amy"));
+        assertInvalid(FailureReason.INVALID_CHARACTER, 5, Name.MESSAGE_CONSTRAINTS,
+                Validators.NAME.validate("peter*"));
+    }
+
+    @Test
+    public void validate_invalidPhone_reasonAndPosition() {
+        assertInvalid(FailureReason.TOO_SHORT, ValidationResult.NO_POSITION, Phone.MESSAGE_CONSTRAINTS,
+                Validators.PHONE.validate("91"));
+        assertInvalid(FailureReason.INVALID_CHARACTER, 4, Phone.MESSAGE_CONSTRAINTS,
+                Validators.PHONE.validate("9312 1534"));
+    }
+
+    @Test
+    public void validate_invalidEmail_reasonAndPosition() {
+        assertInvalid(FailureReason.INVALID_CHARACTER, 5, Email.MESSAGE_CONSTRAINTS,
+                Validators.EMAIL.validate("peter jack@example.com"));
+        assertInvalid(FailureReason.INVALID_FORMAT, ValidationResult.NO_POSITION, Email.MESSAGE_CONSTRAINTS,
+                Validators.EMAIL.validate("peterjack.example.com"));
+        assertInvalid(FailureReason.INVALID_FORMAT, ValidationResult.NO_POSITION, Email.MESSAGE_CONSTRAINTS,
+                Validators.EMAIL.validate("peterjack@example.c"));
+    }
+
+    @Test
+    public void validate_invalidComment_reasonAndPosition() {
+        assertInvalid(FailureReason.INVALID_CHARACTER, 0, Comment.MESSAGE_CONSTRAINTS,
+                Validators.COMMENT.validate(" leading space"));
+        assertInvalid(FailureReason.INVALID_CHARACTER, 3, Comment.MESSAGE_CONSTRAINTS,
+                Validators.COMMENT.validate("two\nlines"));
+    }
+
+    private static void assertInvalid(FailureReason expectedReason, int expectedPosition, String expectedMessage,
+            ValidationResult actual) {
+        assertEquals(ValidationResult.invalid(expectedReason, expectedPosition, expectedMessage), actual);
+    }
+
+    private static String randomValue(Random random, String alphabet) {
+        int length = random.nextInt(12);
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+}
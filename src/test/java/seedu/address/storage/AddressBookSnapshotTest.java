@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_personRegroupedAfterwards_snapshotKeepsGroup() {
+        Person person = new PersonBuilder(ALICE).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        addressBook.groupPerson(person, 1);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        person.setGroupNumber(2);
+
+        assertEquals(1, snapshot.getPersonList().get(0).getGroupNumber());
+        assertEquals(person.getName(), snapshot.getPersonList().get(0).getName());
+    }
+
+    @Test
+    public void getPersonList_addressBookChangedAfterwards_listsPersonsWhenTaken() {
+        Person person = new PersonBuilder(ALICE).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        long version = addressBook.getModificationVersion();
+
+        // the person list is only built when asked for, which is after these changes
+        addressBook.groupPerson(person, 3);
+        addressBook.addPerson(BENSON);
+
+        assertEquals(1, snapshot.getPersonList().size());
+        assertEquals(person.getName(), snapshot.getPersonList().get(0).getName());
+        assertNotEquals(3, snapshot.getPersonList().get(0).getGroupNumber());
+        assertEquals(version, snapshot.getModificationVersion());
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalEvents;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path JSON_ADDRESS_BOOK_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void savePersons_generatedPersons_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+
+        storage.savePersons(300, generator.generatePersons(300));
+
+        AddressBook expected = new AddressBook();
+        generator.generatePersons(300).forEachRemaining(expected::addPerson);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_moreThanCount_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(IllegalArgumentException.class, () ->
+                storage.savePersons(2, new SyntheticDataGenerator(1).generatePersons(3)));
+    }
+
+    @Test
+    public void savePersons_fewerThanCount_throwsIllegalArgumentException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertThrows(IllegalArgumentException.class, () ->
+                storage.savePersons(3, new SyntheticDataGenerator(1).generatePersons(2)));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person participant = new PersonBuilder().withName("Zed Quill").withCategory("PARTICIPANT").build();
+        original.addPerson(participant);
+        original.groupPerson(participant, 3);
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(3, readBack.getPersonList().get(readBack.getPersonList().size() - 1).getGroupNumber());
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_smallerThanJsonFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(JSON_ADDRESS_BOOK_FILE);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_eventBookFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("eventbook.bin");
+        new BinaryEventBookStorage(filePath).saveEventBook(TypicalEvents.getTypicalEventBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_trailingData_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
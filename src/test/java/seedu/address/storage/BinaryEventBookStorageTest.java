@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.EventBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.TypicalPersons;
+
+public class BinaryEventBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readEventBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryEventBookStorage(filePath).readEventBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveEventBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("eventbook.bin");
+        BinaryEventBookStorage storage = new BinaryEventBookStorage(filePath);
+        EventBook original = getTypicalEventBook();
+
+        storage.saveEventBook(original);
+        assertEquals(original, storage.readEventBook().get());
+
+        storage.saveEventBook(new EventBook());
+        assertEquals(new EventBook(), storage.readEventBook().get());
+    }
+
+    @Test
+    public void saveEvents_generatedEvents_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("eventbook.bin");
+        BinaryEventBookStorage storage = new BinaryEventBookStorage(filePath);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+
+        storage.saveEvents(300, generator.generateEvents(300));
+
+        EventBook expected = new EventBook();
+        generator.generateEvents(300).forEachRemaining(expected::addEvent);
+        assertEquals(expected, storage.readEventBook().get());
+    }
+
+    @Test
+    public void readEventBook_addressBookFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryEventBookStorage(filePath).readEventBook());
+    }
+}
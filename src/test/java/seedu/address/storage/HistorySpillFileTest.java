@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.EVENT1;
+import static seedu.address.testutil.TypicalEvents.EVENT2;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class HistorySpillFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Person amy = new PersonBuilder().withName("Amy").build();
+    private final Person ben = new PersonBuilder().withName("Ben").build();
+    private final Person cal = new PersonBuilder().withName("Cal").build();
+    private AddressBook addressBook;
+    private EventBook eventBook;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(ben);
+        addressBook.addPerson(cal);
+        addressBook.groupPerson(ben, 1);
+        eventBook = new EventBook();
+        eventBook.addEvent(EVENT1);
+    }
+
+    @Test
+    public void pop_afterPush_rebuildsStateBefore() throws Exception {
+        ModelSnapshot stateBefore = takeSnapshot();
+        addressBook.setPerson(ben, new PersonBuilder(ben).withPhone("11111111").build());
+        addressBook.groupPerson(cal, 2);
+        eventBook.addEvent(EVENT2);
+        ModelSnapshot stateAfter = takeSnapshot();
+
+        HistorySpillFile spillFile = new HistorySpillFile(testFolder.resolve("history.spill"));
+        spillFile.push(stateBefore, stateAfter, "undone", "redone");
+        assertEquals(1, spillFile.size());
+
+        HistorySpillFile.SpilledEntry entry = spillFile.pop(stateAfter);
+        assertTrue(spillFile.isEmpty());
+        assertEquals("undone", entry.getUndoFeedback());
+        assertEquals("redone", entry.getRedoFeedback());
+
+        ModelSnapshot rebuilt = entry.getStateBefore();
+        assertEquals(stateBefore.getPersons().getPersons(), rebuilt.getPersons().getPersons());
+        assertArrayEquals(stateBefore.getPersons().getGroupNumbers(), rebuilt.getPersons().getGroupNumbers());
+        assertEquals(stateBefore.getEvents().getEvents(), rebuilt.getEvents().getEvents());
+
+        // the person that the command did not change is shared with the state after
+        assertSame(amy, rebuilt.getPersons().getPersons().get(0));
+    }
+
+    @Test
+    public void push_oneChangeInLargeAddressBook_spillsOnlyChangedPerson() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                    .build());
+        }
+        ModelSnapshot stateBefore = takeSnapshot();
+        addressBook.setPerson(ben, new PersonBuilder(ben).withPhone("11111111").build());
+        ModelSnapshot stateAfter = takeSnapshot();
+
+        Path filePath = testFolder.resolve("history.spill");
+        HistorySpillFile spillFile = new HistorySpillFile(filePath);
+        spillFile.push(stateBefore, stateAfter, "undone", "redone");
+        String line = Files.readString(filePath);
+        assertEquals(1, line.split("\"name\"", -1).length - 1);
+
+        ModelSnapshot rebuilt = spillFile.pop(stateAfter).getStateBefore();
+        assertEquals(stateBefore.getPersons().getPersons(), rebuilt.getPersons().getPersons());
+        assertEquals(stateBefore.getPersons().size(), rebuilt.getPersons().size());
+    }
+
+    @Test
+    public void pop_severalEntries_newestFirstAndFileCutShort() throws Exception {
+        Path filePath = testFolder.resolve("history.spill");
+        HistorySpillFile spillFile = new HistorySpillFile(filePath);
+        ModelSnapshot first = takeSnapshot();
+        addressBook.removePerson(amy);
+        ModelSnapshot second = takeSnapshot();
+        addressBook.removePerson(ben);
+        ModelSnapshot third = takeSnapshot();
+
+        spillFile.push(first, second, "undo 1", "redo 1");
+        long sizeAfterFirstPush = Files.size(filePath);
+        spillFile.push(second, third, "undo 2", "redo 2");
+
+        HistorySpillFile.SpilledEntry newest = spillFile.pop(third);
+        assertEquals("undo 2", newest.getUndoFeedback());
+        assertEquals(second.getPersons().getPersons(), newest.getStateBefore().getPersons().getPersons());
+        assertEquals(sizeAfterFirstPush, Files.size(filePath));
+
+        HistorySpillFile.SpilledEntry oldest = spillFile.pop(newest.getStateBefore());
+        assertEquals("undo 1", oldest.getUndoFeedback());
+        assertEquals(first.getPersons().getPersons(), oldest.getStateBefore().getPersons().getPersons());
+        assertEquals(0, Files.size(filePath));
+    }
+
+    @Test
+    public void pop_corruptedEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("history.spill");
+        HistorySpillFile spillFile = new HistorySpillFile(filePath);
+        ModelSnapshot state = takeSnapshot();
+        spillFile.push(state, state, "undo", "redo");
+
+        Files.writeString(filePath, "not json\n");
+        assertThrows(DataLoadingException.class, () -> spillFile.pop(state));
+        assertTrue(spillFile.isEmpty());
+    }
+
+    @Test
+    public void pop_entryNotFittingState_throwsDataLoadingException() throws Exception {
+        HistorySpillFile spillFile = new HistorySpillFile(testFolder.resolve("history.spill"));
+        ModelSnapshot stateBefore = takeSnapshot();
+        addressBook.removePerson(cal);
+        spillFile.push(stateBefore, takeSnapshot(), "undo", "redo");
+
+        ModelSnapshot emptyState = new ModelSnapshot(new AddressBook().getSnapshot(), new EventBook().getSnapshot());
+        assertThrows(DataLoadingException.class, () -> spillFile.pop(emptyState));
+    }
+
+    @Test
+    public void clear_deletesFile() throws Exception {
+        Path filePath = testFolder.resolve("history.spill");
+        HistorySpillFile spillFile = new HistorySpillFile(filePath);
+        ModelSnapshot state = takeSnapshot();
+        spillFile.push(state, state, "undo", "redo");
+        assertTrue(Files.exists(filePath));
+
+        spillFile.clear();
+        assertTrue(spillFile.isEmpty());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void getFilePath_temporaryFile_createdOnFirstPush() throws Exception {
+        HistorySpillFile spillFile = new HistorySpillFile();
+        assertNull(spillFile.getFilePath());
+
+        ModelSnapshot state = takeSnapshot();
+        spillFile.push(state, state, "undo", "redo");
+        assertTrue(Files.exists(spillFile.getFilePath()));
+
+        spillFile.clear();
+        assertFalse(Files.exists(spillFile.getFilePath()));
+    }
+
+    private ModelSnapshot takeSnapshot() {
+        return new ModelSnapshot(addressBook.getSnapshot(), eventBook.getSnapshot());
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_mutationsAfterFirstSave_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withComment("Edited").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched; one header, one add, one remove, and a remove plus an add for the edit
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(5, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_groupChangedInPlace_replayedFromJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        Person participant = new PersonBuilder().withName("Zed Quill").withCategory("PARTICIPANT").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(participant);
+        storage.saveAddressBook(original);
+
+        original.groupPerson(participant, 3);
+        storage.saveAddressBook(original);
+
+        Person readBack = storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals(3, readBack.getGroupNumber());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotSavedAfterLaterChanges_laterChangesKeptForNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        ReadOnlyAddressBook firstSnapshot = storage.snapshotAddressBook(original);
+        original.addPerson(IDA);
+        ReadOnlyAddressBook secondSnapshot = storage.snapshotAddressBook(original);
+
+        storage.saveAddressBook(firstSnapshot);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertTrue(readBack.hasPerson(HOON));
+        assertFalse(readBack.hasPerson(IDA));
+
+        storage.saveAddressBook(secondSnapshot);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotTakenBeforeCompactionRequired_compactsAgainLater() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(ALICE);
+        ReadOnlyAddressBook firstSnapshot = storage.snapshotAddressBook(original);
+        // too large to journal, so only a newer snapshot can bring the files up to date
+        original.setPersons(List.of(ALICE, BENSON, HOON));
+        ReadOnlyAddressBook secondSnapshot = storage.snapshotAddressBook(original);
+
+        storage.saveAddressBook(firstSnapshot);
+        assertEquals(List.of(ALICE), storage.readAddressBook().get().getPersonList());
+
+        storage.saveAddressBook(secondSnapshot);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdExceeded_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, readJournal(filePath).size());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        AddressBook other = new AddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(other, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherFilePath = testFolder.resolve("export.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalForOtherSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // simulate a snapshot written without its journal being reset
+        Files.write(filePath, new String(snapshot, StandardCharsets.UTF_8).replace("Alice", "Alicia")
+                .getBytes(StandardCharsets.UTF_8));
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertFalse(readBack.hasPerson(HOON));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.write(JournalAddressBookStorage.getJournalFilePath(filePath),
+                "{\"operation\":\"remove\",\"index\":100,\"count\":1}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath));
+    }
+}
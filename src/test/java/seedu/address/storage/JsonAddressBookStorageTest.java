@@ -18,6 +18,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +87,29 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void savePersons_generatedPersons_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1);
+
+        jsonAddressBookStorage.savePersons(300, generator.generatePersons(300));
+
+        AddressBook expected = new AddressBook();
+        generator.generatePersons(300).forEachRemaining(expected::addPerson);
+        assertEquals(expected, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void savePersons_wrongCount_throwsIllegalArgumentException() {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("TempAddressBook.json"));
+        assertThrows(IllegalArgumentException.class, () ->
+                jsonAddressBookStorage.savePersons(2, new SyntheticDataGenerator(1).generatePersons(3)));
+        assertThrows(IllegalArgumentException.class, () ->
+                jsonAddressBookStorage.savePersons(3, new SyntheticDataGenerator(1).generatePersons(2)));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
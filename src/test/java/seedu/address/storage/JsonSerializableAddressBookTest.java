@@ -3,6 +3,12 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -44,4 +50,56 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFields_fieldsSkipped() throws Exception {
+        String json = "{ \"version\" : { \"persons\" : [ 1 ] }, \"persons\" : [ ], \"tags\" : [ \"a\" ] }";
+        AddressBook addressBook = JsonSerializableAddressBook.read(toInputStream(json));
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        String json = new String(Files.readAllBytes(TYPICAL_PERSONS_FILE), StandardCharsets.UTF_8);
+        InputStream in = toInputStream(json.substring(0, json.length() / 2));
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.read(in));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonSerializableAddressBook.read(toInputStream("[ ]")));
+        assertThrows(IOException.class, () ->
+                JsonSerializableAddressBook.read(toInputStream("{ \"persons\" : { } }")));
+    }
+
+    @Test
+    public void write_typicalPersons_sameAsSerializedAddressBook() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonSerializableAddressBook.write(typicalPersonsAddressBook, out);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook)),
+                out.toString(StandardCharsets.UTF_8));
+        assertEquals(typicalPersonsAddressBook,
+                JsonSerializableAddressBook.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
 }
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.GroupSponsorException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.BATCH_SIZE * 2 + 10;
+
+    @Test
+    public void finish_severalBatches_resultsInRecordOrder() throws Exception {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(Integer::valueOf);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(String.valueOf(i));
+        }
+
+        List<Integer> expected = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+        assertEquals(expected, converter.finish());
+    }
+
+    @Test
+    public void finish_severalInvalidRecords_firstInvalidRecordReported() {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(record -> {
+            int value = Integer.parseInt(record);
+            if (value % 1000 == 999) {
+                throw new IllegalValueException("Invalid record " + value);
+            }
+            return value;
+        });
+
+        assertThrows(IllegalValueException.class, "Invalid record 999", () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(String.valueOf(i));
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_runtimeFailuresAfterInvalidRecord_invalidRecordReported() {
+        ParallelRecordConverter<JsonAdaptedPerson, Person> converter = JsonSerializableAddressBook.createConverter();
+        JsonAdaptedPerson valid = new JsonAdaptedPerson("Amy Bee", "11111111", "amy@example.com", "PARTICIPANT",
+                "New", "1");
+        JsonAdaptedPerson invalidPhone = new JsonAdaptedPerson("Amy Bee", "+651234", "amy@example.com",
+                "PARTICIPANT", "New", "1");
+        // converting a sponsor with a group throws a GroupSponsorException
+        JsonAdaptedPerson sponsorWithGroup = new JsonAdaptedPerson("Bob Choo", "22222222", "bob@example.com",
+                "SPONSOR", "New", "1");
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(i < 100 ? valid : i == 100 ? invalidPhone : sponsorWithGroup);
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_runtimeFailureBeforeInvalidRecord_runtimeFailureReported() {
+        ParallelRecordConverter<String, Integer> converter = new ParallelRecordConverter<>(record -> {
+            int value = Integer.parseInt(record);
+            if (value == 500) {
+                throw new GroupSponsorException();
+            } else if (value > 500) {
+                throw new IllegalValueException("Invalid record " + value);
+            }
+            return value;
+        });
+
+        assertThrows(GroupSponsorException.class, () -> {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                converter.add(String.valueOf(i));
+            }
+            converter.finish();
+        });
+    }
+
+    @Test
+    public void finish_noRecords_emptyResult() throws Exception {
+        assertEquals(List.of(), new ParallelRecordConverter<String, Integer>(Integer::valueOf).finish());
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class PersistenceServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicInteger saveCount = new AtomicInteger();
+    private final CountDownLatch writeStarted = new CountDownLatch(1);
+    private final CountDownLatch writeReleased = new CountDownLatch(1);
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_notScheduledAgain() {
+        PersistenceService service = new PersistenceService(createStorage(false, null));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        assertTrue(service.saveAddressBook(addressBook));
+        assertFalse(service.saveAddressBook(addressBook));
+        service.flush();
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void saveAddressBook_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        Storage storage = createStorage(true, null);
+        PersistenceService service = new PersistenceService(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        service.saveAddressBook(addressBook);
+        writeStarted.await();
+
+        // the first write is in progress, so these requests only replace the pending snapshot
+        addressBook.addPerson(BENSON);
+        service.saveAddressBook(addressBook);
+        addressBook.addPerson(CARL);
+        service.saveAddressBook(addressBook);
+        writeReleased.countDown();
+        service.flush();
+
+        assertEquals(2, saveCount.get());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeSucceeds_writeTimeReported() {
+        PersistenceService service = new PersistenceService(createStorage(false, null));
+        List<String> writtenFiles = new CopyOnWriteArrayList<>();
+        service.setWriteTimeListener((dataFile, nanos) -> {
+            assertTrue(nanos >= 0);
+            writtenFiles.add(dataFile);
+        });
+
+        service.saveAddressBook(getTypicalAddressBook());
+        service.flush();
+        assertEquals(List.of(PersistenceService.ADDRESS_BOOK_FILE), writtenFiles);
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_errorReportedAndRetried() {
+        IOException failure = new IOException("disk full");
+        PersistenceService service = new PersistenceService(createStorage(false, failure));
+        List<IOException> reportedErrors = new CopyOnWriteArrayList<>();
+        List<String> failedFiles = new CopyOnWriteArrayList<>();
+        service.setErrorHandler((dataFile, ioe) -> {
+            failedFiles.add(dataFile);
+            reportedErrors.add(ioe);
+        });
+        AddressBook addressBook = getTypicalAddressBook();
+
+        service.saveAddressBook(addressBook);
+        service.flush();
+        assertEquals(List.of(failure), reportedErrors);
+        assertEquals(List.of(PersistenceService.ADDRESS_BOOK_FILE), failedFiles);
+
+        // the failed save is retried even though the address book has not changed
+        assertTrue(service.saveAddressBook(addressBook));
+        service.flush();
+        assertEquals(2, saveCount.get());
+    }
+
+    /**
+     * Returns a storage that counts its address book saves. The first save waits for {@code writeReleased} if
+     * {@code isFirstWriteBlocked}, and every save throws {@code failure} if it is not null.
+     */
+    private Storage createStorage(boolean isFirstWriteBlocked, IOException failure) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (saveCount.incrementAndGet() == 1 && isFirstWriteBlocked) {
+                            writeStarted.countDown();
+                            try {
+                                writeReleased.await();
+                            } catch (InterruptedException ie) {
+                                throw new AssertionError(ie);
+                            }
+                        }
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonEventBookStorage eventBookStorage = new JsonEventBookStorage(testFolder.resolve("eventBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, eventBookStorage, userPrefsStorage);
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEventBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +18,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -61,6 +68,52 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void readAddressBook_otherFormat_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        storageManager.saveAddressBook(original);
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalLeftByJournalledStorage_replayedAndDeletedOnSave() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        // journalling disabled while the journal still holds a change
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+        assertTrue(Files.exists(journalFilePath));
+
+        original.removePerson(ALICE);
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readEventBook_otherFormat_readAndConvertedOnSave() throws Exception {
+        Path filePath = getTempFilePath("eb");
+        StorageManager binaryStorageManager = new StorageManager(new BinaryAddressBookStorage(getTempFilePath("ab")),
+                new BinaryEventBookStorage(filePath), new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        EventBook original = getTypicalEventBook();
+        new JsonEventBookStorage(filePath).saveEventBook(original);
+
+        assertEquals(DataFileFormat.JSON, DataFileFormat.detect(filePath));
+        assertEquals(original, binaryStorageManager.readEventBook().get());
+        binaryStorageManager.saveEventBook(original);
+        assertEquals(DataFileFormat.BINARY, DataFileFormat.detect(filePath));
+        assertEquals(original, binaryStorageManager.readEventBook().get());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());